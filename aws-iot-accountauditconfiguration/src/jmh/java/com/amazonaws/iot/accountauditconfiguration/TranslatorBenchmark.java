@@ -0,0 +1,87 @@
+package com.amazonaws.iot.accountauditconfiguration;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the audit check and notification translations with every check configured. Run with the
+ * "benchmark" profile, see pom.xml. Allocation rate is reported by the gc profiler (-prof gc).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private ResourceModel model;
+    private Map<String, software.amazon.awssdk.services.iot.model.AuditCheckConfiguration> iotChecks;
+    private Map<String, software.amazon.awssdk.services.iot.model.AuditNotificationTarget> iotNotifications;
+
+    @Setup
+    public void setUp() {
+        AuditCheckConfiguration enabled = AuditCheckConfiguration.builder().enabled(true).build();
+        AuditCheckConfiguration disabled = AuditCheckConfiguration.builder().enabled(false).build();
+        model = ResourceModel.builder()
+                .accountId("123456789012")
+                .roleArn("arn:aws:iam::123456789012:role/AuditRole")
+                .auditCheckConfigurations(AuditCheckConfigurations.builder()
+                        .authenticatedCognitoRoleOverlyPermissiveCheck(enabled)
+                        .caCertificateExpiringCheck(enabled)
+                        .caCertificateKeyQualityCheck(disabled)
+                        .conflictingClientIdsCheck(enabled)
+                        .deviceCertificateExpiringCheck(enabled)
+                        .deviceCertificateKeyQualityCheck(disabled)
+                        .deviceCertificateSharedCheck(enabled)
+                        .iotPolicyOverlyPermissiveCheck(enabled)
+                        .iotRoleAliasAllowsAccessToUnusedServicesCheck(disabled)
+                        .iotRoleAliasOverlyPermissiveCheck(enabled)
+                        .loggingDisabledCheck(enabled)
+                        .revokedCaCertificateStillActiveCheck(disabled)
+                        .revokedDeviceCertificateStillActiveCheck(enabled)
+                        .unauthenticatedCognitoRoleOverlyPermissiveCheck(enabled)
+                        .build())
+                .auditNotificationTargetConfigurations(AuditNotificationTargetConfigurations.builder()
+                        .sns(AuditNotificationTarget.builder()
+                                .enabled(true)
+                                .roleArn("arn:aws:iam::123456789012:role/AuditNotificationRole")
+                                .targetArn("arn:aws:sns:us-east-1:123456789012:AuditNotifications")
+                                .build())
+                        .build())
+                .build();
+        iotChecks = Translator.translateChecksFromCfnToIot(model);
+        iotNotifications = Translator.translateNotificationsFromCfnToIot(model);
+    }
+
+    @Benchmark
+    public Map<String, software.amazon.awssdk.services.iot.model.AuditCheckConfiguration> checksFromCfnToIot() {
+        return Translator.translateChecksFromCfnToIot(model);
+    }
+
+    @Benchmark
+    public AuditCheckConfigurations checksFromIotToCfn() {
+        return Translator.translateChecksFromIotToCfn(iotChecks);
+    }
+
+    @Benchmark
+    public Map<String, software.amazon.awssdk.services.iot.model.AuditNotificationTarget> notificationsFromCfnToIot() {
+        return Translator.translateNotificationsFromCfnToIot(model);
+    }
+
+    @Benchmark
+    public AuditNotificationTargetConfigurations notificationsFromIotToCfn() {
+        return Translator.translateNotificationsFromIotToCfn(iotNotifications);
+    }
+}
@@ -39,6 +39,11 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         // The Create will fail in that case because it does have the account ID check.
         String accountId = request.getAwsAccountId();
 
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, accountId));
+            return ProgressEvent.defaultSuccessHandler(model);
+        }
+
         // We need to call Describe to overwrite out of band updates.
         // For example, a customer can enable a check that this template doesn't mention.
         // The UpdateAccountAuditConfiguration API has a PATCH behavior.
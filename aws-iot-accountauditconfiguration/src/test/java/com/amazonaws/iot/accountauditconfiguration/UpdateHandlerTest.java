@@ -38,6 +38,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -69,6 +70,21 @@ public class UpdateHandlerTest {
         handler = new UpdateHandler();
     }
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+
+        ResourceHandlerRequest<ResourceModel> cfnRequest = createCfnRequest(MODEL_V2).toBuilder()
+                .previousResourceState(MODEL_V2)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, cfnRequest, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(MODEL_V2);
+        verifyZeroInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_DescribeShowsDifferentConfig_UpdateOverwritesEverything() {
 
@@ -39,8 +39,9 @@ public class CreateHandler extends BaseHandlerStd {
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .backoffDelay(DELAY_CONSTANT)
                                 .makeServiceCall(this::createResource)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(response -> Translator.translateFromWriteResponse(model, response.authorizerArn())
+                                        .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                                        .orElseGet(() -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger))));
     }
 
     /**
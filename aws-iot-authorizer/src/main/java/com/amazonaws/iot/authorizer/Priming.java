@@ -0,0 +1,127 @@
+package com.amazonaws.iot.authorizer;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.AuthorizerDescription;
+import software.amazon.awssdk.services.iot.model.DescribeAuthorizerResponse;
+import software.amazon.awssdk.services.iot.model.ListAuthorizersRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Warms what the first request would otherwise initialize lazily: the SDK marshallers and
+ * unmarshallers of the operations the handlers call, Translator, and the Jackson serializers the
+ * wrapper uses for ResourceModel and CallbackContext. Calls go to a transport that answers with an
+ * empty JSON document, so nothing leaves the sandbox.
+ *
+ * Priming only runs while Lambda initializes a SnapStart snapshot; on-demand cold starts skip it.
+ */
+final class Priming {
+
+    static final String INITIALIZATION_TYPE = "AWS_LAMBDA_INITIALIZATION_TYPE";
+    static final String SNAP_START = "snap-start";
+
+    private Priming() {
+    }
+
+    static void primeForSnapshot() {
+        if (!SNAP_START.equals(System.getenv(INITIALIZATION_TYPE))) {
+            return;
+        }
+        try {
+            prime();
+        } catch (final Exception e) {
+            // Best effort: a failed priming only costs the first restored request its warm start.
+            // No handler Logger exists yet while the snapshot initializes, so the failure is dropped.
+        }
+    }
+
+    /**
+     * @return number of SDK calls sent through the no-op transport
+     */
+    static int prime() throws IOException {
+        final ResourceModel model = ResourceModel.builder()
+                .authorizerName("priming")
+                .authorizerFunctionArn("arn:aws:lambda:us-east-1:123456789012:function:priming")
+                .status("ACTIVE")
+                .tokenKeyName("priming")
+                .tokenSigningPublicKeys(Collections.singletonMap("priming", "priming"))
+                .tags(Collections.singletonList(Tag.builder().key("priming").value("priming").build()))
+                .build();
+
+        final NoOpHttpClient httpClient = new NoOpHttpClient();
+        try (IotClient client = newClient(httpClient)) {
+            client.createAuthorizer(Translator.translateToCreateRequest(model));
+            client.describeAuthorizer(Translator.translateToReadRequest(model));
+            client.updateAuthorizer(Translator.translateToUpdateRequest(model));
+            client.deleteAuthorizer(Translator.translateToDeleteRequest(model));
+            client.listAuthorizers(ListAuthorizersRequest.builder().pageSize(50).build());
+        }
+        Translator.translateFromReadResponse(DescribeAuthorizerResponse.builder()
+                .authorizerDescription(AuthorizerDescription.builder()
+                        .authorizerName("priming")
+                        .tokenSigningPublicKeys(Collections.singletonMap("priming", "priming"))
+                        .build())
+                .build());
+
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+        serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+        return httpClient.calls;
+    }
+
+    private static IotClient newClient(final SdkHttpClient httpClient) {
+        return IotClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .build();
+    }
+
+    /**
+     * Answers every request with 200 and an empty JSON object.
+     */
+    static final class NoOpHttpClient implements SdkHttpClient {
+
+        private int calls;
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    calls++;
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder()
+                                    .statusCode(200)
+                                    .putHeader("Content-Type", "application/json")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(
+                                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -31,6 +31,7 @@ import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 public class Translator {
@@ -81,6 +82,26 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Builds the model a Read would return from the model that was just written and the ARN in the
+     * create or update response. Empty when Status or SigningDisabled was left to the service's
+     * default, which only a Read can tell.
+     */
+    static Optional<ResourceModel> translateFromWriteResponse(final ResourceModel model, final String authorizerArn) {
+        if (model.getStatus() == null || model.getSigningDisabled() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ResourceModel.builder()
+                .arn(authorizerArn)
+                .authorizerName(model.getAuthorizerName())
+                .authorizerFunctionArn(model.getAuthorizerFunctionArn())
+                .status(model.getStatus())
+                .signingDisabled(model.getSigningDisabled())
+                .tokenKeyName(model.getTokenKeyName())
+                .tokenSigningPublicKeys(model.getTokenSigningPublicKeys())
+                .build());
+    }
+
     static BaseHandlerException translateIotExceptionToHandlerException(
             final IotException e,
             final String operation,
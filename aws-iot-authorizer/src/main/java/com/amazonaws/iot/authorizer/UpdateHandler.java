@@ -39,13 +39,14 @@ public class UpdateHandler extends BaseHandlerStd {
                                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                                 .backoffDelay(DELAY_CONSTANT)
                                 .makeServiceCall(this::updateResource)
-                                .progress())
-                // describe call/chain to return the resource model
-                .then(progress -> new ReadHandler().handleRequest(proxy,
-                        request.toBuilder().desiredResourceState(newModel).build(),
-                        callbackContext,
-                        proxyClient,
-                        logger));
+                                // describe call/chain only when the written model can't tell the resource model
+                                .done(response -> Translator.translateFromWriteResponse(newModel, response.authorizerArn())
+                                        .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                                        .orElseGet(() -> new ReadHandler().handleRequest(proxy,
+                                                request.toBuilder().desiredResourceState(newModel).build(),
+                                                callbackContext,
+                                                proxyClient,
+                                                logger))));
     }
 
     /**
@@ -8,6 +8,7 @@ import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.AuthorizerDescription;
+import software.amazon.awssdk.services.iot.model.CreateAuthorizerResponse;
 import software.amazon.awssdk.services.iot.model.DescribeAuthorizerResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -34,6 +35,10 @@ public class AuthorizerTestBase {
     protected final static String STATUS = "INACTIVE";
     protected final static ResourceModel TEST_RESOURCE_MODEL = defaultModelBuilder().build();
     protected final static DescribeAuthorizerResponse TEST_DESCRIBE_AUTHORIZER_RESPONSE = createDefaultDescribeAuthorizerResponse();
+    protected final static CreateAuthorizerResponse TEST_CREATE_AUTHORIZER_RESPONSE = CreateAuthorizerResponse.builder()
+            .authorizerName(AUTHORIZER_NAME)
+            .authorizerArn(AUTHORIZER_ARN)
+            .build();
 
     protected static final String REQUEST_TOKEN = "RequestToken";
     protected static final String LOGICAL_ID = "Authorizer";
@@ -24,6 +24,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -34,8 +35,8 @@ public class CreateHandlerTest extends AuthorizerTestBase {
 
     @Test
     public void handleRequest_SimpleSuccess() {
-        when(iotClient.describeAuthorizer(any(DescribeAuthorizerRequest.class)))
-                .thenReturn(TEST_DESCRIBE_AUTHORIZER_RESPONSE);
+        when(iotClient.createAuthorizer(any(CreateAuthorizerRequest.class)))
+                .thenReturn(TEST_CREATE_AUTHORIZER_RESPONSE);
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, TEST_REQUEST, new CallbackContext(), proxyClient, LOGGER);
 
@@ -51,24 +52,45 @@ public class CreateHandlerTest extends AuthorizerTestBase {
         assertThat(response.getResourceModel().getAuthorizerFunctionArn()).isEqualTo(AUTHORIZER_FUNCTION_ARN);
 
         verify(iotClient).createAuthorizer(any(CreateAuthorizerRequest.class));
+        verify(iotClient, never()).describeAuthorizer(any(DescribeAuthorizerRequest.class));
     }
 
     @Test
-    public void handleRequest_GeneratesName() {
-        final ResourceModel model = defaultModelBuilder().authorizerName(null).build();
+    public void handleRequest_ServiceDefaults_ReadsResource() {
+        final ResourceModel model = defaultModelBuilder().arn(null).status(null).signingDisabled(null).build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-        final ArgumentCaptor<DescribeAuthorizerRequest> authorizerRequestCaptor = ArgumentCaptor.forClass(DescribeAuthorizerRequest.class);
 
+        when(iotClient.createAuthorizer(any(CreateAuthorizerRequest.class)))
+                .thenReturn(TEST_CREATE_AUTHORIZER_RESPONSE);
         when(iotClient.describeAuthorizer(any(DescribeAuthorizerRequest.class)))
                 .thenReturn(TEST_DESCRIBE_AUTHORIZER_RESPONSE);
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TEST_RESOURCE_MODEL);
+
+        verify(iotClient).describeAuthorizer(any(DescribeAuthorizerRequest.class));
+    }
+
+    @Test
+    public void handleRequest_GeneratesName() {
+        final ResourceModel model = defaultModelBuilder().authorizerName(null).build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ArgumentCaptor<CreateAuthorizerRequest> authorizerRequestCaptor = ArgumentCaptor.forClass(CreateAuthorizerRequest.class);
+
+        when(iotClient.createAuthorizer(any(CreateAuthorizerRequest.class)))
+                .thenReturn(TEST_CREATE_AUTHORIZER_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
 
-        verify(iotClient).describeAuthorizer(authorizerRequestCaptor.capture());
+        verify(iotClient).createAuthorizer(authorizerRequestCaptor.capture());
         assertThat(authorizerRequestCaptor.getValue().authorizerName()).isNotNull();
     }
 
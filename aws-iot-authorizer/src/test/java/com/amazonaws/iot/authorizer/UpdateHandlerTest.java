@@ -3,10 +3,8 @@ package com.amazonaws.iot.authorizer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
-import software.amazon.awssdk.services.iot.model.AuthorizerDescription;
 import software.amazon.awssdk.services.iot.model.ConflictingResourceUpdateException;
 import software.amazon.awssdk.services.iot.model.DescribeAuthorizerRequest;
-import software.amazon.awssdk.services.iot.model.DescribeAuthorizerResponse;
 import software.amazon.awssdk.services.iot.model.UpdateAuthorizerRequest;
 import software.amazon.awssdk.services.iot.model.UpdateAuthorizerResponse;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
@@ -20,6 +18,7 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,26 +41,15 @@ public class UpdateHandlerTest extends AuthorizerTestBase {
         newModel.setTokenSigningPublicKeys(newTokenSigningPublicKeys);
         newModel.setStatus(newStatus);
 
-        final DescribeAuthorizerResponse newDescribeResponse = DescribeAuthorizerResponse.builder()
-                .authorizerDescription(AuthorizerDescription.builder()
-                        .authorizerName(AUTHORIZER_NAME)
-                        .signingDisabled(SIGNING_DISABLED)
-                        .authorizerArn(AUTHORIZER_ARN)
-                        .tokenKeyName(newTokenKeyName)
-                        .authorizerFunctionArn(newAuthorizerFunctionArn)
-                        .tokenSigningPublicKeys(newTokenSigningPublicKeys)
-                        .status(newStatus)
-                        .build())
-                .build();
-
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(newModel)
                 .previousResourceState(prevModel)
                 .build();
 
         when(iotClient.updateAuthorizer(any(UpdateAuthorizerRequest.class)))
-                .thenReturn(UpdateAuthorizerResponse.builder().build());
-        when(iotClient.describeAuthorizer(any(DescribeAuthorizerRequest.class)))
-                .thenReturn(newDescribeResponse);
+                .thenReturn(UpdateAuthorizerResponse.builder()
+                        .authorizerName(AUTHORIZER_NAME)
+                        .authorizerArn(AUTHORIZER_ARN)
+                        .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -81,6 +69,7 @@ public class UpdateHandlerTest extends AuthorizerTestBase {
         assertThat(response.getResourceModel().getStatus()).isEqualTo(newStatus);
 
         verify(iotClient).updateAuthorizer(any(UpdateAuthorizerRequest.class));
+        verify(iotClient, never()).describeAuthorizer(any(DescribeAuthorizerRequest.class));
     }
 
     @Test
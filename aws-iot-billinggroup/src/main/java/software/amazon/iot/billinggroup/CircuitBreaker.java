@@ -0,0 +1,106 @@
+package software.amazon.iot.billinggroup;
+
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Stops sending calls while IoT keeps answering with throttles or 5xx.
+ *
+ * After FAILURE_THRESHOLD calls in a row fail that way the breaker opens, and for OPEN_DURATION
+ * every call fails with a ThrottlingException before it is sent. The handlers already turn that
+ * into a throttled ProgressEvent. Once OPEN_DURATION has passed a single call is let through: if
+ * it succeeds the breaker closes, otherwise it stays open for another OPEN_DURATION.
+ *
+ * A call counts once, after the SDK has given up retrying it. Any other outcome, including a 4xx,
+ * shows the service is answering and counts as a success.
+ */
+final class CircuitBreaker implements ExecutionInterceptor {
+
+    static final int FAILURE_THRESHOLD = 5;
+    static final Duration OPEN_DURATION = Duration.ofSeconds(10);
+
+    private static final ExecutionAttribute<Boolean> REJECTED =
+            new ExecutionAttribute<>(CircuitBreaker.class.getName() + ".Rejected");
+
+    private final Clock clock;
+    private int consecutiveFailures;
+    private Instant openUntil;
+    private boolean probing;
+
+    CircuitBreaker(final Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public void beforeExecution(final Context.BeforeExecution context, final ExecutionAttributes executionAttributes) {
+        if (!allowRequest()) {
+            executionAttributes.putAttribute(REJECTED, Boolean.TRUE);
+            throw ThrottlingException.builder()
+                    .message("Not sent: IoT has been throttling or failing recent calls.")
+                    .statusCode(429)
+                    .build();
+        }
+    }
+
+    @Override
+    public void afterExecution(final Context.AfterExecution context, final ExecutionAttributes executionAttributes) {
+        recordSuccess();
+    }
+
+    @Override
+    public void onExecutionFailure(final Context.FailedExecution context, final ExecutionAttributes executionAttributes) {
+        if (Boolean.TRUE.equals(executionAttributes.getAttribute(REJECTED))) {
+            return;
+        }
+        if (isOverloaded(context.exception())) {
+            recordFailure();
+        } else {
+            recordSuccess();
+        }
+    }
+
+    synchronized boolean allowRequest() {
+        if (openUntil == null) {
+            return true;
+        }
+        if (probing || clock.instant().isBefore(openUntil)) {
+            return false;
+        }
+        probing = true;
+        return true;
+    }
+
+    synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        openUntil = null;
+        probing = false;
+    }
+
+    synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (probing || consecutiveFailures >= FAILURE_THRESHOLD) {
+            openUntil = clock.instant().plus(OPEN_DURATION);
+            probing = false;
+        }
+    }
+
+    synchronized boolean isOpen() {
+        return openUntil != null;
+    }
+
+    static boolean isOverloaded(final Throwable exception) {
+        if (!(exception instanceof SdkServiceException)) {
+            return false;
+        }
+        final SdkServiceException serviceException = (SdkServiceException) exception;
+        return serviceException.isThrottlingException() || serviceException.statusCode() >= 500;
+    }
+}
@@ -7,6 +7,7 @@ public class ClientBuilder {
     public static IotClient getClient() {
         return IotClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(RetryBudget.overrideConfiguration())
                 .build();
     }
 }
@@ -6,6 +6,11 @@ import java.util.stream.Collectors;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // The wrapper creates its Configuration during init, so this runs before a SnapStart checkpoint.
+        Priming.primeForSnapshot();
+    }
+
     public Configuration() {
         super("aws-iot-billinggroup.json");
     }
@@ -1,6 +1,8 @@
 package software.amazon.iot.billinggroup;
 
+import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DescribeBillingGroupResponse;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListBillingGroupsRequest;
 import software.amazon.awssdk.services.iot.model.ListBillingGroupsResponse;
@@ -11,9 +13,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+
 /**
  * API Calls for ListHandler:
- * ListBillingGroups: To retrieve a list of all BillingGroups in the account
+ * ListBillingGroups: To retrieve a list of all BillingGroups in the account, or only the one named by the
+ * BillingGroupName of the desired model
+ * DescribeBillingGroup, ListTagsForResource: To return full models in the hydrated List mode, see {@link ListHydration}
  */
 public class ListHandler extends BaseHandlerStd {
 
@@ -27,16 +33,25 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<IotClient> proxyClient,
             final Logger logger) {
 
+        final ResourceModel resourceModel = request.getDesiredResourceState();
+
         try {
-            final ListBillingGroupsRequest listBillingGroupsRequest = Translator.translateToListRequest(request.getNextToken());
+            final ListBillingGroupsRequest listBillingGroupsRequest =
+                    Translator.translateToListRequest(resourceModel, request.getNextToken());
             ListBillingGroupsResponse listBillingGroupsResponse =
                     proxy.injectCredentialsAndInvokeV2(
                             listBillingGroupsRequest,
                             proxyClient.client()::listBillingGroups
                     );
             String nextToken = listBillingGroupsResponse.nextToken();
+            List<ResourceModel> resourceModels = Translator.translateFromListResponse(listBillingGroupsResponse, resourceModel);
+            if (hydrates()) {
+                final Deadline deadline = startDeadline();
+                resourceModels = ListHydration.hydrate(resourceModels, model -> describe(proxyClient, deadline, model),
+                        deadline::shouldCheckpoint);
+            }
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(Translator.translateFromListResponse(listBillingGroupsResponse))
+                    .resourceModels(resourceModels)
                     .nextToken(nextToken)
                     .status(OperationStatus.SUCCESS)
                     .build();
@@ -44,4 +59,28 @@ public class ListHandler extends BaseHandlerStd {
             throw Translator.translateIotExceptionToHandlerException(null, OPERATION, e);
         }
     }
+
+    private ResourceModel describe(final ProxyClient<IotClient> proxyClient,
+                                   final Deadline deadline,
+                                   final ResourceModel model) {
+        final DescribeBillingGroupResponse describeBillingGroupResponse = proxyClient.injectCredentialsAndInvokeV2(
+                deadline.bound(Translator.translateToReadRequest(model)), proxyClient.client()::describeBillingGroup);
+        final ResourceModel described = Translator.translateFromReadResponse(describeBillingGroupResponse);
+        try {
+            described.setTags(Translator.translateTagsFromSdk(listTags(proxyClient, describeBillingGroupResponse.billingGroupArn())));
+        } catch (IotException e) {
+            if (e.statusCode() != HttpStatusCode.FORBIDDEN) {
+                throw e;
+            }
+        }
+        return described;
+    }
+
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
+    boolean hydrates() {
+        return ListHydration.isEnabled();
+    }
 }
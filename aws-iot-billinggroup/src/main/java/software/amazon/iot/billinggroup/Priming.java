@@ -0,0 +1,130 @@
+package software.amazon.iot.billinggroup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DescribeBillingGroupResponse;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Warms what the first request would otherwise initialize lazily: the SDK marshallers and
+ * unmarshallers of the operations the handlers call, Translator, and the Jackson serializers the
+ * wrapper uses for ResourceModel and CallbackContext. Calls go to a transport that answers with an
+ * empty JSON document, so nothing leaves the sandbox.
+ *
+ * Priming only runs while Lambda initializes a SnapStart snapshot; on-demand cold starts skip it.
+ */
+final class Priming {
+
+    static final String INITIALIZATION_TYPE = "AWS_LAMBDA_INITIALIZATION_TYPE";
+    static final String SNAP_START = "snap-start";
+
+    private Priming() {
+    }
+
+    static void primeForSnapshot() {
+        if (!SNAP_START.equals(System.getenv(INITIALIZATION_TYPE))) {
+            return;
+        }
+        try {
+            prime();
+        } catch (final Exception e) {
+            // Best effort: a failed priming only costs the first restored request its warm start.
+            // No handler Logger exists yet while the snapshot initializes, so the failure is dropped.
+        }
+    }
+
+    /**
+     * @return number of SDK calls sent through the no-op transport
+     */
+    static int prime() throws IOException {
+        final Map<String, String> tags = Collections.singletonMap("priming", "priming");
+        final String arn = "arn:aws:iot:us-east-1:123456789012:billinggroup/priming";
+        final ResourceModel model = ResourceModel.builder()
+                .billingGroupName("priming")
+                .billingGroupProperties(BillingGroupProperties.builder()
+                        .billingGroupDescription("priming")
+                        .build())
+                .tags(Translator.translateTagsToResourceModel(tags))
+                .build();
+
+        final NoOpHttpClient httpClient = new NoOpHttpClient();
+        try (IotClient client = newClient(httpClient)) {
+            client.createBillingGroup(Translator.translateToCreateRequest(model, tags));
+            client.describeBillingGroup(Translator.translateToReadRequest(model));
+            client.updateBillingGroup(Translator.translateToUpdateRequest(model));
+            client.deleteBillingGroup(Translator.translateToDeleteRequest(model));
+            client.listBillingGroups(Translator.translateToListRequest(null, null));
+            client.listTagsForResource(Translator.listResourceTagsRequest(arn, null));
+            client.tagResource(Translator.tagResourceRequest(arn, Translator.translateTagsToSdk(tags)));
+            client.untagResource(Translator.untagResourceRequest(arn, Translator.translateTagsToSdk(tags)));
+        }
+        Translator.translateFromReadResponse(DescribeBillingGroupResponse.builder()
+                .billingGroupName("priming")
+                .billingGroupProperties(software.amazon.awssdk.services.iot.model.BillingGroupProperties.builder()
+                        .billingGroupDescription("priming")
+                        .build())
+                .build());
+
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+        serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+        return httpClient.calls;
+    }
+
+    private static IotClient newClient(final SdkHttpClient httpClient) {
+        return IotClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .build();
+    }
+
+    /**
+     * Answers every request with 200 and an empty JSON object.
+     */
+    static final class NoOpHttpClient implements SdkHttpClient {
+
+        private int calls;
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    calls++;
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder()
+                                    .statusCode(200)
+                                    .putHeader("Content-Type", "application/json")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(
+                                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -124,14 +124,22 @@ public class Translator {
                 .build();
     }
 
-    static ListBillingGroupsRequest translateToListRequest(final String nextToken) {
+    /**
+     * ListBillingGroups only filters on a name prefix, so a BillingGroupName in the model goes into the
+     * request as one and {@link #translateFromListResponse} keeps the exact match.
+     */
+    static ListBillingGroupsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
         return ListBillingGroupsRequest.builder()
+                .namePrefixFilter(model == null ? null : model.getBillingGroupName())
                 .nextToken(nextToken)
                 .build();
     }
 
-    static List<ResourceModel> translateFromListResponse(final ListBillingGroupsResponse listBillingGroupsResponse) {
+    static List<ResourceModel> translateFromListResponse(final ListBillingGroupsResponse listBillingGroupsResponse,
+                                                         final ResourceModel model) {
         return streamOfOrEmpty(listBillingGroupsResponse.billingGroups())
+                .filter(resource -> model == null || model.getBillingGroupName() == null
+                        || model.getBillingGroupName().equals(resource.groupName()))
                 .map(resource -> ResourceModel.builder()
                         .billingGroupName(resource.groupName())
                         .build())
@@ -1,12 +1,10 @@
 package software.amazon.iot.billinggroup;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.DescribeBillingGroupResponse;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
-import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.UpdateBillingGroupRequest;
 import software.amazon.awssdk.services.iot.model.UpdateBillingGroupResponse;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
@@ -16,18 +14,12 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 
 /**
  * API Calls for UpdateHandler:
  * UpdateBillingGroup: To update the properties of BillingGroup
  * DescribeBillingGroup: To retrieve ARN of the BillingGroup to make Tag and UnTag API calls
- * ListTagsForResource: To retrieve old tags associated with BillingGroup
- * UntagResource: To remove old tags
- * TagResource: To add new tags
+ * UntagResource, TagResource: Through TagReconciler, only for the tags that changed
  */
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -51,6 +43,11 @@ public class UpdateHandler extends BaseHandlerStd {
 
         validatePropertiesAreUpdatable(newModel, prevModel);
 
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, newModel.getBillingGroupName()));
+            return ProgressEvent.defaultSuccessHandler(ResourceModelDiff.withReadOnlyProperties(newModel, prevModel));
+        }
+
         return ProgressEvent.progress(newModel, callbackContext)
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, newModel, callbackContext)
@@ -118,46 +115,8 @@ public class UpdateHandler extends BaseHandlerStd {
                                 proxyInvocation.client()::describeBillingGroup);
 
                         final String resourceArn = describeBillingGroupResponse.billingGroupArn();
-
-                        // Desired tags (including user-defined and stack tags)
-                        final Map<String, String> desiredTags = new HashMap<>();
-                        Optional.ofNullable(request.getDesiredResourceTags())
-                                .ifPresent(desiredTags::putAll);
-                        Optional.ofNullable(request.getDesiredResourceState())
-                                .map(ResourceModel::getTags)
-                                .map(Translator::translateTagstoMap)
-                                .ifPresent(desiredTags::putAll);
-                        final Set<Tag> desiredTagSet = Translator.translateTagsToSdk(desiredTags);
-
-                        // Existing resource State tags (including user-defined and stack tags)
-                        final Map<String, String> existingTags = new HashMap<>();
-                        Optional.ofNullable(request.getPreviousResourceState())
-                                .map(ResourceModel::getTags)
-                                .map(Translator::translateTagstoMap)
-                                .ifPresent(existingTags::putAll);
-                        Optional.ofNullable(request.getPreviousResourceTags())
-                                .ifPresent(existingTags::putAll);
-                        final Set<Tag> existingTagSet = Translator.translateTagsToSdk(existingTags);
-
-                        final Set<Tag> tagsToRemove = Sets.difference(existingTagSet, desiredTagSet);
-                        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, existingTagSet);
-
-                        if (!tagsToRemove.isEmpty()) {
-                            proxyClient.injectCredentialsAndInvokeV2(
-                                    Translator.untagResourceRequest(resourceArn, tagsToRemove),
-                                    proxyClient.client()::untagResource
-                            );
-                            logger.log(String.format("%s [%s] untagResourceRequest successfully completed.",
-                                    ResourceModel.TYPE_NAME, resourceArn));
-                        }
-                        if (!tagsToAdd.isEmpty()) {
-                            proxyClient.injectCredentialsAndInvokeV2(
-                                    Translator.tagResourceRequest(resourceArn, tagsToAdd),
-                                    proxyClient.client()::tagResource
-                            );
-                            logger.log(String.format("%s [%s] tagResourceRequest successfully completed.",
-                                    ResourceModel.TYPE_NAME, resourceArn));
-                        }
+                        new TagReconciler(proxyInvocation::injectCredentialsAndInvokeV2, proxyInvocation.client(), logger)
+                                .reconcile(resourceArn, request);
                         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     } catch (IotException e) {
                         throw Translator.translateIotExceptionToHandlerException(getRequest.billingGroupName(), OPERATION, e);
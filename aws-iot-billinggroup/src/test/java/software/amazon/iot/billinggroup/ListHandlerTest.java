@@ -2,14 +2,20 @@ package software.amazon.iot.billinggroup;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudformation.model.OperationStatus;
+import software.amazon.awssdk.services.iot.model.DescribeBillingGroupRequest;
+import software.amazon.awssdk.services.iot.model.DescribeBillingGroupResponse;
 import software.amazon.awssdk.services.iot.model.GroupNameAndArn;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.ListBillingGroupsRequest;
 import software.amazon.awssdk.services.iot.model.ListBillingGroupsResponse;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -21,6 +27,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,6 +62,57 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NameFilter_PushedDownAsPrefix() {
+        final ResourceModel model = ResourceModel.builder()
+                .billingGroupName(BG_Name)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listBillingGroups(any(ListBillingGroupsRequest.class)))
+                .thenReturn(ListBillingGroupsResponse.builder()
+                        .billingGroups(GroupNameAndArn.builder().groupArn(BG_ARN).groupName(BG_Name).build(),
+                                GroupNameAndArn.builder().groupArn(BG_ARN + "2").groupName(BG_Name + "2").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<ListBillingGroupsRequest> listRequest = ArgumentCaptor.forClass(ListBillingGroupsRequest.class);
+        verify(iotClient).listBillingGroups(listRequest.capture());
+        assertThat(listRequest.getValue().namePrefixFilter()).isEqualTo(BG_Name);
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().billingGroupName(BG_Name).build());
+    }
+
+    @Test
+    public void handleRequest_Hydrated_ReturnsFullModels() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listBillingGroups(any(ListBillingGroupsRequest.class)))
+                .thenReturn(ListBillingGroupsResponse.builder()
+                        .billingGroups(GroupNameAndArn.builder().groupArn(BG_ARN).groupName(BG_Name).build())
+                        .build());
+        when(iotClient.describeBillingGroup(any(DescribeBillingGroupRequest.class)))
+                .thenReturn(DescribeBillingGroupResponse.builder()
+                        .billingGroupArn(BG_ARN)
+                        .billingGroupId(BG_ID)
+                        .billingGroupName(BG_Name)
+                        .build());
+        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key").value("value").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getArn()).isEqualTo(BG_ARN);
+        assertThat(response.getResourceModels().get(0).getTags()).hasSize(1);
+    }
+
     @Test
     public void handleRequest_List_InternalFailureException() {
         final ResourceModel model = ResourceModel.builder()
@@ -0,0 +1,13 @@
+package software.amazon.iot.billinggroup;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PrimingTest {
+
+    @Test
+    public void prime_CallsEveryOperationThroughNoOpTransport() throws Exception {
+        assertThat(Priming.prime()).isEqualTo(8);
+    }
+}
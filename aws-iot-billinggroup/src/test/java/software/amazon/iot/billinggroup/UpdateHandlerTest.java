@@ -43,12 +43,41 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends AbstractTestBase {
 
     final UpdateHandler handler = new UpdateHandler();
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+        final ResourceModel prevModel = ResourceModel.builder()
+                .arn(BG_ARN)
+                .id(BG_ID)
+                .billingGroupName(BG_Name)
+                .billingGroupProperties(software.amazon.iot.billinggroup.BillingGroupProperties.builder()
+                        .billingGroupDescription(BILLING_GROUP_DESCRIPTION)
+                        .build())
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .billingGroupName(BG_Name)
+                .billingGroupProperties(software.amazon.iot.billinggroup.BillingGroupProperties.builder()
+                        .billingGroupDescription(BILLING_GROUP_DESCRIPTION)
+                        .build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(prevModel, newModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(BG_ARN);
+        assertThat(response.getResourceModel().getId()).isEqualTo(BG_ID);
+        verifyNoInteractions(iotClient);
+    }
+
     @Test
     public void handleRequest_UpdateDescription() {
         final ResourceModel prevModel = ResourceModel.builder()
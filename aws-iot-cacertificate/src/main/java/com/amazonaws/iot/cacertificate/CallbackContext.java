@@ -5,10 +5,13 @@ import lombok.EqualsAndHashCode;
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 /**
- * Context used for CloudFormation handlers. Not used for this resource type.
+ * Context used for CloudFormation handlers.
  */
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
-
+    /**
+     * When the create handler first sent the register call, in epoch milliseconds, null until it has.
+     */
+    private Long registerSentAt;
 }
@@ -0,0 +1,69 @@
+package com.amazonaws.iot.cacertificate;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.CertificateEncodingException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+
+/**
+ * Checks the PEM input of a create before any call is made, so that malformed input fails at once.
+ *
+ * IoT identifies a CA certificate by the hex SHA-256 digest of its DER encoding, so its ID is known before
+ * it is registered.
+ */
+final class Certificates {
+
+    private Certificates() {
+    }
+
+    /**
+     * @param property the model property the PEM comes from, named in the error
+     * @throws CfnInvalidRequestException when the PEM does not hold an X.509 certificate
+     */
+    static X509Certificate parseCertificate(final String property, final String pem) {
+        try {
+            final CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            return (X509Certificate) factory.generateCertificate(
+                    new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)));
+        } catch (CertificateException e) {
+            throw new CfnInvalidRequestException(property + " is not a PEM encoded X.509 certificate", e);
+        }
+    }
+
+    /**
+     * IoT only registers a CA certificate with a verification certificate that its private key signed.
+     *
+     * @throws CfnInvalidRequestException when the verification certificate is not signed by the CA certificate
+     */
+    static void checkSignedBy(final X509Certificate verificationCertificate, final X509Certificate caCertificate) {
+        try {
+            verificationCertificate.verify(caCertificate.getPublicKey());
+        } catch (GeneralSecurityException e) {
+            throw new CfnInvalidRequestException("VerificationCertificatePem is not signed by CACertificatePem", e);
+        }
+    }
+
+    /**
+     * @return the ID IoT gives the certificate
+     */
+    static String certificateId(final X509Certificate certificate) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(certificate.getEncoded());
+            final StringBuilder id = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                id.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+            }
+            return id.toString();
+        } catch (NoSuchAlgorithmException | CertificateEncodingException e) {
+            // Every JRE supports SHA-256, and a parsed certificate has an encoding.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -2,6 +2,11 @@ package com.amazonaws.iot.cacertificate;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // The wrapper creates its Configuration during init, so this runs before a SnapStart checkpoint.
+        Priming.primeForSnapshot();
+    }
+
     public Configuration() {
         super("aws-iot-cacertificate.json");
     }
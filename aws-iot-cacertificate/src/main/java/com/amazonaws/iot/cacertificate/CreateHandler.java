@@ -3,6 +3,7 @@ package com.amazonaws.iot.cacertificate;
 import com.amazonaws.Response;
 import com.amazonaws.util.StringUtils;
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.CACertificateDescription;
 import software.amazon.awssdk.services.iot.model.CertificateStatus;
 import software.amazon.awssdk.services.iot.model.DescribeCaCertificateRequest;
 import software.amazon.awssdk.services.iot.model.DescribeCaCertificateResponse;
@@ -11,6 +12,7 @@ import software.amazon.awssdk.services.iot.model.IotRequest;
 import software.amazon.awssdk.services.iot.model.IotResponse;
 import software.amazon.awssdk.services.iot.model.RegisterCaCertificateRequest;
 import software.amazon.awssdk.services.iot.model.RegisterCaCertificateResponse;
+import software.amazon.awssdk.services.iot.model.ResourceAlreadyExistsException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
@@ -18,6 +20,10 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
 import java.util.function.BiFunction;
 
 public class CreateHandler extends BaseHandlerStd {
@@ -25,6 +31,12 @@ public class CreateHandler extends BaseHandlerStd {
     private static final String OPERATION = "RegisterCACertificate";
     private static final String CALL_GRAPH = "AWS-IoT-CACertificate::Create";
 
+    /**
+     * Allowed difference between the service's clock and ours when telling whether a CA certificate was
+     * registered by this operation.
+     */
+    static final Duration CLOCK_SKEW = Duration.ofSeconds(5);
+
     private Logger logger;
 
     @Override
@@ -38,37 +50,104 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
+        final String caCertificateId = checkCertificates(model);
 
         return ProgressEvent.progress(model, callbackContext)
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
-                                .makeServiceCall(this::createResource)
+                                .makeServiceCall((registerRequest, client) -> createResource(registerRequest, client, caCertificateId, callbackContext))
                                 .stabilize(this::stabilized)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(response -> Translator.translateFromWriteResponse(model, response.certificateArn())
+                                        .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                                        .orElseGet(() -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger))));
+    }
+
+    /**
+     * Parses the PEM input before any call, see {@link Certificates}.
+     *
+     * @return the ID the CA certificate gets when it is registered
+     */
+    private String checkCertificates(final ResourceModel model) {
+        if (model.getCACertificatePem() == null) {
+            return null;
+        }
+        final X509Certificate caCertificate = Certificates.parseCertificate("CACertificatePem", model.getCACertificatePem());
+        if (model.getVerificationCertificatePem() != null) {
+            Certificates.checkSignedBy(
+                    Certificates.parseCertificate("VerificationCertificatePem", model.getVerificationCertificatePem()),
+                    caCertificate);
+        }
+        return Certificates.certificateId(caCertificate);
     }
 
     /**
      * Implement client invocation of the create request through the proxyClient, which is already initialised with
      * caller credentials, correct region and retry settings
      *
-     * @param request     the aws service request to create a resource
-     * @param proxyClient the aws service client to make the call
+     * @param request         the aws service request to create a resource
+     * @param proxyClient     the aws service client to make the call
+     * @param caCertificateId the ID the CA certificate gets when it is registered
+     * @param callbackContext records when the register call was first sent
      * @return awsResponse create resource response
      */
-    private RegisterCaCertificateResponse createResource(final RegisterCaCertificateRequest request, final ProxyClient<IotClient> proxyClient) {
+    private RegisterCaCertificateResponse createResource(final RegisterCaCertificateRequest request,
+                                                         final ProxyClient<IotClient> proxyClient,
+                                                         final String caCertificateId,
+                                                         final CallbackContext callbackContext) {
+        final Long sentBefore = callbackContext.getRegisterSentAt();
+        if (sentBefore == null) {
+            callbackContext.setRegisterSentAt(Instant.now().toEpochMilli());
+        }
         try {
             RegisterCaCertificateResponse response = proxyClient.injectCredentialsAndInvokeV2(request,
                     proxyClient.client()::registerCACertificate);
             logger.log(String.format("%s [%s] successfully created.", ResourceModel.TYPE_NAME, response.certificateId()));
             return response;
+        } catch (ResourceAlreadyExistsException e) {
+            return registeredByThisOperation(proxyClient, caCertificateId, sentBefore)
+                    .orElseThrow(() -> Translator.translateIotExceptionToHandlerException(e, OPERATION, caCertificateId));
         } catch (IotException e) {
             throw Translator.translateIotExceptionToHandlerException(
                     e,
                     OPERATION,
-                    request.caCertificate());
+                    caCertificateId);
+        }
+    }
+
+    /**
+     * A register call sent by an earlier invocation of this operation may have registered the CA certificate
+     * without the response reaching us, and sending it again then finds it registered. Only then is the CA
+     * certificate described by its ID, and one created since the first register call is taken to be that one.
+     * A CA certificate that exists before this operation sent anything fails with AlreadyExists.
+     */
+    private Optional<RegisterCaCertificateResponse> registeredByThisOperation(final ProxyClient<IotClient> proxyClient,
+                                                                             final String caCertificateId,
+                                                                             final Long registerSentAt) {
+        if (caCertificateId == null || registerSentAt == null) {
+            return Optional.empty();
+        }
+        final DescribeCaCertificateResponse response;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2(
+                    DescribeCaCertificateRequest.builder().certificateId(caCertificateId).build(),
+                    proxyClient.client()::describeCACertificate);
+        } catch (IotException e) {
+            logger.log(String.format("%s [%s] already exists and could not be described: %s",
+                    ResourceModel.TYPE_NAME, caCertificateId, e.getMessage()));
+            return Optional.empty();
+        }
+        final CACertificateDescription description = response == null ? null : response.certificateDescription();
+        if (description == null || description.creationDate() == null
+                || description.creationDate().isBefore(Instant.ofEpochMilli(registerSentAt).minus(CLOCK_SKEW))) {
+            return Optional.empty();
         }
+        logger.log(String.format("%s [%s] was registered by an earlier attempt of this operation",
+                ResourceModel.TYPE_NAME, caCertificateId));
+        return Optional.of(RegisterCaCertificateResponse.builder()
+                .certificateId(description.certificateId())
+                .certificateArn(description.certificateArn())
+                .build());
     }
 
 
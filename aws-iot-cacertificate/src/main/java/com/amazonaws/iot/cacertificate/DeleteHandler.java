@@ -2,20 +2,27 @@ package com.amazonaws.iot.cacertificate;
 
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.CACertificateStatus;
+import software.amazon.awssdk.services.iot.model.CertificateStateException;
 import software.amazon.awssdk.services.iot.model.DeleteCaCertificateRequest;
 import software.amazon.awssdk.services.iot.model.DeleteCaCertificateResponse;
+import software.amazon.awssdk.services.iot.model.DescribeCaCertificateResponse;
 import software.amazon.awssdk.services.iot.model.IotException;
-import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iot.model.UpdateCaCertificateRequest;
-import software.amazon.awssdk.services.iot.model.UpdateCaCertificateResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
-import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+/**
+ * Deletes a CA certificate, deactivating it first when it is ACTIVE: IoT only deletes INACTIVE CA certificates.
+ *
+ * Deactivation and deletion run in one stage. The status is taken from the model, which the last create,
+ * update or read filled in, and the CA certificate is only described when the model has no status. If the
+ * model is out of date and the delete fails because the CA certificate is ACTIVE after all, it is
+ * deactivated and the delete is sent once more.
+ */
 public class DeleteHandler extends BaseHandlerStd {
     private static final String OPERATION = "DeleteCACertificate";
     private static final String CALL_GRAPH = "AWS-IoT-CACertificate::Delete";
@@ -36,51 +43,69 @@ public class DeleteHandler extends BaseHandlerStd {
         if (model.getId() == null) {
             return ProgressEvent.defaultFailureHandler(new Exception("Certificate ID must be specified"), HandlerErrorCode.NotFound);
         }
-        model.setStatus(CACertificateStatus.INACTIVE.toString());
-
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
-                        proxy.initiate(CALL_GRAPH + "::CACertificateDeactivation", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                                .makeServiceCall(this::deactivateCaCertificate)
-                                .progress())
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
+                                .makeServiceCall((deleteRequest, client) -> deactivateAndDelete(deleteRequest, client, model))
                                 .done(response -> ProgressEvent.defaultSuccessHandler(null))
                 );
     }
 
-    private Boolean stabilizedOnDelete(DeleteCaCertificateRequest request, DeleteCaCertificateResponse response, ProxyClient<IotClient> proxyClient, ResourceModel model, CallbackContext callbackContext) {
+    private DeleteCaCertificateResponse deactivateAndDelete(DeleteCaCertificateRequest request, ProxyClient<IotClient> proxyClient, ResourceModel model) {
+        final boolean inactive = isInactive(model, proxyClient);
+        if (!inactive) {
+            deactivateCaCertificate(model, proxyClient);
+        }
         try {
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::describeCACertificate);
-            return false;
-        } catch (ResourceNotFoundException e) {
-            logger.log(String.format("%s [%s] deletion has stabilized.", ResourceModel.TYPE_NAME, request.certificateId()));
-            return true;
+            try {
+                return deleteResource(request, proxyClient);
+            } catch (CertificateStateException e) {
+                if (!inactive) {
+                    throw e;
+                }
+                logger.log(String.format("%s [%s] is not INACTIVE as the model says, deactivating it before deleting again.",
+                        ResourceModel.TYPE_NAME, request.certificateId()));
+                deactivateCaCertificate(model, proxyClient);
+                return deleteResource(request, proxyClient);
+            }
+        } catch (IotException e) {
+            throw Translator.translateIotExceptionToHandlerException(e, OPERATION, request.certificateId());
         }
     }
 
-    private DeleteCaCertificateResponse deleteResource(DeleteCaCertificateRequest request, ProxyClient<IotClient> proxyClient) {
+    private boolean isInactive(ResourceModel model, ProxyClient<IotClient> proxyClient) {
+        if (model.getStatus() != null) {
+            return CACertificateStatus.INACTIVE.toString().equalsIgnoreCase(model.getStatus());
+        }
         try {
-            DeleteCaCertificateResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::deleteCACertificate);
-            logger.log(String.format("%s [%s] successfully deleted.", ResourceModel.TYPE_NAME, request.certificateId()));
-            return response;
+            DescribeCaCertificateResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                    Translator.translateToReadRequest(model), proxyClient.client()::describeCACertificate);
+            return response.certificateDescription().status() == CACertificateStatus.INACTIVE;
         } catch (IotException e) {
-            throw Translator.translateIotExceptionToHandlerException(e, OPERATION, request.certificateId());
+            throw Translator.translateIotExceptionToHandlerException(e, "DescribeCACertificate", model.getId());
         }
     }
 
-    private UpdateCaCertificateResponse deactivateCaCertificate(UpdateCaCertificateRequest request, ProxyClient<IotClient> proxyClient) {
+    private DeleteCaCertificateResponse deleteResource(DeleteCaCertificateRequest request, ProxyClient<IotClient> proxyClient) {
+        DeleteCaCertificateResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::deleteCACertificate);
+        logger.log(String.format("%s [%s] successfully deleted.", ResourceModel.TYPE_NAME, request.certificateId()));
+        return response;
+    }
+
+    /**
+     * Also records the new status in the model, so that an invocation rescheduled after a throttled delete
+     * does not deactivate the CA certificate again.
+     */
+    private void deactivateCaCertificate(ResourceModel model, ProxyClient<IotClient> proxyClient) {
+        UpdateCaCertificateRequest request = Translator.translateToDeactivateRequest(model);
         try {
-            UpdateCaCertificateResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::updateCACertificate);
+            proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::updateCACertificate);
             logger.log(String.format("%s [%s] successfully deactivated before deletion.", ResourceModel.TYPE_NAME, request.certificateId()));
-            return response;
         } catch (IotException e) {
             throw Translator.translateIotExceptionToHandlerException(e, "UpdateCACertificate", request.certificateId());
         }
+        model.setStatus(CACertificateStatus.INACTIVE.toString());
     }
 }
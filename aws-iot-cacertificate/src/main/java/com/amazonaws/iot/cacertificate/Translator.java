@@ -34,6 +34,8 @@ import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorExceptio
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 
+import java.util.Optional;
+
 public class Translator {
     public static RegisterCaCertificateRequest translateToCreateRequest(ResourceModel model) {
         Boolean setAsActive = null;
@@ -79,12 +81,40 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Builds the model a Read would return from the model that was just written and the certificate
+     * ARN. Empty when Status or AutoRegistrationStatus was left to the service, or the ARN is not
+     * known, since only a Read can tell those.
+     */
+    public static Optional<ResourceModel> translateFromWriteResponse(ResourceModel model, String certificateArn) {
+        if (model.getStatus() == null || model.getAutoRegistrationStatus() == null || certificateArn == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ResourceModel.builder()
+                .arn(certificateArn)
+                .id(model.getId())
+                .cACertificatePem(model.getCACertificatePem())
+                .status(model.getStatus())
+                .autoRegistrationStatus(model.getAutoRegistrationStatus())
+                .build());
+    }
+
     public static DeleteCaCertificateRequest translateToDeleteRequest(ResourceModel model) {
         return DeleteCaCertificateRequest.builder()
                 .certificateId(model.getId())
                 .build();
     }
 
+    /**
+     * Sets only the status, so that the rest of the CA certificate is left as it is before it is deleted.
+     */
+    public static UpdateCaCertificateRequest translateToDeactivateRequest(ResourceModel model) {
+        return UpdateCaCertificateRequest.builder()
+                .certificateId(model.getId())
+                .newStatus(CACertificateStatus.INACTIVE)
+                .build();
+    }
+
     public static UpdateCaCertificateRequest translateToUpdateRequest(ResourceModel model) {
         RegistrationConfig registrationConfig = null;
         if (model.getRegistrationConfig() != null && (!StringUtils.isNullOrEmpty(model.getRegistrationConfig().getRoleArn()) || !StringUtils.isNullOrEmpty(model.getRegistrationConfig().getTemplateBody()))) {
@@ -36,13 +36,17 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.defaultFailureHandler(new Exception("CA Certificate ID must be specified"), HandlerErrorCode.NotFound);
         }
 
+        // UpdateCACertificate returns no ARN; it cannot change, so take it from either model.
+        final String certificateArn = newModel.getArn() != null ? newModel.getArn() : prevModel.getArn();
+
         return ProgressEvent.progress(newModel, callbackContext)
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, newModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                                 .makeServiceCall(this::updateResource)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(response -> Translator.translateFromWriteResponse(newModel, certificateArn)
+                                        .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                                        .orElseGet(() -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger))));
     }
 
     private UpdateCaCertificateResponse updateResource(UpdateCaCertificateRequest request, ProxyClient<IotClient> proxyClient) {
@@ -22,8 +22,31 @@ import static org.mockito.Mockito.mock;
 public class CACertificateTestBase {
     protected final static String CA_CERT_ID = "certificateId";
     protected final static String CA_CERT_ARN = "arn:aws:iot:us-east-1:1234567890:cacert/certificateId";
-    protected final static String VERIFICATION_CERT_PEM = "VERIFICATION_PEM";
-    protected final static String CA_CERT_PEM = "CA_PEM";
+    protected final static String VERIFICATION_CERT_PEM =
+            "-----BEGIN CERTIFICATE-----\n" +
+            "MIIBKTCB0QIUB4efeuKmiWa4Bz7CQuysXyRYdocwCgYIKoZIzj0EAwIwEjEQMA4G\n" +
+            "A1UEAwwHVGVzdCBDQTAgFw0yNjEwMTkwOTI3MzZaGA8yMTI2MDkyNTA5MjczNlow\n" +
+            "HDEaMBgGA1UEAwwRcmVnaXN0cmF0aW9uLWNvZGUwWTATBgcqhkjOPQIBBggqhkjO\n" +
+            "PQMBBwNCAASnbfdqelIFQ8wBrFzb0y4UDNgz50wkKPb9PcQRyx5snZh9XYEHB+/M\n" +
+            "7B+JYHOBrM7YMP6enXRlsgjQ6+9ooICFMAoGCCqGSM49BAMCA0cAMEQCIC4i+YwK\n" +
+            "WR5dsG8CCsl5IsU9ewTbnSKyu4M1BEfTkpeXAiB7wRI0mfxmL4LniME5i7yPsUzR\n" +
+            "QaFI9SiCvuf8R6Jnxg==\n" +
+            "-----END CERTIFICATE-----\n";
+    protected final static String CA_CERT_PEM =
+            "-----BEGIN CERTIFICATE-----\n" +
+            "MIIBejCCASGgAwIBAgIUPvgRwE0BL5k9LWJFk4BNd3BfvSIwCgYIKoZIzj0EAwIw\n" +
+            "EjEQMA4GA1UEAwwHVGVzdCBDQTAgFw0yNjEwMTkwOTI3MzVaGA8yMTI2MDkyNTA5\n" +
+            "MjczNVowEjEQMA4GA1UEAwwHVGVzdCBDQTBZMBMGByqGSM49AgEGCCqGSM49AwEH\n" +
+            "A0IABKgBZwgOpseBME6ClRYkx6A3btJa3AhERdiP2GaQxq97ycyxkmuBpzR3PzN1\n" +
+            "/G5GCUv3QHBiIjXpdhZ/eIRTVxajUzBRMB0GA1UdDgQWBBTvUz4GQG5T9sSwaq9w\n" +
+            "hrdRfpLoEjAfBgNVHSMEGDAWgBTvUz4GQG5T9sSwaq9whrdRfpLoEjAPBgNVHRMB\n" +
+            "Af8EBTADAQH/MAoGCCqGSM49BAMCA0cAMEQCIAFXaf3/KoJ32K4VKyQbKENy9oLx\n" +
+            "9hjKDBu6gJbjSmHrAiBbgQz6gwQ/1+eCvqwgHtMlDMh/1TB9J70MKO8fHfocEA==\n" +
+            "-----END CERTIFICATE-----\n";
+    /**
+     * SHA-256 of the DER encoding of CA_CERT_PEM, which signed VERIFICATION_CERT_PEM.
+     */
+    protected final static String CA_CERT_PEM_ID = "347e370a9dc8458937cc00b2af1909154cdce90e7af4c411b82184c306707f22";
     protected final static String CA_CERT_STATUS_ACTIVE = "ACTIVE";
     protected final static String CA_CERT_STATUS_INACTIVE = "INACTIVE";
     protected final static String CA_CERT_AUTO_REGISTRATION_ENABLE = "ENABLE";
@@ -22,6 +22,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.time.Instant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,26 +65,10 @@ public class CreateHandlerTest extends CACertificateTestBase{
                         .certificateId(CA_CERT_ID)
                         .build());
 
-        final ArgumentCaptor<DescribeCaCertificateRequest> describeCaCertificateRequest
-                = ArgumentCaptor.forClass(DescribeCaCertificateRequest.class);
-
-        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
-                .thenReturn(DescribeCaCertificateResponse.builder()
-                        .certificateDescription(
-                                CACertificateDescription.builder()
-                                        .status(CACertificateStatus.INACTIVE)
-                                        .autoRegistrationStatus(AutoRegistrationStatus.DISABLE)
-                                        .certificatePem(CA_CERT_PEM)
-                                        .certificateId(CA_CERT_ID)
-                                        .certificateArn(CA_CERT_ARN)
-                                        .build())
-                        .build());
-
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
-        verify(iotClient).describeCACertificate(describeCaCertificateRequest.capture());
-        assertThat(describeCaCertificateRequest.getValue().certificateId()).isEqualTo(CA_CERT_ID);
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -114,6 +101,40 @@ public class CreateHandlerTest extends CACertificateTestBase{
 
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
+        when(iotClient.registerCACertificate(any(RegisterCaCertificateRequest.class)))
+                .thenReturn(RegisterCaCertificateResponse.builder()
+                        .certificateArn(CA_CERT_ARN)
+                        .certificateId(CA_CERT_ID)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext()).isNull();
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
+        assertThat(response.getResourceModels()).isNull();
+        assertThat(response.getMessage()).isNull();
+        assertThat(response.getErrorCode()).isNull();
+        assertThat(response.getResourceModel().getId()).isEqualTo(CA_CERT_ID);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(CA_CERT_ARN);
+        assertThat(response.getResourceModel().getCACertificatePem()).isEqualTo(CA_CERT_PEM);
+        assertThat(response.getResourceModel().getStatus()).isEqualTo(CACertificateStatus.INACTIVE.toString());
+        assertThat(response.getResourceModel().getAutoRegistrationStatus()).isEqualTo(AutoRegistrationStatus.DISABLE.toString());
+    }
+
+    @Test
+    public void handleRequest_ServiceDefaults_ReadsResource() {
+        final ResourceModel model = ResourceModel.builder()
+                .cACertificatePem(CA_CERT_PEM)
+                .verificationCertificatePem(VERIFICATION_CERT_PEM)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
         when(iotClient.registerCACertificate(any(RegisterCaCertificateRequest.class)))
                 .thenReturn(RegisterCaCertificateResponse.builder()
                         .certificateArn(CA_CERT_ARN)
@@ -143,14 +164,6 @@ public class CreateHandlerTest extends CACertificateTestBase{
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
-        assertThat(response.getCallbackContext()).isNull();
-        assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
-        assertThat(response.getResourceModels()).isNull();
-        assertThat(response.getMessage()).isNull();
-        assertThat(response.getErrorCode()).isNull();
-        assertThat(response.getResourceModel().getId()).isEqualTo(CA_CERT_ID);
-        assertThat(response.getResourceModel().getArn()).isEqualTo(CA_CERT_ARN);
-        assertThat(response.getResourceModel().getCACertificatePem()).isEqualTo(CA_CERT_PEM);
         assertThat(response.getResourceModel().getStatus()).isEqualTo(CACertificateStatus.INACTIVE.toString());
         assertThat(response.getResourceModel().getAutoRegistrationStatus()).isEqualTo(AutoRegistrationStatus.DISABLE.toString());
     }
@@ -202,4 +215,94 @@ public class CreateHandlerTest extends CACertificateTestBase{
 
         Assertions.assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
     }
+
+    @Test
+    public void handleRequest_MalformedPem_FailsWithoutCalls() {
+        final ResourceModel model = defaultModelBuilder()
+                .cACertificatePem("CA_PEM")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
+        verify(iotClient, never()).registerCACertificate(any(RegisterCaCertificateRequest.class));
+    }
+
+    @Test
+    public void handleRequest_VerificationNotSignedByCa_FailsWithoutCalls() {
+        final ResourceModel model = defaultModelBuilder()
+                .cACertificatePem(VERIFICATION_CERT_PEM)
+                .verificationCertificatePem(CA_CERT_PEM)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
+        verify(iotClient, never()).registerCACertificate(any(RegisterCaCertificateRequest.class));
+    }
+
+    @Test
+    public void handleRequest_AlreadyExistsOnFirstRegister_FailsWithoutDescribe() {
+        final ResourceModel model = defaultModelBuilder().build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final CallbackContext context = new CallbackContext();
+
+        doThrow(ResourceAlreadyExistsException.builder().build())
+                .when(iotClient)
+                .registerCACertificate(any(RegisterCaCertificateRequest.class));
+
+        Assertions.assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, context, proxyClient, LOGGER));
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
+        assertThat(context.getRegisterSentAt()).isNotNull();
+    }
+
+    @Test
+    public void handleRequest_RegisteredByEarlierAttempt_Succeeds() {
+        final ResourceModel model = defaultModelBuilder().build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final CallbackContext context = new CallbackContext();
+        context.setRegisterSentAt(Instant.now().minusSeconds(60).toEpochMilli());
+
+        doThrow(ResourceAlreadyExistsException.builder().build())
+                .when(iotClient)
+                .registerCACertificate(any(RegisterCaCertificateRequest.class));
+        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
+                .thenReturn(DescribeCaCertificateResponse.builder()
+                        .certificateDescription(CACertificateDescription.builder()
+                                .certificateId(CA_CERT_PEM_ID)
+                                .certificateArn(CA_CERT_ARN)
+                                .creationDate(Instant.now().minusSeconds(30))
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, context, proxyClient, LOGGER);
+
+        final ArgumentCaptor<DescribeCaCertificateRequest> describeRequest = ArgumentCaptor.forClass(DescribeCaCertificateRequest.class);
+        verify(iotClient).describeCACertificate(describeRequest.capture());
+        assertThat(describeRequest.getValue().certificateId()).isEqualTo(CA_CERT_PEM_ID);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(CA_CERT_PEM_ID);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(CA_CERT_ARN);
+    }
+
+    @Test
+    public void handleRequest_RegisteredBeforeEarlierAttempt_Fails() {
+        final ResourceModel model = defaultModelBuilder().build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final CallbackContext context = new CallbackContext();
+        context.setRegisterSentAt(Instant.now().minusSeconds(60).toEpochMilli());
+
+        doThrow(ResourceAlreadyExistsException.builder().build())
+                .when(iotClient)
+                .registerCACertificate(any(RegisterCaCertificateRequest.class));
+        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
+                .thenReturn(DescribeCaCertificateResponse.builder()
+                        .certificateDescription(CACertificateDescription.builder()
+                                .certificateId(CA_CERT_PEM_ID)
+                                .certificateArn(CA_CERT_ARN)
+                                .creationDate(Instant.now().minusSeconds(3600))
+                                .build())
+                        .build());
+
+        Assertions.assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, context, proxyClient, LOGGER));
+    }
 }
@@ -2,11 +2,12 @@ package com.amazonaws.iot.cacertificate;
 
 import org.junit.jupiter.api.Assertions;
 import org.mockito.ArgumentCaptor;
-import software.amazon.awssdk.services.iot.model.AutoRegistrationStatus;
 import software.amazon.awssdk.services.iot.model.CACertificateDescription;
 import software.amazon.awssdk.services.iot.model.CACertificateStatus;
 import software.amazon.awssdk.services.iot.model.CertificateDescription;
+import software.amazon.awssdk.services.iot.model.CertificateStateException;
 import software.amazon.awssdk.services.iot.model.DeleteCaCertificateRequest;
+import software.amazon.awssdk.services.iot.model.DeleteCaCertificateResponse;
 import software.amazon.awssdk.services.iot.model.DeleteConflictException;
 import software.amazon.awssdk.services.iot.model.DescribeCaCertificateRequest;
 import software.amazon.awssdk.services.iot.model.DescribeCaCertificateResponse;
@@ -58,25 +59,14 @@ public class DeleteHandlerTest extends CACertificateTestBase{
 
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
-                .thenReturn(DescribeCaCertificateResponse.builder()
-                        .certificateDescription(
-                                CACertificateDescription.builder()
-                                        .status(CACertificateStatus.INACTIVE.toString())
-                                        .autoRegistrationStatus(AutoRegistrationStatus.DISABLE.toString())
-                                        .certificatePem(CA_CERT_PEM)
-                                        .certificateId(CA_CERT_ID)
-                                        .certificateArn(CA_CERT_ARN)
-                                        .build())
-                        .build())
-                .thenThrow(ResourceNotFoundException.builder().build());
-
-
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
+        verify(iotClient, never()).updateCACertificate(any(UpdateCaCertificateRequest.class));
+        verify(iotClient).deleteCACertificate(any(DeleteCaCertificateRequest.class));
         assertThat(response.getCallbackContext()).isNull();
         assertThat(response.getCallbackDelaySeconds()).isEqualTo(0);
         assertThat(response.getResourceModel()).isNull();
@@ -101,24 +91,12 @@ public class DeleteHandlerTest extends CACertificateTestBase{
         when(iotClient.updateCACertificate(any(UpdateCaCertificateRequest.class)))
                 .thenReturn(UpdateCaCertificateResponse.builder().build());
 
-        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
-                .thenReturn(DescribeCaCertificateResponse.builder()
-                        .certificateDescription(
-                                CACertificateDescription.builder()
-                                        .status(CACertificateStatus.INACTIVE.toString())
-                                        .certificatePem(CA_CERT_PEM)
-                                        .certificateId(CA_CERT_ID)
-                                        .certificateArn(CA_CERT_ARN)
-                                        .build())
-                        .build())
-                .thenThrow(ResourceNotFoundException.builder().build());
-
-        // Need to call delete twice, because first response is in-progress of update to make certificate status INACTIVE
-        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
-        verify(iotClient, atLeastOnce()).updateCACertificate(updateCaCertificateRequest.capture());
+        verify(iotClient).updateCACertificate(updateCaCertificateRequest.capture());
+        verify(iotClient).deleteCACertificate(any(DeleteCaCertificateRequest.class));
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
         assertThat(updateCaCertificateRequest.getValue().certificateId()).isEqualTo(CA_CERT_ID);
         assertThat(updateCaCertificateRequest.getValue().newStatusAsString()).isEqualTo(CA_CERT_STATUS_INACTIVE);
 
@@ -131,6 +109,72 @@ public class DeleteHandlerTest extends CACertificateTestBase{
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_StatusUnknown_DescribesOnce() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(CA_CERT_ID)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
+                .thenReturn(DescribeCaCertificateResponse.builder()
+                        .certificateDescription(CACertificateDescription.builder()
+                                .certificateId(CA_CERT_ID)
+                                .status(CACertificateStatus.ACTIVE)
+                                .build())
+                        .build());
+        when(iotClient.updateCACertificate(any(UpdateCaCertificateRequest.class)))
+                .thenReturn(UpdateCaCertificateResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotClient).describeCACertificate(any(DescribeCaCertificateRequest.class));
+        verify(iotClient).updateCACertificate(any(UpdateCaCertificateRequest.class));
+        verify(iotClient).deleteCACertificate(any(DeleteCaCertificateRequest.class));
+    }
+
+    @Test
+    public void handleRequest_ModelSaysInactiveButActive_DeactivatesAndRetries() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(CA_CERT_ID)
+                .status(CA_CERT_STATUS_INACTIVE)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.deleteCACertificate(any(DeleteCaCertificateRequest.class)))
+                .thenThrow(CertificateStateException.builder().build())
+                .thenReturn(DeleteCaCertificateResponse.builder().build());
+        when(iotClient.updateCACertificate(any(UpdateCaCertificateRequest.class)))
+                .thenReturn(UpdateCaCertificateResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotClient).updateCACertificate(any(UpdateCaCertificateRequest.class));
+        verify(iotClient, times(2)).deleteCACertificate(any(DeleteCaCertificateRequest.class));
+    }
+
+    @Test
+    public void handleRequest_CertificateStateAfterDeactivation_Fails() {
+        final ResourceModel model = ResourceModel.builder()
+                .id(CA_CERT_ID)
+                .status(CA_CERT_STATUS_ACTIVE)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.updateCACertificate(any(UpdateCaCertificateRequest.class)))
+                .thenReturn(UpdateCaCertificateResponse.builder().build());
+        when(iotClient.deleteCACertificate(any(DeleteCaCertificateRequest.class)))
+                .thenThrow(CertificateStateException.builder().build());
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
+        verify(iotClient).deleteCACertificate(any(DeleteCaCertificateRequest.class));
+    }
+
     @Test
     public void handleRequest_CfnResourceConflictException() {
         testExceptionThrown(DeleteConflictException.builder().build(), CfnResourceConflictException.class);
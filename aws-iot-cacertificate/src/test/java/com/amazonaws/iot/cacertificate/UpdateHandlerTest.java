@@ -1,11 +1,7 @@
 package com.amazonaws.iot.cacertificate;
 
 import org.junit.jupiter.api.Assertions;
-import org.mockito.ArgumentCaptor;
-import software.amazon.awssdk.services.iot.model.AutoRegistrationStatus;
-import software.amazon.awssdk.services.iot.model.CACertificateDescription;
 import software.amazon.awssdk.services.iot.model.DescribeCaCertificateRequest;
-import software.amazon.awssdk.services.iot.model.DescribeCaCertificateResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
@@ -37,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -70,26 +67,11 @@ public class UpdateHandlerTest extends CACertificateTestBase{
         when(iotClient.updateCACertificate(any(UpdateCaCertificateRequest.class)))
                 .thenReturn(UpdateCaCertificateResponse.builder().build());
 
-        final ArgumentCaptor<DescribeCaCertificateRequest> describeCaCertificateRequest
-                = ArgumentCaptor.forClass(DescribeCaCertificateRequest.class);
-        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
-                .thenReturn(DescribeCaCertificateResponse.builder()
-                        .certificateDescription(
-                                CACertificateDescription.builder()
-                                        .status(CA_CERT_STATUS_INACTIVE)
-                                        .autoRegistrationStatus(AutoRegistrationStatus.DISABLE.toString())
-                                        .certificatePem(CA_CERT_PEM)
-                                        .certificateId(CA_CERT_ID)
-                                        .certificateArn(CA_CERT_ARN)
-                                        .build())
-                        .build());
-
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
-        verify(iotClient).describeCACertificate(describeCaCertificateRequest.capture());
-        assertThat(describeCaCertificateRequest.getValue().certificateId()).isEqualTo(CA_CERT_ID);
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -145,26 +127,11 @@ public class UpdateHandlerTest extends CACertificateTestBase{
         when(iotClient.updateCACertificate(any(UpdateCaCertificateRequest.class)))
                 .thenReturn(UpdateCaCertificateResponse.builder().build());
 
-        final ArgumentCaptor<DescribeCaCertificateRequest> describeCaCertificateRequest
-                = ArgumentCaptor.forClass(DescribeCaCertificateRequest.class);
-        when(iotClient.describeCACertificate(any(DescribeCaCertificateRequest.class)))
-                .thenReturn(DescribeCaCertificateResponse.builder()
-                        .certificateDescription(
-                                CACertificateDescription.builder()
-                                        .status(CA_CERT_STATUS_INACTIVE)
-                                        .autoRegistrationStatus(AutoRegistrationStatus.DISABLE.toString())
-                                        .certificatePem(CA_CERT_PEM)
-                                        .certificateId(CA_CERT_ID)
-                                        .certificateArn(CA_CERT_ARN)
-                                        .build())
-                        .build());
-
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
 
-        verify(iotClient).describeCACertificate(describeCaCertificateRequest.capture());
-        assertThat(describeCaCertificateRequest.getValue().certificateId()).isEqualTo(CA_CERT_ID);
+        verify(iotClient, never()).describeCACertificate(any(DescribeCaCertificateRequest.class));
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -0,0 +1,147 @@
+package com.amazonaws.iot.certificate;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.Base64;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Checks the PEM and CSR input of a create before any call is made, so that malformed input fails at once.
+ */
+final class Certificates {
+
+    private static final Pattern CSR_PEM = Pattern.compile(
+            "-----BEGIN (NEW )?CERTIFICATE REQUEST-----([A-Za-z0-9+/=\\s]+)-----END (NEW )?CERTIFICATE REQUEST-----");
+
+    private static final int DER_INTEGER = 0x02;
+    private static final int DER_SEQUENCE = 0x30;
+    private static final int DER_BIT_STRING = 0x03;
+
+    private Certificates() {
+    }
+
+    /**
+     * @param property the model property the PEM comes from, named in the error
+     * @throws CfnInvalidRequestException when the PEM does not hold an X.509 certificate
+     */
+    static X509Certificate parseCertificate(final String property, final String pem) {
+        try {
+            final CertificateFactory factory = CertificateFactory.getInstance("X.509");
+            return (X509Certificate) factory.generateCertificate(
+                    new ByteArrayInputStream(pem.getBytes(StandardCharsets.US_ASCII)));
+        } catch (CertificateException e) {
+            throw new CfnInvalidRequestException(property + " is not a PEM encoded X.509 certificate", e);
+        }
+    }
+
+    /**
+     * @throws CfnInvalidRequestException when the certificate is not signed by the CA certificate
+     */
+    static void checkSignedBy(final X509Certificate certificate, final X509Certificate caCertificate) {
+        try {
+            certificate.verify(caCertificate.getPublicKey());
+        } catch (GeneralSecurityException e) {
+            throw new CfnInvalidRequestException("CertificatePem is not signed by CACertificatePem", e);
+        }
+    }
+
+    /**
+     * java.security has no public parser for PKCS#10 requests, so this checks the PEM armour and the DER
+     * envelope of the request: its info starting with version 0, signature algorithm and signature, and
+     * nothing left over. The version tells a request from a certificate, whose envelope is the same.
+     *
+     * @throws CfnInvalidRequestException when the CSR is not a PEM encoded PKCS#10 request
+     */
+    static void checkCertificateSigningRequest(final String csr) {
+        final Matcher matcher = CSR_PEM.matcher(csr.trim());
+        if (!matcher.matches()) {
+            throw new CfnInvalidRequestException("CertificateSigningRequest is not a PEM encoded certificate signing request");
+        }
+        final byte[] der;
+        try {
+            der = Base64.getMimeDecoder().decode(matcher.group(2));
+        } catch (IllegalArgumentException e) {
+            throw new CfnInvalidRequestException("CertificateSigningRequest is not valid base64", e);
+        }
+        final DerReader request = new DerReader(der);
+        final DerReader content = request.read(DER_SEQUENCE);
+        if (request.hasMore()) {
+            throw invalidCsr();
+        }
+        final DerReader info = content.read(DER_SEQUENCE);
+        if (!info.read(DER_INTEGER).isZero()) {
+            throw invalidCsr();
+        }
+        content.read(DER_SEQUENCE);
+        content.read(DER_BIT_STRING);
+        if (content.hasMore()) {
+            throw invalidCsr();
+        }
+    }
+
+    private static CfnInvalidRequestException invalidCsr() {
+        return new CfnInvalidRequestException("CertificateSigningRequest is not a PKCS#10 certificate signing request");
+    }
+
+    /**
+     * Reads DER elements one after the other from a range of bytes.
+     */
+    private static final class DerReader {
+
+        private final byte[] der;
+        private final int end;
+        private int position;
+
+        DerReader(final byte[] der) {
+            this(der, 0, der.length);
+        }
+
+        private DerReader(final byte[] der, final int start, final int end) {
+            this.der = der;
+            this.position = start;
+            this.end = end;
+        }
+
+        boolean hasMore() {
+            return position < end;
+        }
+
+        boolean isZero() {
+            return end - position == 1 && der[position] == 0;
+        }
+
+        /**
+         * @return a reader over the content of the next element, which must have the given tag
+         */
+        DerReader read(final int tag) {
+            if (position + 2 > end || (der[position] & 0xff) != tag) {
+                throw invalidCsr();
+            }
+            position++;
+            int length = der[position++] & 0xff;
+            if (length > 0x7f) {
+                final int lengthBytes = length & 0x7f;
+                if (lengthBytes == 0 || lengthBytes > 3 || position + lengthBytes > end) {
+                    throw invalidCsr();
+                }
+                length = 0;
+                for (int i = 0; i < lengthBytes; i++) {
+                    length = (length << 8) | (der[position++] & 0xff);
+                }
+            }
+            if (length > end - position) {
+                throw invalidCsr();
+            }
+            final DerReader content = new DerReader(der, position, position + length);
+            position += length;
+            return content;
+        }
+    }
+}
@@ -6,7 +6,6 @@ import software.amazon.awssdk.services.iot.model.CreateCertificateFromCsrRespons
 import software.amazon.awssdk.services.iot.model.InternalException;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
-import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.IotRequest;
 import software.amazon.awssdk.services.iot.model.LimitExceededException;
 import software.amazon.awssdk.services.iot.model.RegisterCertificateRequest;
@@ -30,6 +29,8 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.security.cert.X509Certificate;
+
 public class CreateHandler extends BaseHandler<CallbackContext> {
     private static final String CERTIFICATE_MODE_DEFAULT = "Default";
     private static final String CERTIFICATE_MODE_SNI_ONLY = "SNI_ONLY";
@@ -108,6 +109,8 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
         String currentOperation = null;
         try {
             if (isMuliAccountRequest(model)) {
+                Certificates.parseCertificate("CertificatePem", model.getCertificatePem());
+
                 final RegisterCertificateWithoutCaRequest registerRequest = RegisterCertificateWithoutCaRequest.builder()
                         .certificatePem(model.getCertificatePem())
                         .status(model.getStatus())
@@ -124,6 +127,8 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 model.setId(registerResponse.certificateId());
 
             } else if (isCsrRequest(model)) {
+                Certificates.checkCertificateSigningRequest(model.getCertificateSigningRequest());
+
                 final CreateCertificateFromCsrRequest signingRequest = CreateCertificateFromCsrRequest.builder()
                         .certificateSigningRequest(model.getCertificateSigningRequest())
                         .build();
@@ -146,6 +151,10 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
                 proxy.injectCredentialsAndInvokeV2(updateRequest, iotClient::updateCertificate);
 
             } else if (isCertificatePemRequest(model)) {
+                final X509Certificate certificate = Certificates.parseCertificate("CertificatePem", model.getCertificatePem());
+                Certificates.checkSignedBy(certificate,
+                        Certificates.parseCertificate("CACertificatePem", model.getCACertificatePem()));
+
                 final RegisterCertificateRequest registerRequest = RegisterCertificateRequest.builder()
                         .certificatePem(model.getCertificatePem())
                         .caCertificatePem(model.getCACertificatePem())
@@ -19,12 +19,21 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * Lists certificates a page of {@link #PAGE_SIZE} at a time, following the marker until the
+ * {@link ListBudget} runs out or there are no more certificates.
+ */
 public class ListHandler extends BaseHandler<CallbackContext> {
     private static final String OPERATION = "ListCertificates";
 
+    /**
+     * The most certificates ListCertificates returns per page.
+     */
+    static final int PAGE_SIZE = 250;
+
     private IotClient iotClient;
 
     public ListHandler() {
@@ -42,27 +51,33 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        final ListCertificatesRequest  listRequest = ListCertificatesRequest.builder()
-                .pageSize(50)
-                .marker(request.getNextToken())
-                .build();
+        final ListBudget budget = startBudget();
+        final List<ResourceModel> models = new ArrayList<>();
+        String marker = request.getNextToken();
 
         try {
-            final ListCertificatesResponse response = proxy.injectCredentialsAndInvokeV2(
-                    listRequest,
-                    iotClient::listCertificates);
+            do {
+                final ListCertificatesRequest listRequest = ListCertificatesRequest.builder()
+                        .pageSize(PAGE_SIZE)
+                        .marker(marker)
+                        .build();
+                final ListCertificatesResponse response = proxy.injectCredentialsAndInvokeV2(
+                        listRequest,
+                        iotClient::listCertificates);
 
-            final List<ResourceModel> models = response.certificates().stream()
-                    .map(cert -> ResourceModel.builder()
-                            .id(cert.certificateId())
-                            .arn(cert.certificateArn())
-                            .status(cert.statusAsString())
-                            .build())
-                    .collect(Collectors.toList());
+                response.certificates().stream()
+                        .map(cert -> ResourceModel.builder()
+                                .id(cert.certificateId())
+                                .arn(cert.certificateArn())
+                                .status(cert.statusAsString())
+                                .build())
+                        .forEach(models::add);
+                marker = response.nextMarker();
+            } while (marker != null && budget.allowsAnotherPage(models.size(), PAGE_SIZE));
 
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .resourceModels(models)
-                    .nextToken(response.nextMarker())
+                    .nextToken(marker)
                     .status(OperationStatus.SUCCESS)
                     .build();
 
@@ -78,4 +93,8 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             throw new CfnAccessDeniedException(OPERATION, e);
         }
     }
+
+    ListBudget startBudget() {
+        return ListBudget.startingNow();
+    }
 }
@@ -13,9 +13,38 @@ import static org.mockito.Mockito.doThrow;
 public class CertificateTestBase {
     protected final static String CERT_ID = "certificateId";
     protected final static String CERT_ARN = "arn:aws:iot:us-east-1:1234567890:certificate/certificateId";
-    protected final static String CERT_CSR = "CSR";
-    protected final static String CERT_PEM = "PEM";
-    protected final static String CERT_CA_PEM = "CA_PEM";
+    protected final static String CERT_CSR =
+            "-----BEGIN CERTIFICATE REQUEST-----\n" +
+            "MIHLMHMCAQAwETEPMA0GA1UEAwwGZGV2aWNlMFkwEwYHKoZIzj0CAQYIKoZIzj0D\n" +
+            "AQcDQgAEp233anpSBUPMAaxc29MuFAzYM+dMJCj2/T3EEcsebJ2YfV2BBwfvzOwf\n" +
+            "iWBzgazO2DD+np10ZbII0OvvaKCAhaAAMAoGCCqGSM49BAMCA0gAMEUCICogRNd4\n" +
+            "0MgkpGlOz+fIZtTl3HmGp50W+c/JoFhEy2m7AiEAywQz3CahsGmNjvB/fGqkzKLz\n" +
+            "sXnhmg7sKPMAhIEXc9k=\n" +
+            "-----END CERTIFICATE REQUEST-----\n";
+    protected final static String CERT_PEM =
+            "-----BEGIN CERTIFICATE-----\n" +
+            "MIIBHjCBxgIUB4efeuKmiWa4Bz7CQuysXyRYdoYwCgYIKoZIzj0EAwIwEjEQMA4G\n" +
+            "A1UEAwwHVGVzdCBDQTAgFw0yNjEwMTkwOTI3MzZaGA8yMTI2MDkyNTA5MjczNlow\n" +
+            "ETEPMA0GA1UEAwwGZGV2aWNlMFkwEwYHKoZIzj0CAQYIKoZIzj0DAQcDQgAEp233\n" +
+            "anpSBUPMAaxc29MuFAzYM+dMJCj2/T3EEcsebJ2YfV2BBwfvzOwfiWBzgazO2DD+\n" +
+            "np10ZbII0OvvaKCAhTAKBggqhkjOPQQDAgNHADBEAiBmSjM8lZaOLFjCcG4Po6Yk\n" +
+            "h28U8r+SgzNduQ5RDBqnZQIgNSO7JCTfMBlbN8YOk7egjPbv7gFiXDeg+info0NO\n" +
+            "+xE=\n" +
+            "-----END CERTIFICATE-----\n";
+    /**
+     * SHA-256 of the DER encoding of CERT_PEM, which CERT_CA_PEM signed.
+     */
+    protected final static String CERT_CA_PEM =
+            "-----BEGIN CERTIFICATE-----\n" +
+            "MIIBejCCASGgAwIBAgIUPvgRwE0BL5k9LWJFk4BNd3BfvSIwCgYIKoZIzj0EAwIw\n" +
+            "EjEQMA4GA1UEAwwHVGVzdCBDQTAgFw0yNjEwMTkwOTI3MzVaGA8yMTI2MDkyNTA5\n" +
+            "MjczNVowEjEQMA4GA1UEAwwHVGVzdCBDQTBZMBMGByqGSM49AgEGCCqGSM49AwEH\n" +
+            "A0IABKgBZwgOpseBME6ClRYkx6A3btJa3AhERdiP2GaQxq97ycyxkmuBpzR3PzN1\n" +
+            "/G5GCUv3QHBiIjXpdhZ/eIRTVxajUzBRMB0GA1UdDgQWBBTvUz4GQG5T9sSwaq9w\n" +
+            "hrdRfpLoEjAfBgNVHSMEGDAWgBTvUz4GQG5T9sSwaq9whrdRfpLoEjAPBgNVHRMB\n" +
+            "Af8EBTADAQH/MAoGCCqGSM49BAMCA0cAMEQCIAFXaf3/KoJ32K4VKyQbKENy9oLx\n" +
+            "9hjKDBu6gJbjSmHrAiBbgQz6gwQ/1+eCvqwgHtMlDMh/1TB9J70MKO8fHfocEA==\n" +
+            "-----END CERTIFICATE-----\n";
     protected final static String CERT_STATUS_ACTIVE = "ACTIVE";
     protected final static String CERT_STATUS_INACTIVE = "INACTIVE";
     protected final static String REQUEST_TOKEN = "REQUEST_TOKEN";
@@ -0,0 +1,36 @@
+package com.amazonaws.iot.certificate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+public class CertificatesTest extends CertificateTestBase {
+
+    @Test
+    public void checkSignedBy() {
+        Certificates.checkSignedBy(
+                Certificates.parseCertificate("CertificatePem", CERT_PEM),
+                Certificates.parseCertificate("CACertificatePem", CERT_CA_PEM));
+    }
+
+    @Test
+    public void checkCertificateSigningRequest_Valid() {
+        Certificates.checkCertificateSigningRequest(CERT_CSR);
+        Certificates.checkCertificateSigningRequest(CERT_CSR.replace("CERTIFICATE REQUEST", "NEW CERTIFICATE REQUEST"));
+    }
+
+    @Test
+    public void checkCertificateSigningRequest_Invalid() {
+        Assertions.assertThrows(CfnInvalidRequestException.class,
+                () -> Certificates.checkCertificateSigningRequest("CSR"));
+        Assertions.assertThrows(CfnInvalidRequestException.class,
+                () -> Certificates.checkCertificateSigningRequest(CERT_PEM));
+        // A certificate in CSR armour: valid DER, but not the shape of a request
+        Assertions.assertThrows(CfnInvalidRequestException.class,
+                () -> Certificates.checkCertificateSigningRequest(CERT_PEM.replace("CERTIFICATE", "CERTIFICATE REQUEST")));
+        // Cut short
+        final String truncated = CERT_CSR.substring(0, CERT_CSR.indexOf("\n-----END") - 8) + "\n-----END CERTIFICATE REQUEST-----\n";
+        Assertions.assertThrows(CfnInvalidRequestException.class,
+                () -> Certificates.checkCertificateSigningRequest(truncated));
+    }
+}
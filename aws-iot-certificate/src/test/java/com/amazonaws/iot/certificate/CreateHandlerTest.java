@@ -10,6 +10,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.iot.model.CertificateMode;
 import software.amazon.awssdk.services.iot.model.CreateCertificateFromCsrRequest;
 import software.amazon.awssdk.services.iot.model.CreateCertificateFromCsrResponse;
+import software.amazon.awssdk.services.iot.model.DescribeCertificateRequest;
 import software.amazon.awssdk.services.iot.model.InternalException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.RegisterCertificateRequest;
@@ -32,6 +33,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 public class CreateHandlerTest extends CertificateTestBase {
@@ -188,4 +191,56 @@ public class CreateHandlerTest extends CertificateTestBase {
 
         Assertions.assertThrows(CfnThrottlingException.class, () -> handler.handleRequest(proxy, request, null, logger));
     }
+
+    @Test
+    public void handleRequest_MalformedPem_FailsWithoutCalls() {
+        final ResourceModel model = ResourceModel.builder()
+                .certificatePem("PEM")
+                .certificateMode(CertificateMode.SNI_ONLY.toString())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_MalformedCsr_FailsWithoutCalls() {
+        final ResourceModel model = ResourceModel.builder()
+                .certificateSigningRequest(CERT_PEM)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_NotSignedByCa_FailsWithoutCalls() {
+        final ResourceModel model = ResourceModel.builder()
+                .cACertificatePem(CERT_PEM)
+                .certificatePem(CERT_CA_PEM)
+                .certificateMode(CertificateMode.DEFAULT.toString())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        Assertions.assertThrows(CfnInvalidRequestException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(), any());
+    }
+
+    @Test
+    public void handleRequest_RegisteredPemAlreadyExists_Fails() {
+        final ResourceModel model = ResourceModel.builder()
+                .certificatePem(CERT_PEM)
+                .certificateMode(CertificateMode.SNI_ONLY.toString())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        doThrow(ResourceAlreadyExistsException.builder().build())
+                .when(proxy)
+                .injectCredentialsAndInvokeV2(any(RegisterCertificateWithoutCaRequest.class), any());
+
+        Assertions.assertThrows(CfnAlreadyExistsException.class, () -> handler.handleRequest(proxy, request, null, logger));
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DescribeCertificateRequest.class), any());
+    }
 }
@@ -0,0 +1,41 @@
+package com.amazonaws.iot.certificate;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListBudgetTest {
+
+    @Test
+    public void allowsAnotherPage_WithinBudget() {
+        final ListBudget budget = new ListBudget(Clock.systemUTC(), Duration.ofSeconds(20), 500);
+
+        assertThat(budget.allowsAnotherPage(250, 250)).isTrue();
+        assertThat(budget.allowsAnotherPage(251, 250)).isFalse();
+    }
+
+    @Test
+    public void allowsAnotherPage_TimeSpent() {
+        final Clock clock = Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneOffset.UTC);
+        final ListBudget budget = new ListBudget(clock, Duration.ZERO, 500);
+
+        assertThat(budget.allowsAnotherPage(0, 250)).isFalse();
+    }
+
+    @Test
+    public void parse_FallsBackToDefaults() {
+        assertThat(ListBudget.parseTime(null)).isEqualTo(ListBudget.DEFAULT_TIME);
+        assertThat(ListBudget.parseTime("soon")).isEqualTo(ListBudget.DEFAULT_TIME);
+        assertThat(ListBudget.parseTime("0")).isEqualTo(ListBudget.DEFAULT_TIME);
+        assertThat(ListBudget.parseTime(" 30 ")).isEqualTo(Duration.ofSeconds(30));
+        assertThat(ListBudget.parseSize(null)).isEqualTo(ListBudget.DEFAULT_SIZE);
+        assertThat(ListBudget.parseSize("-1")).isEqualTo(ListBudget.DEFAULT_SIZE);
+        assertThat(ListBudget.parseSize("99999999999")).isEqualTo(ListBudget.DEFAULT_SIZE);
+        assertThat(ListBudget.parseSize("1000")).isEqualTo(1000);
+    }
+}
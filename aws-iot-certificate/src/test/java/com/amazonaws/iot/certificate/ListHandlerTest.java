@@ -24,11 +24,16 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -107,6 +112,62 @@ public class ListHandlerTest extends CertificateTestBase {
         assertThat(certificateRequestCaptor.getValue().marker()).isEqualTo(nextToken);
     }
 
+    @Test
+    public void handleRequest_FollowsMarkerWithinBudget() {
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListCertificatesRequest.class), any()))
+                .thenReturn(certificatePage(CERT_ID, "page2"))
+                .thenReturn(certificatePage(CERT_ID + "2", null));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(certificateRequestCaptor.capture(), any());
+        assertThat(certificateRequestCaptor.getAllValues()).extracting(ListCertificatesRequest::marker)
+                .containsExactly(null, "page2");
+        assertThat(certificateRequestCaptor.getAllValues()).extracting(ListCertificatesRequest::pageSize)
+                .containsOnly(ListHandler.PAGE_SIZE);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getId)
+                .containsExactly(CERT_ID, CERT_ID + "2");
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_SizeBudgetSpent_ReturnsMarker() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(new ListBudget(Clock.systemUTC(), ListBudget.DEFAULT_TIME, ListHandler.PAGE_SIZE))
+                .when(spyHandler).startBudget();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListCertificatesRequest.class), any()))
+                .thenReturn(certificatePage(CERT_ID, "page2"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, null, logger);
+
+        verify(proxy).injectCredentialsAndInvokeV2(any(ListCertificatesRequest.class), any());
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("page2");
+    }
+
+    @Test
+    public void handleRequest_TimeBudgetSpent_ReturnsMarker() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(new ListBudget(Clock.systemUTC(), Duration.ZERO, ListBudget.DEFAULT_SIZE))
+                .when(spyHandler).startBudget();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(proxy.injectCredentialsAndInvokeV2(any(ListCertificatesRequest.class), any()))
+                .thenReturn(certificatePage(CERT_ID, "page2"));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, null, logger);
+
+        verify(proxy).injectCredentialsAndInvokeV2(any(ListCertificatesRequest.class), any());
+        assertThat(response.getNextToken()).isEqualTo("page2");
+    }
+
     @Test
     public void handleRequest_InternalFailure() {
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
@@ -145,4 +206,15 @@ public class ListHandlerTest extends CertificateTestBase {
             handler.handleRequest(proxy, request, null, logger);
         });
     }
+
+    private static ListCertificatesResponse certificatePage(final String certificateId, final String nextMarker) {
+        return ListCertificatesResponse.builder()
+                .nextMarker(nextMarker)
+                .certificates(Certificate.builder()
+                        .certificateId(certificateId)
+                        .status(CERT_STATUS_ACTIVE)
+                        .certificateArn(CERT_ARN)
+                        .build())
+                .build();
+    }
 }
@@ -3,8 +3,6 @@ package com.amazonaws.iot.custommetric;
 import com.google.common.annotations.VisibleForTesting;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.Tag;
-import software.amazon.awssdk.services.iot.model.TagResourceRequest;
-import software.amazon.awssdk.services.iot.model.UntagResourceRequest;
 import software.amazon.awssdk.services.iot.model.UpdateCustomMetricRequest;
 import software.amazon.awssdk.services.iot.model.UpdateCustomMetricResponse;
 import software.amazon.awssdk.utils.StringUtils;
@@ -14,7 +12,6 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +41,12 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                     "MetricArn cannot be updated.");
         }
 
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, desiredModel.getMetricName()));
+            return ProgressEvent.defaultSuccessHandler(
+                    ResourceModelDiff.withReadOnlyProperties(desiredModel, request.getPreviousResourceState()));
+        }
+
         String resourceArn;
         try {
             resourceArn = updateCustomMetric(proxy, desiredModel, logger);
@@ -97,52 +100,10 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         // Yet we should, otherwise the resource wouldn't equate the template.
         Set<Tag> currentTags = listTags(proxy, resourceArn, logger);
 
-        // Combine all tags in one map that we'll use for the request
-        Map<String, String> allDesiredTagsMap = new HashMap<>();
-        if (request.getDesiredResourceTags() != null) {
-            // DesiredResourceTags includes both model and stack-level tags.
-            // Reference: https://tinyurl.com/yyxtd7w6
-            allDesiredTagsMap.putAll(request.getDesiredResourceTags());
-        }
-        if (request.getSystemTags() != null) {
-            // There are also system tags provided separately.
-            // SystemTags are the default stack-level tags with aws:cloudformation prefix.
-            allDesiredTagsMap.putAll(request.getSystemTags());
-        } else {
-            // System tags should never get updated as they are the stack id, stack name,
-            // and logical resource id.
-            logger.log("Unexpectedly, system tags are null in the update request for " + resourceArn);
-        }
-        Set<Tag> desiredTags = Translator.translateTagsToSdk(allDesiredTagsMap);
-        Set<String> desiredTagKeys = desiredTags.stream()
-                .map(Tag::key)
-                .collect(Collectors.toSet());
-
-        Set<String> tagKeysToDetach = currentTags.stream()
-                .filter(tag -> !desiredTagKeys.contains(tag.key()))
-                .map(Tag::key)
-                .collect(Collectors.toSet());
-        Set<Tag> tagsToAttach = desiredTags.stream()
-                .filter(tag -> !currentTags.contains(tag))
-                .collect(Collectors.toSet());
-
-        if (!tagsToAttach.isEmpty()) {
-            TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
-                    .resourceArn(resourceArn)
-                    .tags(tagsToAttach)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(tagResourceRequest, iotClient::tagResource);
-            logger.log(String.format("Called TagResource for %s.", resourceArn));
-        }
-
-        if (!tagKeysToDetach.isEmpty()) {
-            UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
-                    .resourceArn(resourceArn)
-                    .tagKeys(tagKeysToDetach)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(untagResourceRequest, iotClient::untagResource);
-            logger.log(String.format("Called UntagResource for %s.", resourceArn));
-        }
+        Map<String, String> currentTagsMap = currentTags.stream()
+                .collect(Collectors.toMap(Tag::key, Tag::value));
+        new TagReconciler(proxy::injectCredentialsAndInvokeV2, iotClient, logger)
+                .apply(resourceArn, currentTagsMap, TagReconciler.desiredTags(request));
     }
 
     // This facilitates mocking in the unit tests.
@@ -43,6 +43,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -71,6 +72,38 @@ public class UpdateHandlerTest {
         verifyNoMoreInteractions(proxy);
     }
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+
+        ResourceModel previousModel = ResourceModel.builder()
+                .metricName(CUSTOM_METRIC_NAME)
+                .metricArn(CUSTOM_METRIC_ARN)
+                .metricType(METRIC_TYPE)
+                .displayName(DISPLAY_NAME)
+                .build();
+        ResourceModel desiredModel = ResourceModel.builder()
+                .metricName(CUSTOM_METRIC_NAME)
+                .metricType(METRIC_TYPE)
+                .displayName(DISPLAY_NAME)
+                .build();
+        Map<String, String> tags = ImmutableMap.of("TagKey", "TagValue");
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .previousResourceTags(tags)
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(tags)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getMetricArn()).isEqualTo(CUSTOM_METRIC_ARN);
+        verifyZeroInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_BothValueAndTagsAreUpdated_VerifyRequests() {
 
@@ -126,13 +159,13 @@ public class UpdateHandlerTest {
         assertThat(submittedUpdateRequest.metricName()).isEqualTo(CUSTOM_METRIC_NAME);
         assertThat(submittedUpdateRequest.displayName()).isEqualTo(DISPLAY_NAME2);
 
-        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(1);
-        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
-        assertThat(submittedTagRequest.resourceArn()).isEqualTo(CUSTOM_METRIC_ARN);
-
-        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(2);
+        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(1);
         assertThat(submittedUntagRequest.tagKeys()).isEqualTo(Collections.singletonList("PreviousTagKey"));
         assertThat(submittedUntagRequest.resourceArn()).isEqualTo(CUSTOM_METRIC_ARN);
+
+        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(2);
+        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
+        assertThat(submittedTagRequest.resourceArn()).isEqualTo(CUSTOM_METRIC_ARN);
     }
 
 
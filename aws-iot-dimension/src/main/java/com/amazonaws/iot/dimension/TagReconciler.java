@@ -0,0 +1,118 @@
+package com.amazonaws.iot.dimension;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.Tag;
+import software.amazon.awssdk.services.iot.model.TagResourceRequest;
+import software.amazon.awssdk.services.iot.model.UntagResourceRequest;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Brings the tags of a resource to the ones a request asks for, with as few calls as possible: one
+ * UntagResource and one TagResource per {@value #MAX_TAGS_PER_CALL} changed keys, and nothing when
+ * no tag changed. A tag whose value changed is only re-tagged, not removed first. Keys with the
+ * reserved {@code aws:} prefix, such as CloudFormation's system tags, are never touched.
+ */
+final class TagReconciler {
+
+    static final int MAX_TAGS_PER_CALL = 50;
+
+    private static final String RESERVED_PREFIX = "aws:";
+
+    /**
+     * Sends a request with the caller's credentials, e.g. {@code proxyClient::injectCredentialsAndInvokeV2}.
+     */
+    interface Invoker {
+        <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT invoke(
+                RequestT request, Function<RequestT, ResponseT> call);
+    }
+
+    private final Invoker invoker;
+    private final IotClient iotClient;
+    private final Logger logger;
+
+    TagReconciler(final Invoker invoker, final IotClient iotClient, final Logger logger) {
+        this.invoker = invoker;
+        this.iotClient = iotClient;
+        this.logger = logger;
+    }
+
+    /**
+     * @return the tags the resource has afterwards: the desired ones plus the reserved ones it already had
+     */
+    Map<String, String> apply(
+            final String resourceArn,
+            final Map<String, String> currentTags,
+            final Map<String, String> desiredTags) {
+        final List<String> tagKeysToRemove = currentTags.keySet().stream()
+                .filter(key -> !isReserved(key) && !desiredTags.containsKey(key))
+                .sorted()
+                .collect(Collectors.toList());
+        final List<Tag> tagsToAdd = desiredTags.entrySet().stream()
+                .filter(tag -> !isReserved(tag.getKey()) && !tag.getValue().equals(currentTags.get(tag.getKey())))
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .sorted((left, right) -> left.key().compareTo(right.key()))
+                .collect(Collectors.toList());
+
+        for (final List<String> tagKeys : chunks(tagKeysToRemove)) {
+            invoker.invoke(UntagResourceRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tagKeys(tagKeys)
+                    .build(), iotClient::untagResource);
+            logger.log(String.format("Called UntagResource for %s with %d keys.", resourceArn, tagKeys.size()));
+        }
+        for (final List<Tag> tags : chunks(tagsToAdd)) {
+            invoker.invoke(TagResourceRequest.builder()
+                    .resourceArn(resourceArn)
+                    .tags(tags)
+                    .build(), iotClient::tagResource);
+            logger.log(String.format("Called TagResource for %s with %d tags.", resourceArn, tags.size()));
+        }
+
+        final Map<String, String> tags = new HashMap<>(currentTags);
+        tags.keySet().removeAll(tagKeysToRemove);
+        tagsToAdd.forEach(tag -> tags.put(tag.key(), tag.value()));
+        return tags;
+    }
+
+    /**
+     * Model tags and stack-level tags the request asks for. System tags are left out: they are
+     * reserved and never change.
+     */
+    static Map<String, String> desiredTags(final ResourceHandlerRequest<ResourceModel> request) {
+        return combine(request.getDesiredResourceState(), request.getDesiredResourceTags());
+    }
+
+    private static Map<String, String> combine(final ResourceModel model, final Map<String, String> resourceTags) {
+        final Map<String, String> tags = new HashMap<>();
+        Optional.ofNullable(resourceTags).ifPresent(tags::putAll);
+        Optional.ofNullable(model)
+                .map(ResourceModel::getTags)
+                .ifPresent(modelTags -> modelTags.forEach(tag -> tags.put(tag.getKey(), tag.getValue())));
+        return tags;
+    }
+
+    private static boolean isReserved(final String key) {
+        return key.startsWith(RESERVED_PREFIX);
+    }
+
+    private static <T> List<List<T>> chunks(final Collection<T> values) {
+        final List<List<T>> chunks = new ArrayList<>();
+        final List<T> list = new ArrayList<>(values);
+        for (int from = 0; from < list.size(); from += MAX_TAGS_PER_CALL) {
+            chunks.add(list.subList(from, Math.min(from + MAX_TAGS_PER_CALL, list.size())));
+        }
+        return chunks;
+    }
+}
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 import java.util.Collections;
 import java.util.List;
@@ -68,6 +69,38 @@ public class UpdateHandlerTest {
     @Spy
     private UpdateHandler handler;
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+
+        ResourceModel previousModel = ResourceModel.builder()
+                .name(DIMENSION_NAME)
+                .type(DIMENSION_TYPE)
+                .stringValues(DIMENSION_VALUE_CFN)
+                .arn(DIMENSION_ARN)
+                .build();
+        ResourceModel desiredModel = ResourceModel.builder()
+                .name(DIMENSION_NAME)
+                .type(DIMENSION_TYPE)
+                .stringValues(DIMENSION_VALUE_CFN)
+                .build();
+        Map<String, String> tags = ImmutableMap.of("TagKey", "TagValue");
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .previousResourceTags(tags)
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(tags)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getArn()).isEqualTo(DIMENSION_ARN);
+        verifyZeroInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_BothValueAndTagsAreUpdated_VerifyRequests() {
 
@@ -122,13 +155,13 @@ public class UpdateHandlerTest {
         assertThat(submittedUpdateRequest.name()).isEqualTo(DIMENSION_NAME);
         assertThat(submittedUpdateRequest.stringValues()).isEqualTo(DIMENSION_VALUE_IOT);
 
-        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(1);
-        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
-        assertThat(submittedTagRequest.resourceArn()).isEqualTo(DIMENSION_ARN);
-
-        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(2);
+        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(1);
         assertThat(submittedUntagRequest.tagKeys()).isEqualTo(Collections.singletonList("PreviousTagKey"));
         assertThat(submittedUntagRequest.resourceArn()).isEqualTo(DIMENSION_ARN);
+
+        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(2);
+        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
+        assertThat(submittedTagRequest.resourceArn()).isEqualTo(DIMENSION_ARN);
     }
 
     @Test
@@ -0,0 +1,132 @@
+package software.amazon.iot.jobtemplate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the job template rollout, abort, retry and tag translations on large models. Run with the
+ * "benchmark" profile, see pom.xml. Allocation rate is reported by the gc profiler (-prof gc).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    private static final String[] FAILURE_TYPES = {"FAILED", "REJECTED", "TIMED_OUT", "ALL"};
+
+    @Param({"4", "100"})
+    private int criteriaCount;
+
+    @Param({"50", "500"})
+    private int tagCount;
+
+    private ResourceModel model;
+    private software.amazon.awssdk.services.iot.model.AbortConfig iotAbortConfig;
+    private software.amazon.awssdk.services.iot.model.JobExecutionsRolloutConfig iotRolloutConfig;
+    private software.amazon.awssdk.services.iot.model.JobExecutionsRetryConfig iotRetryConfig;
+
+    @Setup
+    public void setUp() {
+        List<AbortCriteria> abortCriteria = new ArrayList<>();
+        List<RetryCriteria> retryCriteria = new ArrayList<>();
+        for (int i = 0; i < criteriaCount; i++) {
+            String failureType = FAILURE_TYPES[i % FAILURE_TYPES.length];
+            abortCriteria.add(AbortCriteria.builder()
+                    .action("CANCEL")
+                    .failureType(failureType)
+                    .thresholdPercentage(10.0 + i % 50)
+                    .minNumberOfExecutedThings(10 + i)
+                    .build());
+            retryCriteria.add(RetryCriteria.builder()
+                    .failureType(failureType)
+                    .numberOfRetries(1 + i % 10)
+                    .build());
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.builder().key("tagKey" + i).value("tagValue" + i).build());
+        }
+
+        model = ResourceModel.builder()
+                .jobTemplateId("BenchmarkJobTemplate")
+                .description("Job template used by the translator benchmark")
+                .document("{\"operation\":\"benchmark\"}")
+                .abortConfig(AbortConfig.builder().criteriaList(abortCriteria).build())
+                .jobExecutionsRolloutConfig(JobExecutionsRolloutConfig.builder()
+                        .maximumPerMinute(1000)
+                        .exponentialRolloutRate(ExponentialRolloutRate.builder()
+                                .baseRatePerMinute(50)
+                                .incrementFactor(2.0)
+                                .rateIncreaseCriteria(RateIncreaseCriteria.builder()
+                                        .numberOfNotifiedThings(100)
+                                        .numberOfSucceededThings(50)
+                                        .build())
+                                .build())
+                        .build())
+                .jobExecutionsRetryConfig(JobExecutionsRetryConfig.builder().retryCriteriaList(retryCriteria).build())
+                .presignedUrlConfig(PresignedUrlConfig.builder()
+                        .roleArn("arn:aws:iam::123456789012:role/PresignedUrlRole")
+                        .expiresInSec(3600)
+                        .build())
+                .timeoutConfig(TimeoutConfig.builder().inProgressTimeoutInMinutes(60).build())
+                .tags(tags)
+                .build();
+        iotAbortConfig = Translator.getAbortConfig(model);
+        iotRolloutConfig = Translator.getJobExecutionsRolloutConfig(model);
+        iotRetryConfig = Translator.getRetryConfig(model);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.iot.model.AbortConfig abortConfigToSdk() {
+        return Translator.getAbortConfig(model);
+    }
+
+    @Benchmark
+    public AbortConfig abortConfigFromSdk() {
+        return Translator.getAbortConfig(iotAbortConfig);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.iot.model.JobExecutionsRolloutConfig rolloutConfigToSdk() {
+        return Translator.getJobExecutionsRolloutConfig(model);
+    }
+
+    @Benchmark
+    public JobExecutionsRolloutConfig rolloutConfigFromSdk() {
+        return Translator.getJobExecutionsRolloutConfig(iotRolloutConfig);
+    }
+
+    @Benchmark
+    public software.amazon.awssdk.services.iot.model.JobExecutionsRetryConfig retryConfigToSdk() {
+        return Translator.getRetryConfig(model);
+    }
+
+    @Benchmark
+    public JobExecutionsRetryConfig retryConfigFromSdk() {
+        return Translator.getRetryConfig(iotRetryConfig);
+    }
+
+    @Benchmark
+    public List<software.amazon.awssdk.services.iot.model.Tag> tagsToSdk() {
+        return Translator.getTags(model);
+    }
+}
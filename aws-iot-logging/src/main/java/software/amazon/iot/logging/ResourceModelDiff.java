@@ -0,0 +1,41 @@
+package software.amazon.iot.logging;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Tells whether an update would change anything in IoT, so UpdateHandler can skip every call when a
+ * stack update leaves this resource as it is. Only the properties UpdateHandler can change are
+ * compared. Changing a create-only property replaces the resource instead, and read-only
+ * properties come from IoT.
+ */
+final class ResourceModelDiff {
+
+    /**
+     * The properties UpdateHandler can change.
+     */
+    static final List<Function<ResourceModel, Object>> MUTABLE_PROPERTIES = Arrays.asList(
+            ResourceModel::getRoleArn,
+            ResourceModel::getDefaultLogLevel);
+
+    private ResourceModelDiff() {
+    }
+
+    /**
+     * @return true if the previous state is known and matches the desired state in every mutable
+     * property
+     */
+    static boolean isNoOp(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel previous = request.getPreviousResourceState();
+        final ResourceModel desired = request.getDesiredResourceState();
+        if (previous == null || desired == null) {
+            return false;
+        }
+        return MUTABLE_PROPERTIES.stream()
+                .allMatch(property -> Objects.equals(property.apply(previous), property.apply(desired)));
+    }
+}
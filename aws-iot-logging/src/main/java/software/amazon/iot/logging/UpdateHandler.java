@@ -39,6 +39,11 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
          */
         String accountId = request.getAwsAccountId();
 
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, accountId));
+            return ProgressEvent.defaultSuccessHandler(model);
+        }
+
         try {
             GetV2LoggingOptionsResponse response = proxy.injectCredentialsAndInvokeV2(GetV2LoggingOptionsRequest.builder().build(), iotClient::getV2LoggingOptions);
             logger.log(String.format("Get %s [%s] successfully", ResourceModel.TYPE_NAME, accountId));
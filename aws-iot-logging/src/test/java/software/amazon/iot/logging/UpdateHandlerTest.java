@@ -27,6 +27,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends HandlerTestBase {
@@ -40,6 +41,26 @@ public class UpdateHandlerTest extends HandlerTestBase {
         handler = new UpdateHandler();
     }
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+        ResourceModel model = ResourceModel.builder()
+                .accountId(ACCOUNT_ID)
+                .defaultLogLevel(DEFAULT_LOG_LEVEL)
+                .roleArn(ROLE_ARN)
+                .build();
+
+        ResourceHandlerRequest<ResourceModel> request = createCfnRequest(model).toBuilder()
+                .previousResourceState(model)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(model);
+        verifyNoInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_SimpleSuccess() {
         ResourceModel model = ResourceModel.builder()
@@ -0,0 +1,99 @@
+package com.amazonaws.iot.mitigationaction;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.iot.model.MitigationActionParams;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the mitigation action params and tag translations on large models. Run with the "benchmark"
+ * profile, see pom.xml. Allocation rate is reported by the gc profiler (-prof gc).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"10", "100"})
+    private int thingGroupCount;
+
+    @Param({"50", "500"})
+    private int tagCount;
+
+    private ActionParams addThingsToThingGroupParams;
+    private ActionParams enableIoTLoggingParams;
+    private MitigationActionParams iotActionParams;
+    private Map<String, String> tags;
+    private List<software.amazon.awssdk.services.iot.model.Tag> iotTags;
+
+    @Setup
+    public void setUp() {
+        Set<String> thingGroupNames = new HashSet<>();
+        for (int i = 0; i < thingGroupCount; i++) {
+            thingGroupNames.add("QuarantineGroup" + i);
+        }
+        addThingsToThingGroupParams = ActionParams.builder()
+                .addThingsToThingGroupParams(AddThingsToThingGroupParams.builder()
+                        .overrideDynamicGroups(true)
+                        .thingGroupNames(thingGroupNames)
+                        .build())
+                .build();
+        enableIoTLoggingParams = ActionParams.builder()
+                .enableIoTLoggingParams(EnableIoTLoggingParams.builder()
+                        .logLevel("DEBUG")
+                        .roleArnForLogging("arn:aws:iam::123456789012:role/LoggingRole")
+                        .build())
+                .build();
+        iotActionParams = Translator.translateActionParamsToSdk(addThingsToThingGroupParams);
+
+        tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put("tagKey" + i, "tagValue" + i);
+        }
+        iotTags = new ArrayList<>(Translator.translateTagsToSdk(tags));
+    }
+
+    @Benchmark
+    public MitigationActionParams addThingsToThingGroupParamsToSdk() {
+        return Translator.translateActionParamsToSdk(addThingsToThingGroupParams);
+    }
+
+    @Benchmark
+    public MitigationActionParams enableIoTLoggingParamsToSdk() {
+        return Translator.translateActionParamsToSdk(enableIoTLoggingParams);
+    }
+
+    @Benchmark
+    public ActionParams actionParamsToCfn() {
+        return Translator.translateActionParamsToCfn(iotActionParams);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.iot.model.Tag> tagsToSdk() {
+        return Translator.translateTagsToSdk(tags);
+    }
+
+    @Benchmark
+    public Set<Tag> tagsToCfn() {
+        return Translator.translateTagsToCfn(iotTags);
+    }
+}
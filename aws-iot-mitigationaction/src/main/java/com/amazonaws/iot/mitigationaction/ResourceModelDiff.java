@@ -0,0 +1,65 @@
+package com.amazonaws.iot.mitigationaction;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Tells whether an update would change anything in IoT, so UpdateHandler can skip every call when a
+ * stack update leaves this resource as it is. Only the properties UpdateHandler can change and the
+ * tags are compared. Changing a create-only property replaces the resource instead, and read-only
+ * properties come from IoT.
+ */
+final class ResourceModelDiff {
+
+    /**
+     * The properties UpdateHandler can change.
+     */
+    static final List<Function<ResourceModel, Object>> MUTABLE_PROPERTIES = Arrays.asList(
+            ResourceModel::getRoleArn,
+            ResourceModel::getActionParams,
+            model -> asSet(model.getTags()));
+
+    private ResourceModelDiff() {
+    }
+
+    /**
+     * @return true if the previous state is known and matches the desired state in every mutable
+     * property and tag
+     */
+    static boolean isNoOp(final ResourceHandlerRequest<ResourceModel> request) {
+        final ResourceModel previous = request.getPreviousResourceState();
+        final ResourceModel desired = request.getDesiredResourceState();
+        if (previous == null || desired == null) {
+            return false;
+        }
+        return MUTABLE_PROPERTIES.stream()
+                .allMatch(property -> Objects.equals(property.apply(previous), property.apply(desired)))
+                && asMap(request.getPreviousResourceTags()).equals(asMap(request.getDesiredResourceTags()));
+    }
+
+    /**
+     * Fills in the read-only properties the skipped calls would have returned, from the previous state.
+     */
+    static ResourceModel withReadOnlyProperties(final ResourceModel desired, final ResourceModel previous) {
+        desired.setMitigationActionArn(previous.getMitigationActionArn());
+        desired.setMitigationActionId(previous.getMitigationActionId());
+        return desired;
+    }
+
+    private static <T> Set<T> asSet(final Collection<T> values) {
+        return values == null ? Collections.emptySet() : new HashSet<>(values);
+    }
+
+    private static Map<String, String> asMap(final Map<String, String> tags) {
+        return tags == null ? Collections.emptyMap() : tags;
+    }
+}
@@ -46,6 +46,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -74,6 +75,39 @@ public class UpdateHandlerTest {
         verifyNoMoreInteractions(proxy);
     }
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+
+        ResourceModel previousModel = ResourceModel.builder()
+                .actionName(MITIGATION_ACTION_NAME)
+                .mitigationActionArn(ACTION_ARN)
+                .mitigationActionId(ACTION_ID)
+                .roleArn(MITIGATION_ACTION_ROLE_ARN)
+                .actionParams(ACTION_PARAMS_WITH_PUBLISH_FINDING_TO_SNS_PARAMS)
+                .build();
+        ResourceModel desiredModel = ResourceModel.builder()
+                .actionName(MITIGATION_ACTION_NAME)
+                .roleArn(MITIGATION_ACTION_ROLE_ARN)
+                .actionParams(ACTION_PARAMS_WITH_PUBLISH_FINDING_TO_SNS_PARAMS)
+                .build();
+        Map<String, String> tags = ImmutableMap.of("TagKey", "TagValue");
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .previousResourceTags(tags)
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(tags)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getMitigationActionArn()).isEqualTo(ACTION_ARN);
+        verifyZeroInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_BothValueAndTagsAreUpdated_VerifyRequests() {
 
@@ -126,13 +160,13 @@ public class UpdateHandlerTest {
         assertThat(submittedUpdateRequest.actionParams()).isEqualTo(SDK_ACTION_PARAMS_WITH_PUBLISH_FINDING_TO_SNS);
         assertThat(submittedUpdateRequest.roleArn()).isEqualTo(MITIGATION_ACTION_ROLE_ARN);
 
-        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(1);
-        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
-        assertThat(submittedTagRequest.resourceArn()).isEqualTo(ACTION_ARN);
-
-        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(2);
+        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(1);
         assertThat(submittedUntagRequest.tagKeys()).isEqualTo(Collections.singletonList("PreviousTagKey"));
         assertThat(submittedUntagRequest.resourceArn()).isEqualTo(ACTION_ARN);
+
+        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(2);
+        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
+        assertThat(submittedTagRequest.resourceArn()).isEqualTo(ACTION_ARN);
     }
 
 
@@ -51,8 +51,7 @@ public class CreateHandler extends BaseHandlerStd{
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall(this::createResource)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(response -> ProgressEvent.defaultSuccessHandler(Translator.translateFromCreateResponse(response))));
 
     }
 
@@ -67,23 +67,12 @@ public class DeleteHandler extends BaseHandlerStd {
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
                                 .done(response -> ProgressEvent.defaultSuccessHandler(null))
                 );
 
     }
 
 
-    private Boolean stabilizedOnDelete(DeletePolicyRequest request, DeletePolicyResponse response, ProxyClient<IotClient> proxyClient, ResourceModel model, CallbackContext callbackContext) {
-        try {
-            proxyClient.injectCredentialsAndInvokeV2(Translator.translateToReadRequest(model), proxyClient.client()::getPolicy);
-            return false;
-        } catch (ResourceNotFoundException e) {
-            logger.log(String.format("%s [%s] deletion has stabilized.", ResourceModel.TYPE_NAME, request.policyName()));
-            return true;
-        }
-    }
-
     private DeletePolicyResponse deleteResource(DeletePolicyRequest request, ProxyClient<IotClient> proxyClient) {
         try {
             DeletePolicyResponse response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::deletePolicy);
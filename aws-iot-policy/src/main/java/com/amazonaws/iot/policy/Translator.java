@@ -6,6 +6,7 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import software.amazon.awssdk.services.iot.model.ConflictingResourceUpdateException;
 import software.amazon.awssdk.services.iot.model.CreatePolicyRequest;
+import software.amazon.awssdk.services.iot.model.CreatePolicyResponse;
 import software.amazon.awssdk.services.iot.model.CreatePolicyVersionRequest;
 import software.amazon.awssdk.services.iot.model.DeleteConflictException;
 import software.amazon.awssdk.services.iot.model.DeletePolicyRequest;
@@ -75,6 +76,19 @@ public class Translator {
     }
 
 
+    /**
+     * CreatePolicy echoes everything a Read returns, so the created model needs no GetPolicy.
+     */
+    public static ResourceModel translateFromCreateResponse(CreatePolicyResponse response) {
+        return ResourceModel.builder()
+                .arn(response.policyArn())
+                .policyName(response.policyName())
+                .id(response.policyName())
+                .policyDocument(convertPolicyDocumentJSONStringToMap(response.policyDocument()))
+                .build();
+    }
+
+
     public static String convertPolicyDocumentMapToJSONString(Map<String, Object> policyDocumentMap) {
         ObjectMapper policyDocumentMapper = new ObjectMapper();
         try {
@@ -36,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
@@ -50,8 +51,8 @@ public class CreateHandlerTest extends PolicyTestBase{
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPolicy(any(GetPolicyRequest.class)))
-                .thenReturn(TEST_GET_POLICY_RESPONSE);
+        when(iotClient.createPolicy(any(CreatePolicyRequest.class)))
+                .thenReturn(DEFAULT_CREATE_POLICY_RESPONSE);
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -68,6 +69,7 @@ public class CreateHandlerTest extends PolicyTestBase{
         assertThat(response.getResourceModel().getPolicyDocument()).isEqualTo(convertPolicyDocumentJSONStringToMap(POLICY_DOCUMENT));
 
         verify(iotClient).createPolicy(any(CreatePolicyRequest.class));
+        verify(iotClient, never()).getPolicy(any(GetPolicyRequest.class));
     }
 
 
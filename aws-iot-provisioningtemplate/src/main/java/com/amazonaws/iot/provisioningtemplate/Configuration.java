@@ -2,6 +2,11 @@ package com.amazonaws.iot.provisioningtemplate;
 
 class Configuration extends BaseConfiguration {
 
+    static {
+        // The wrapper creates its Configuration during init, so this runs before a SnapStart checkpoint.
+        Priming.primeForSnapshot();
+    }
+
     public Configuration() {
         super("aws-iot-provisioningtemplate.json");
     }
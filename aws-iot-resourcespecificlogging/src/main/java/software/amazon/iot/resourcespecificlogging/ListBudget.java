@@ -0,0 +1,78 @@
+package software.amazon.iot.resourcespecificlogging;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * How long a List invocation keeps paging, and how many resources it collects, before it returns a
+ * nextToken.
+ *
+ * A List handler requests the largest page the API allows and keeps following the token while the
+ * budget allows another page, so inventorying an account takes a fraction of the invocations. Both
+ * limits can be set through environment variables: LIST_TIME_BUDGET_SECONDS and LIST_MAX_RESOURCES.
+ */
+final class ListBudget {
+
+    static final String TIME_VARIABLE = "LIST_TIME_BUDGET_SECONDS";
+    static final String SIZE_VARIABLE = "LIST_MAX_RESOURCES";
+
+    /**
+     * Well inside the time CloudFormation gives an invocation, leaving room for one more page.
+     */
+    static final Duration DEFAULT_TIME = Duration.ofSeconds(20);
+
+    /**
+     * Keeps the handler response far below the payload limit of the invocation.
+     */
+    static final int DEFAULT_SIZE = 2500;
+
+    private static final Duration TIME = parseTime(System.getenv(TIME_VARIABLE));
+    private static final int SIZE = parseSize(System.getenv(SIZE_VARIABLE));
+
+    private final Clock clock;
+    private final Instant end;
+    private final int maxResources;
+
+    ListBudget(final Clock clock, final Duration time, final int maxResources) {
+        this.clock = clock;
+        this.end = clock.instant().plus(time);
+        this.maxResources = maxResources;
+    }
+
+    static ListBudget startingNow() {
+        return new ListBudget(Clock.systemUTC(), TIME, SIZE);
+    }
+
+    /**
+     * @param collected the resources collected so far
+     * @param pageSize  the most resources the next page can hold
+     */
+    boolean allowsAnotherPage(final int collected, final int pageSize) {
+        return collected + pageSize <= maxResources && clock.instant().isBefore(end);
+    }
+
+    static Duration parseTime(final String seconds) {
+        final long value = parse(seconds);
+        return value > 0 ? Duration.ofSeconds(value) : DEFAULT_TIME;
+    }
+
+    static int parseSize(final String size) {
+        final long value = parse(size);
+        return value > 0 && value <= Integer.MAX_VALUE ? (int) value : DEFAULT_SIZE;
+    }
+
+    /**
+     * @return the number, or 0 when the variable is unset or not a number
+     */
+    private static long parse(final String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -11,7 +11,7 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,9 +19,15 @@ import java.util.stream.Collectors;
  * List handler function is invoked when there is a request of summary information about multiple resources of this resource type
  * Call ListV2LoggingLevels to list all resource-specific logging levels.
  * return an empty list if resource doesn't exists
+ * Pages of PAGE_SIZE targets are listed until there are no more or the ListBudget runs out.
  */
 public class ListHandler extends BaseHandler<CallbackContext> {
 
+    /**
+     * The most targets ListV2LoggingLevels returns per page.
+     */
+    static final int PAGE_SIZE = 250;
+
     private final IotClient iotClient;
 
     public ListHandler() {
@@ -35,39 +41,40 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             final CallbackContext callbackContext,
             final Logger logger) {
 
-        ListV2LoggingLevelsRequest listV2LoggingLevelsRequest = ListV2LoggingLevelsRequest.builder()
-                .nextToken(request.getNextToken())
-                .build();
-
         String accountId = request.getAwsAccountId();
-        String nextToken = null;
+        ListBudget budget = startBudget();
+        List<ResourceModel> models = new ArrayList<>();
+        String nextToken = request.getNextToken();
 
-        ListV2LoggingLevelsResponse response = null;
         try {
-            response = proxy.injectCredentialsAndInvokeV2(listV2LoggingLevelsRequest, iotClient::listV2LoggingLevels);
+            do {
+                ListV2LoggingLevelsRequest listV2LoggingLevelsRequest = ListV2LoggingLevelsRequest.builder()
+                        .maxResults(PAGE_SIZE)
+                        .nextToken(nextToken)
+                        .build();
+                ListV2LoggingLevelsResponse response =
+                        proxy.injectCredentialsAndInvokeV2(listV2LoggingLevelsRequest, iotClient::listV2LoggingLevels);
+                nextToken = response.nextToken();
+
+                if (response.hasLogTargetConfigurations()) {
+                    /**
+                     * We specify the target name as primary identifier so it should be no-null value,
+                     * Cloudformation resource won't allow default targetType because there's no targetName associate with it.
+                     */
+                    response.logTargetConfigurations().stream().filter(t -> isNotDefaultType(t)).map(t -> buildLoggingLevelModel(t)).forEach(models::add);
+                }
+            } while (nextToken != null && budget.allowsAnotherPage(models.size(), PAGE_SIZE));
             logger.log(String.format("List %s [%s] successfully", ResourceModel.TYPE_NAME, accountId));
-            nextToken = response.nextToken();
 
         } catch (NotConfiguredException e) {
             //we only log here as we'll return empty list
             logger.log(String.format("The general logging option is not set for this account: %s", accountId));
+            nextToken = null;
         } catch (RuntimeException e) {
 
             return ExceptionTranslator.translateExceptionToProgressEvent(request.getDesiredResourceState(), e, logger);
         }
 
-        List<ResourceModel> models;
-
-        if(response != null && response.hasLogTargetConfigurations()) {
-            /**
-             * We specify the target name as primary identifier so it should be no-null value,
-             * Cloudformation resource won't allow default targetType because there's no targetName associate with it.
-             */
-            models = response.logTargetConfigurations().stream().filter(t -> isNotDefaultType(t)).map(t -> buildLoggingLevelModel(t)).collect(Collectors.toList());
-        } else {
-            models = Collections.emptyList();
-        }
-
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
                 .resourceModels(models)
                 .nextToken(nextToken)
@@ -75,6 +82,10 @@ public class ListHandler extends BaseHandler<CallbackContext> {
                 .build();
     }
 
+    ListBudget startBudget() {
+        return ListBudget.startingNow();
+    }
+
     private boolean isNotDefaultType(LogTargetConfiguration logTargetConfiguration) {
         return !logTargetConfiguration.logTarget().targetTypeAsString().equalsIgnoreCase("DEFAULT");
     }
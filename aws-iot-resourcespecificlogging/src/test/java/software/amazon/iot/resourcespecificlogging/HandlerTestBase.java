@@ -42,7 +42,9 @@ public class HandlerTestBase {
 
     static final ListV2LoggingLevelsRequest LIST_REQUEST = ListV2LoggingLevelsRequest.builder().maxResults(250).build();
 
-    static final ListV2LoggingLevelsRequest LIST_DEFAULT_REQUEST = ListV2LoggingLevelsRequest.builder().build();
+    static final ListV2LoggingLevelsRequest LIST_DEFAULT_REQUEST = ListV2LoggingLevelsRequest.builder()
+            .maxResults(ListHandler.PAGE_SIZE)
+            .build();
 
     static final ListV2LoggingLevelsResponse LIST_EMPTY_RESPONSE = ListV2LoggingLevelsResponse.builder()
             .logTargetConfigurations(Collections.emptyList())
@@ -17,11 +17,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -83,6 +89,41 @@ public class ListHandlerTest extends HandlerTestBase {
         assertThat(response.getNextToken()).isNull();
     }
 
+    @Test
+    public void handleRequest_FollowsNextTokenWithinBudget() {
+        ResourceHandlerRequest<ResourceModel> request = createCfnRequest(createDefaultModelWithTargetId());
+
+        when(proxy.injectCredentialsAndInvokeV2(eq(LIST_DEFAULT_REQUEST), any()))
+                .thenReturn(LIST_RESPONSE.toBuilder().nextToken("page2").build());
+        when(proxy.injectCredentialsAndInvokeV2(eq(LIST_DEFAULT_REQUEST.toBuilder().nextToken("page2").build()), any()))
+                .thenReturn(LIST_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).hasSize(2 * LOG_TARGET_CONFIGURATION_LIST.size());
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_BudgetSpent_ReturnsNextToken() {
+        ListHandler spyHandler = spy(handler);
+        doReturn(new ListBudget(Clock.systemUTC(), Duration.ZERO, ListBudget.DEFAULT_SIZE))
+                .when(spyHandler).startBudget();
+        ResourceHandlerRequest<ResourceModel> request = createCfnRequest(createDefaultModelWithTargetId());
+
+        when(proxy.injectCredentialsAndInvokeV2(eq(LIST_DEFAULT_REQUEST), any()))
+                .thenReturn(LIST_RESPONSE.toBuilder().nextToken("page2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = spyHandler.handleRequest(proxy, request, null, logger);
+
+        verify(proxy).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(response.getResourceModels()).hasSize(LOG_TARGET_CONFIGURATION_LIST.size());
+        assertThat(response.getNextToken()).isEqualTo("page2");
+    }
+
     @Test
     public void handleRequest_InvalidRequestException() {
 
@@ -41,8 +41,9 @@ public class CreateHandler extends BaseHandlerStd {
                         proxy.initiate(CALL_GRAPH, proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall(this::createResource)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(response -> Translator.translateFromWriteResponse(model, response.roleAliasArn())
+                                        .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                                        .orElseGet(() -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger))));
     }
 
 
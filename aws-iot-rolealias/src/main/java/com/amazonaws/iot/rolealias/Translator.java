@@ -29,11 +29,14 @@ import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorExceptio
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 
+import java.util.Optional;
+
 public class Translator {
     public static CreateRoleAliasRequest translateToCreateRequest(ResourceModel model) {
         return CreateRoleAliasRequest.builder()
                 .roleAlias(model.getRoleAlias())
                 .roleArn(model.getRoleArn())
+                .credentialDurationSeconds(model.getCredentialDurationSeconds())
                 .build();
     }
 
@@ -52,6 +55,23 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * Builds the model a Read would return from the model that was just written and the ARN in the
+     * create or update response. Empty when CredentialDurationSeconds was left to the service, which
+     * only a Read can tell.
+     */
+    public static Optional<ResourceModel> translateFromWriteResponse(ResourceModel model, String roleAliasArn) {
+        if (model.getCredentialDurationSeconds() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(ResourceModel.builder()
+                .roleAliasArn(roleAliasArn)
+                .roleAlias(model.getRoleAlias())
+                .roleArn(model.getRoleArn())
+                .credentialDurationSeconds(model.getCredentialDurationSeconds())
+                .build());
+    }
+
     public static DeleteRoleAliasRequest translateToDeleteRequest(ResourceModel model) {
         return DeleteRoleAliasRequest.builder()
                 .roleAlias(model.getRoleAlias())
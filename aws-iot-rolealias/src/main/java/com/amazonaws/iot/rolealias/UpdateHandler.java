@@ -37,13 +37,19 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.defaultFailureHandler(new Exception("Role Alias must be specified"), HandlerErrorCode.NotFound);
         }
 
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, newModel.getRoleAlias()));
+            return ProgressEvent.defaultSuccessHandler(ResourceModelDiff.withReadOnlyProperties(newModel, prevModel));
+        }
+
         return ProgressEvent.progress(newModel, callbackContext)
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, newModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToUpdateRequest)
                                 .makeServiceCall(this::updateResource)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(response -> Translator.translateFromWriteResponse(newModel, response.roleAliasArn())
+                                        .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                                        .orElseGet(() -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger))));
     }
 
     private UpdateRoleAliasResponse updateResource(UpdateRoleAliasRequest request, ProxyClient<IotClient> proxyClient) {
@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 @ExtendWith(MockitoExtension.class)
@@ -33,8 +35,8 @@ public class CreateHandlerTest extends RoleAliasTestBase{
 
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.describeRoleAlias(any(DescribeRoleAliasRequest.class)))
-                .thenReturn(TEST_DESCRIBE_ROLE_ALIAS_RESPONSE);
+        when(iotClient.createRoleAlias(any(CreateRoleAliasRequest.class)))
+                .thenReturn(DEFAULT_CREATE_ROLE_ALIAS_RESPONSE);
 
         final ProgressEvent<ResourceModel, CallbackContext> response
                 = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -47,6 +49,30 @@ public class CreateHandlerTest extends RoleAliasTestBase{
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        verify(iotClient, never()).describeRoleAlias(any(DescribeRoleAliasRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DefaultCredentialDuration_ReadsResource() {
+        final ResourceModel model = defaultModelBuilder()
+                .roleAliasArn(null)
+                .credentialDurationSeconds(null)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.createRoleAlias(any(CreateRoleAliasRequest.class)))
+                .thenReturn(DEFAULT_CREATE_ROLE_ALIAS_RESPONSE);
+        when(iotClient.describeRoleAlias(any(DescribeRoleAliasRequest.class)))
+                .thenReturn(TEST_DESCRIBE_ROLE_ALIAS_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(DEFAULT_RESOURCE_MODEL);
     }
 
     @Test
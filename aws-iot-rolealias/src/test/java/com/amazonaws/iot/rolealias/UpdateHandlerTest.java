@@ -2,11 +2,10 @@ package com.amazonaws.iot.rolealias;
 
 import org.junit.jupiter.api.Assertions;
 import software.amazon.awssdk.services.iot.model.DescribeRoleAliasRequest;
-import software.amazon.awssdk.services.iot.model.DescribeRoleAliasResponse;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
-import software.amazon.awssdk.services.iot.model.RoleAliasDescription;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.awssdk.services.iot.model.UpdateRoleAliasRequest;
+import software.amazon.awssdk.services.iot.model.UpdateRoleAliasResponse;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -21,8 +20,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.Instant;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -31,12 +28,32 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest extends RoleAliasTestBase{
     final UpdateHandler handler = new UpdateHandler();
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+        final ResourceModel prevModel = defaultModelBuilder().build();
+        final ResourceModel newModel = defaultModelBuilder().roleAliasArn(null).build();
+
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(newModel)
+                .previousResourceState(prevModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getRoleAliasArn()).isEqualTo(ROLE_ALIAS_ARN);
+        verifyNoInteractions(iotClient);
+    }
+
     @Test
     public void handleRequest_updatesNewRoleArn() {
         final ResourceModel prevModel = defaultModelBuilder().build();
@@ -48,18 +65,10 @@ public class UpdateHandlerTest extends RoleAliasTestBase{
                 .previousResourceState(prevModel)
                 .build();
 
-        RoleAliasDescription description = RoleAliasDescription.builder()
-                .credentialDurationSeconds(CREDENTIAL_DURATION_SECONDS)
-                .roleAlias(ROLE_ALIAS)
-                .roleAliasArn(ROLE_ALIAS_ARN)
-                .roleArn(UPDATE_ROLE_ARN)
-                .owner("123456789012")
-                .creationDate(Instant.now())
-                .lastModifiedDate(Instant.now())
-                .build();
-        when(iotClient.describeRoleAlias(any(DescribeRoleAliasRequest.class)))
-                .thenReturn(DescribeRoleAliasResponse.builder()
-                        .roleAliasDescription(description)
+        when(iotClient.updateRoleAlias(any(UpdateRoleAliasRequest.class)))
+                .thenReturn(UpdateRoleAliasResponse.builder()
+                        .roleAlias(ROLE_ALIAS)
+                        .roleAliasArn(ROLE_ALIAS_ARN)
                         .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -76,6 +85,8 @@ public class UpdateHandlerTest extends RoleAliasTestBase{
         assertThat(response.getResourceModel().getRoleAlias()).isEqualTo(ROLE_ALIAS);
         assertThat(response.getResourceModel().getRoleAliasArn()).isEqualTo(ROLE_ALIAS_ARN);
         assertThat(response.getResourceModel().getRoleArn()).isEqualTo(UPDATE_ROLE_ARN);
+
+        verify(iotClient, never()).describeRoleAlias(any(DescribeRoleAliasRequest.class));
     }
 
     @Test
@@ -89,19 +100,10 @@ public class UpdateHandlerTest extends RoleAliasTestBase{
                 .previousResourceState(prevModel)
                 .build();
 
-
-        RoleAliasDescription description = RoleAliasDescription.builder()
-                .credentialDurationSeconds(1000)
-                .roleAlias(ROLE_ALIAS)
-                .roleAliasArn(ROLE_ALIAS_ARN)
-                .roleArn(ROLE_ARN)
-                .owner("123456789012")
-                .creationDate(Instant.now())
-                .lastModifiedDate(Instant.now())
-                .build();
-        when(iotClient.describeRoleAlias(any(DescribeRoleAliasRequest.class)))
-                .thenReturn(DescribeRoleAliasResponse.builder()
-                        .roleAliasDescription(description)
+        when(iotClient.updateRoleAlias(any(UpdateRoleAliasRequest.class)))
+                .thenReturn(UpdateRoleAliasResponse.builder()
+                        .roleAlias(ROLE_ALIAS)
+                        .roleAliasArn(ROLE_ALIAS_ARN)
                         .build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response
@@ -119,6 +121,8 @@ public class UpdateHandlerTest extends RoleAliasTestBase{
         assertThat(response.getResourceModel().getRoleAliasArn()).isEqualTo(ROLE_ALIAS_ARN);
         assertThat(response.getResourceModel().getRoleArn()).isEqualTo(ROLE_ARN);
         assertThat(response.getResourceModel().getCredentialDurationSeconds()).isEqualTo(1000);
+
+        verify(iotClient, never()).describeRoleAlias(any(DescribeRoleAliasRequest.class));
     }
 
     @Test
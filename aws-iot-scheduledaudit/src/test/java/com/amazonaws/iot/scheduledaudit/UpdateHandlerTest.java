@@ -45,6 +45,7 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateHandlerTest {
@@ -68,6 +69,40 @@ public class UpdateHandlerTest {
     @Spy
     private UpdateHandler handler;
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+
+        ResourceModel previousModel = ResourceModel.builder()
+                .scheduledAuditName(SCHEDULED_AUDIT_NAME)
+                .scheduledAuditArn(SCHEDULED_AUDIT_ARN)
+                .frequency(FREQUENCY)
+                .targetCheckNames(TARGET_CHECK_NAMES)
+                .dayOfWeek(DAY_OF_WEEK)
+                .build();
+        ResourceModel desiredModel = ResourceModel.builder()
+                .scheduledAuditName(SCHEDULED_AUDIT_NAME)
+                .frequency(FREQUENCY)
+                .targetCheckNames(TARGET_CHECK_NAMES)
+                .dayOfWeek(DAY_OF_WEEK)
+                .build();
+        Map<String, String> tags = ImmutableMap.of("TagKey", "TagValue");
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .previousResourceTags(tags)
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(tags)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getScheduledAuditArn()).isEqualTo(SCHEDULED_AUDIT_ARN);
+        verifyZeroInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_BothValueAndTagsAreUpdated_VerifyRequests() {
 
@@ -127,13 +162,13 @@ public class UpdateHandlerTest {
         assertThat(new HashSet<>(submittedUpdateRequest.targetCheckNames())).isEqualTo(TARGET_CHECK_NAMES);
         assertThat(submittedUpdateRequest.dayOfWeek()).isEqualTo(DayOfWeek.fromValue(DAY_OF_WEEK_2));
 
-        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(1);
-        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
-        assertThat(submittedTagRequest.resourceArn()).isEqualTo(SCHEDULED_AUDIT_ARN);
-
-        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(2);
+        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(1);
         assertThat(submittedUntagRequest.tagKeys()).isEqualTo(Collections.singletonList("PreviousTagKey"));
         assertThat(submittedUntagRequest.resourceArn()).isEqualTo(SCHEDULED_AUDIT_ARN);
+
+        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(2);
+        assertThat(submittedTagRequest.tags()).isEqualTo(Collections.singletonList(DESIRED_SDK_RESOURCE_TAG));
+        assertThat(submittedTagRequest.resourceArn()).isEqualTo(SCHEDULED_AUDIT_ARN);
     }
 
 
@@ -0,0 +1,142 @@
+package com.amazonaws.iot.securityprofile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the security profile translations on large models. Run with the "benchmark" profile,
+ * see pom.xml. Allocation rate is reported by the gc profiler (-prof gc).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"10", "100"})
+    private int behaviorCount;
+
+    @Param({"50", "500"})
+    private int tagCount;
+
+    private Set<Behavior> cfnBehaviors;
+    private List<software.amazon.awssdk.services.iot.model.Behavior> iotBehaviors;
+    private Map<String, AlertTarget> cfnAlertTargets;
+    private Map<String, software.amazon.awssdk.services.iot.model.AlertTarget> iotAlertTargets;
+    private Set<MetricToRetain> cfnMetricsToRetain;
+    private Map<String, String> tags;
+
+    @Setup
+    public void setUp() {
+        cfnBehaviors = new HashSet<>();
+        cfnMetricsToRetain = new HashSet<>();
+        for (int i = 0; i < behaviorCount; i++) {
+            cfnBehaviors.add(buildBehavior(i));
+            cfnMetricsToRetain.add(MetricToRetain.builder()
+                    .metric("aws:num-messages-sent-" + i)
+                    .metricDimension(MetricDimension.builder()
+                            .dimensionName("TopicFilter" + i)
+                            .operator("IN")
+                            .build())
+                    .build());
+        }
+        iotBehaviors = new ArrayList<>(Translator.translateBehaviorSetFromCfnToIot(cfnBehaviors));
+
+        cfnAlertTargets = new HashMap<>();
+        cfnAlertTargets.put("SNS", AlertTarget.builder()
+                .alertTargetArn("arn:aws:sns:us-east-1:123456789012:DeviceDefenderAlerts")
+                .roleArn("arn:aws:iam::123456789012:role/DeviceDefenderAlertRole")
+                .build());
+        iotAlertTargets = Translator.translateAlertTargetMapFromCfnToIot(cfnAlertTargets);
+
+        tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.put("tagKey" + i, "tagValue" + i);
+        }
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.iot.model.Behavior> behaviorsFromCfnToIot() {
+        return Translator.translateBehaviorSetFromCfnToIot(cfnBehaviors);
+    }
+
+    @Benchmark
+    public Set<Behavior> behaviorsFromIotToCfn() {
+        return Translator.translateBehaviorListFromIotToCfn(iotBehaviors);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.iot.model.MetricToRetain> metricsToRetainFromCfnToIot() {
+        return Translator.translateMetricToRetainSetFromCfnToIot(cfnMetricsToRetain);
+    }
+
+    @Benchmark
+    public Map<String, software.amazon.awssdk.services.iot.model.AlertTarget> alertTargetsFromCfnToIot() {
+        return Translator.translateAlertTargetMapFromCfnToIot(cfnAlertTargets);
+    }
+
+    @Benchmark
+    public Map<String, AlertTarget> alertTargetsFromIotToCfn() {
+        return Translator.translateAlertTargetMapFromIotToCfn(iotAlertTargets);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.iot.model.Tag> tagsFromCfnToIot() {
+        return Translator.translateTagsFromCfnToIot(tags);
+    }
+
+    private static Behavior buildBehavior(int index) {
+        // Alternate between the metric value shapes so every branch of the MetricValue translation is exercised.
+        MetricValue.MetricValueBuilder metricValue = MetricValue.builder();
+        switch (index % 4) {
+            case 0:
+                metricValue.count(String.valueOf(index * 10L));
+                break;
+            case 1:
+                metricValue.cidrs(new HashSet<>(Arrays.asList("10.0." + index + ".0/24", "192.168.0.0/16")));
+                break;
+            case 2:
+                metricValue.ports(new HashSet<>(Arrays.asList(443, 8883, 1024 + index)));
+                break;
+            default:
+                metricValue.numbers(new HashSet<>(Arrays.asList(1.5, 2.5, (double) index)));
+                break;
+        }
+        return Behavior.builder()
+                .name("Behavior" + index)
+                .metric("aws:message-byte-size")
+                .metricDimension(MetricDimension.builder()
+                        .dimensionName("TopicFilter" + index)
+                        .operator("IN")
+                        .build())
+                .criteria(BehaviorCriteria.builder()
+                        .comparisonOperator("less-than-equals")
+                        .value(metricValue.build())
+                        .durationSeconds(300)
+                        .consecutiveDatapointsToAlarm(2)
+                        .consecutiveDatapointsToClear(2)
+                        .build())
+                .suppressAlerts(index % 2 == 0)
+                .build();
+    }
+}
@@ -2,9 +2,30 @@ package com.amazonaws.iot.securityprofile;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.Set;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+
+    /**
+     * Set once the security profile has been created or updated, so an invocation that resumes the
+     * target attachments does not repeat that call.
+     */
+    private String securityProfileArn;
+
+    /**
+     * Targets still to be attached and detached when an earlier invocation ran out of time or was
+     * throttled.
+     */
+    private Set<String> targetsToAttach;
+    private Set<String> targetsToDetach;
+
+    /**
+     * Throttles this operation has seen recently, and when the last one was, see {@link ThrottleBackoff}.
+     */
+    private int throttles;
+    private long lastThrottledAt;
 }
@@ -1,5 +1,6 @@
 package com.amazonaws.iot.securityprofile;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.RateLimiter;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iot.IotClient;
@@ -16,8 +17,9 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.Set;
 
 public class CreateHandler extends BaseHandler<CallbackContext> {
 
@@ -28,7 +30,7 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
     private final IotClient iotClient;
 
     public CreateHandler() {
-        iotClient = IotClient.builder().build();
+        iotClient = IotClient.builder().overrideConfiguration(RetryBudget.overrideConfiguration()).build();
     }
 
     @Override
@@ -38,55 +40,80 @@ public class CreateHandler extends BaseHandler<CallbackContext> {
             CallbackContext callbackContext,
             Logger logger) {
 
-        CreateSecurityProfileRequest createRequest = translateToCreateRequest(request, logger);
-
         ResourceModel model = request.getDesiredResourceState();
-        if (!StringUtils.isEmpty(model.getSecurityProfileArn())) {
-            logger.log(String.format("Arn is read-only, but the caller passed %s.", model.getSecurityProfileArn()));
-            // Note: this is necessary even though Arn is marked readOnly in the schema.
-            return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
-                    "Arn is a read-only property and cannot be set.");
-        }
+        CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        Deadline deadline = startDeadline();
+
+        // The context has an ARN when an earlier invocation created the profile and then ran out of time
+        // or was throttled attaching it, in which case only the remaining attachments are left to do.
+        if (context.getSecurityProfileArn() == null) {
+            CreateSecurityProfileRequest createRequest = translateToCreateRequest(request, logger);
+
+            if (!StringUtils.isEmpty(model.getSecurityProfileArn())) {
+                logger.log(String.format("Arn is read-only, but the caller passed %s.", model.getSecurityProfileArn()));
+                // Note: this is necessary even though Arn is marked readOnly in the schema.
+                return ProgressEvent.failed(model, callbackContext, HandlerErrorCode.InvalidRequest,
+                        "Arn is a read-only property and cannot be set.");
+            }
 
-        CreateSecurityProfileResponse createResponse;
-        try {
-            createResponse = proxy.injectCredentialsAndInvokeV2(
-                    createRequest, iotClient::createSecurityProfile);
-        } catch (ResourceAlreadyExistsException e) {
-            logger.log(String.format("Resource already exists %s.", model.getSecurityProfileName()));
-            throw new CfnAlreadyExistsException(e);
-        } catch (RuntimeException e) {
-            return Translator.translateExceptionToProgressEvent(model, e, logger);
-        }
+            CreateSecurityProfileResponse createResponse;
+            try {
+                createResponse = proxy.injectCredentialsAndInvokeV2(
+                        createRequest, iotClient::createSecurityProfile);
+            } catch (ResourceAlreadyExistsException e) {
+                logger.log(String.format("Resource already exists %s.", model.getSecurityProfileName()));
+                throw new CfnAlreadyExistsException(e);
+            } catch (RuntimeException e) {
+                return ThrottleBackoff.rescheduleOrFail(model, context, e, logger);
+            }
 
-        model.setSecurityProfileArn(createResponse.securityProfileArn());
-        logger.log("Created " + createResponse.securityProfileArn());
+            context.setSecurityProfileArn(createResponse.securityProfileArn());
+            context.setTargetsToAttach(model.getTargetArns() == null ?
+                    new HashSet<>() : new HashSet<>(model.getTargetArns()));
+            logger.log("Created " + createResponse.securityProfileArn());
+        }
 
         // We're letting customers manage Security Profile attachments in the same CFN template,
         // using the TargetArns field. Thus, we need to make an AttachSecurityProfile call for every target.
-        Set<String> targetArns = model.getTargetArns();
-        if (targetArns != null) {
-            // The number of targets can be large, we need to avoid getting throttled.
-            RateLimiter rateLimiter = RateLimiter.create(MAX_CALLS_PER_SECOND_LIMIT);
-            for (String targetArn : targetArns) {
+        // The number of targets can be large, we need to avoid getting throttled.
+        RateLimiter rateLimiter = RateLimiter.create(MAX_CALLS_PER_SECOND_LIMIT);
+        HandlerLog log = new HandlerLog(logger);
+        try (HandlerLog.Summary attached = log.summary("targets.attached",
+                "securityProfile", model.getSecurityProfileName())) {
+            Iterator<String> targetArns = context.getTargetsToAttach().iterator();
+            while (targetArns.hasNext()) {
+                if (deadline.shouldCheckpoint()) {
+                    log.info("checkpoint", "securityProfile", model.getSecurityProfileName(),
+                            "targetsLeft", context.getTargetsToAttach().size());
+                    return ProgressEvent.defaultInProgressHandler(context, Deadline.RESUME_DELAY_SECONDS, model);
+                }
                 rateLimiter.acquire();
 
+                String targetArn = targetArns.next();
                 AttachSecurityProfileRequest attachRequest = AttachSecurityProfileRequest.builder()
                         .securityProfileName(model.getSecurityProfileName())
                         .securityProfileTargetArn(targetArn)
                         .build();
                 try {
-                    proxy.injectCredentialsAndInvokeV2(attachRequest, iotClient::attachSecurityProfile);
+                    proxy.injectCredentialsAndInvokeV2(deadline.bound(attachRequest), iotClient::attachSecurityProfile);
                 } catch (RuntimeException e) {
-                    return Translator.translateExceptionToProgressEvent(model, e, logger);
+                    return ThrottleBackoff.rescheduleOrFail(model, context, e, logger);
                 }
-                logger.log("Attached the security profile to " + targetArn);
+                targetArns.remove();
+                attached.record(targetArn);
+                log.debug("target.attached", "securityProfile", model.getSecurityProfileName(), "target", targetArn);
             }
         }
 
+        model.setSecurityProfileArn(context.getSecurityProfileArn());
         return ProgressEvent.defaultSuccessHandler(model);
     }
 
+    @VisibleForTesting
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
     private CreateSecurityProfileRequest translateToCreateRequest(
             ResourceHandlerRequest<ResourceModel> request,
             Logger logger) {
@@ -18,7 +18,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
     private final IotClient iotClient;
 
     public DeleteHandler() {
-        iotClient = IotClient.builder().build();
+        iotClient = IotClient.builder().overrideConfiguration(RetryBudget.overrideConfiguration()).build();
     }
 
     @Override
@@ -29,6 +29,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             Logger logger) {
 
         ResourceModel model = request.getDesiredResourceState();
+        CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
 
         // From https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
         // "A delete handler MUST return FAILED with a NotFound error code if the
@@ -59,7 +60,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
             // If the resource doesn't exist, DescribeSecurityProfile will throw NotFoundException,
             // and we'll return FAILED with HandlerErrorCode.NotFound.
             // CFN (the caller) will swallow the "failure" and the customer will see success.
-            return Translator.translateExceptionToProgressEvent(model, e, logger);
+            return ThrottleBackoff.rescheduleOrFail(model, context, e, logger);
         }
         logger.log(String.format("Called Describe for %s with name %s, accountId %s.",
                 ResourceModel.TYPE_NAME, securityProfileName, request.getAwsAccountId()));
@@ -70,7 +71,7 @@ public class DeleteHandler extends BaseHandler<CallbackContext> {
         try {
             proxy.injectCredentialsAndInvokeV2(deleteRequest, iotClient::deleteSecurityProfile);
         } catch (RuntimeException e) {
-            return Translator.translateExceptionToProgressEvent(model, e, logger);
+            return ThrottleBackoff.rescheduleOrFail(model, context, e, logger);
         }
 
         logger.log(String.format("Deleted %s with name %s, accountId %s.",
@@ -0,0 +1,192 @@
+package com.amazonaws.iot.securityprofile;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Leveled, structured lines over the rpdk Logger, formatted only when they are logged.
+ *
+ * A line is {@code level=INFO event=target.attached securityProfile=name target=arn}: the event
+ * followed by key/value pairs. Nothing is formatted for a level below LOG_LEVEL (INFO unless the
+ * environment variable says otherwise), and a value given as a {@link Supplier} is not even computed.
+ *
+ * Loops that make a call per item log each item at DEBUG and one {@link Summary} line at INFO when
+ * they are done. Messages that repeat across invocations, like the stack trace of every throttle in
+ * a throttling storm, go through {@link #sampled}.
+ */
+final class HandlerLog {
+
+    enum Level {
+        DEBUG, INFO, WARN, ERROR;
+
+        static Level parse(final String level) {
+            if (level != null) {
+                for (final Level candidate : values()) {
+                    if (candidate.name().equals(level.trim().toUpperCase(Locale.ROOT))) {
+                        return candidate;
+                    }
+                }
+            }
+            return INFO;
+        }
+    }
+
+    static final String LEVEL_VARIABLE = "LOG_LEVEL";
+
+    /**
+     * {@link #sampled} logs the first occurrence and then every SAMPLE_EVERY-th one.
+     */
+    static final long SAMPLE_EVERY = 100;
+
+    /**
+     * Items a {@link Summary} names before it only counts them.
+     */
+    static final int SUMMARY_ITEMS = 5;
+
+    private static final Level THRESHOLD = Level.parse(System.getenv(LEVEL_VARIABLE));
+
+    private static final ConcurrentMap<String, AtomicLong> OCCURRENCES = new ConcurrentHashMap<>();
+
+    private final Logger logger;
+    private final Level threshold;
+
+    HandlerLog(final Logger logger) {
+        this(logger, THRESHOLD);
+    }
+
+    HandlerLog(final Logger logger, final Level threshold) {
+        this.logger = logger;
+        this.threshold = threshold;
+    }
+
+    boolean isEnabled(final Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    void debug(final String event, final Object... fields) {
+        log(Level.DEBUG, event, fields);
+    }
+
+    void info(final String event, final Object... fields) {
+        log(Level.INFO, event, fields);
+    }
+
+    void log(final Level level, final String event, final Object... fields) {
+        if (isEnabled(level)) {
+            logger.log(format(level, event, fields));
+        }
+    }
+
+    /**
+     * Logs the first and every {@link #SAMPLE_EVERY}-th occurrence of {@code key} in this JVM, with
+     * an {@code occurrences} field counting all of them.
+     */
+    void sampled(final String key, final Level level, final String event, final Object... fields) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        final long occurrence = OCCURRENCES.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        if (occurrence % SAMPLE_EVERY != 1) {
+            return;
+        }
+        final Object[] sampledFields = new Object[fields.length + 2];
+        System.arraycopy(fields, 0, sampledFields, 0, fields.length);
+        sampledFields[fields.length] = "occurrences";
+        sampledFields[fields.length + 1] = occurrence;
+        logger.log(format(level, event, sampledFields));
+    }
+
+    /**
+     * @return a summary that logs {@code event} at INFO once, on close, if anything was recorded
+     */
+    Summary summary(final String event, final Object... fields) {
+        return new Summary(event, fields);
+    }
+
+    static void resetSampling() {
+        OCCURRENCES.clear();
+    }
+
+    static String format(final Level level, final String event, final Object... fields) {
+        final StringBuilder line = new StringBuilder(64)
+                .append("level=").append(level.name())
+                .append(" event=").append(event);
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            line.append(' ').append(fields[i]).append('=');
+            appendValue(line, fields[i + 1]);
+        }
+        return line.toString();
+    }
+
+    private static void appendValue(final StringBuilder line, final Object field) {
+        final Object value = field instanceof Supplier ? ((Supplier<?>) field).get() : field;
+        final String text = String.valueOf(value);
+        if (!text.isEmpty() && text.chars().noneMatch(c -> c == ' ' || c == '"' || c == '=' || c == '\n')) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\n') {
+                line.append("\\n");
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * Counts the items of a bulk loop and names the first few of them.
+     */
+    final class Summary implements AutoCloseable {
+
+        private final String event;
+        private final Object[] fields;
+        private final List<Object> items = new ArrayList<>(SUMMARY_ITEMS);
+        private final long startedAt = System.nanoTime();
+        private int count;
+
+        private Summary(final String event, final Object[] fields) {
+            this.event = event;
+            this.fields = fields;
+        }
+
+        void record(final Object item) {
+            if (items.size() < SUMMARY_ITEMS) {
+                items.add(item);
+            }
+            count++;
+        }
+
+        int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (count == 0 || !isEnabled(Level.INFO)) {
+                return;
+            }
+            final Object[] summaryFields = new Object[fields.length + 6];
+            System.arraycopy(fields, 0, summaryFields, 0, fields.length);
+            summaryFields[fields.length] = "count";
+            summaryFields[fields.length + 1] = count;
+            summaryFields[fields.length + 2] = "items";
+            summaryFields[fields.length + 3] = count > items.size() ? items + "+" + (count - items.size()) : items;
+            summaryFields[fields.length + 4] = "elapsedMs";
+            summaryFields[fields.length + 5] = (System.nanoTime() - startedAt) / 1_000_000;
+            logger.log(format(Level.INFO, event, summaryFields));
+        }
+    }
+}
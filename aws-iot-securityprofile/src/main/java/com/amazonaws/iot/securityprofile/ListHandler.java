@@ -1,11 +1,16 @@
 package com.amazonaws.iot.securityprofile;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DescribeSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.DescribeSecurityProfileResponse;
 import software.amazon.awssdk.services.iot.model.ListSecurityProfilesRequest;
 import software.amazon.awssdk.services.iot.model.ListSecurityProfilesResponse;
+import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -17,7 +22,7 @@ public class ListHandler extends BaseHandler<CallbackContext> {
     private final IotClient iotClient;
 
     public ListHandler() {
-        iotClient = IotClient.builder().build();
+        iotClient = IotClient.builder().overrideConfiguration(RetryBudget.overrideConfiguration()).build();
     }
 
     @Override
@@ -27,24 +32,29 @@ public class ListHandler extends BaseHandler<CallbackContext> {
             CallbackContext callbackContext,
             Logger logger) {
 
-        ListSecurityProfilesRequest listRequest = ListSecurityProfilesRequest.builder()
-                .nextToken(request.getNextToken())
-                .build();
+        ResourceModel desiredModel = request.getDesiredResourceState();
+        ListSecurityProfilesRequest listRequest = Translator.translateToListRequest(
+                desiredModel, request.getNextToken());
 
         ListSecurityProfilesResponse listSecurityProfilesResponse;
+        List<ResourceModel> models;
         try {
             listSecurityProfilesResponse = proxy.injectCredentialsAndInvokeV2(
                     listRequest, iotClient::listSecurityProfiles);
+            // The listing carries only names, so behaviors the request could not filter on are
+            // checked against each profile's description.
+            boolean listsOnlyMatches = Translator.listsOnlyMatches(desiredModel);
+            models = listSecurityProfilesResponse.securityProfileIdentifiers().stream()
+                    .filter(identifier -> listsOnlyMatches
+                            || Translator.hasBehaviorsOf(desiredModel, describeBehaviors(proxy, identifier.name())))
+                    .map(identifier -> ResourceModel.builder()
+                            .securityProfileName(identifier.name())
+                            .build())
+                    .collect(Collectors.toList());
         } catch (RuntimeException e) {
-            return Translator.translateExceptionToProgressEvent(request.getDesiredResourceState(), e, logger);
+            return Translator.translateExceptionToProgressEvent(desiredModel, e, logger);
         }
 
-        List<ResourceModel> models = listSecurityProfilesResponse.securityProfileIdentifiers().stream()
-                .map(identifier -> ResourceModel.builder()
-                        .securityProfileName(identifier.name())
-                        .build())
-                .collect(Collectors.toList());
-
         logger.log(String.format("Listed %s resources for accountId %s.",
                 ResourceModel.TYPE_NAME, request.getAwsAccountId()));
 
@@ -54,4 +64,18 @@ public class ListHandler extends BaseHandler<CallbackContext> {
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
+
+    private Set<Behavior> describeBehaviors(AmazonWebServicesClientProxy proxy, String securityProfileName) {
+        DescribeSecurityProfileRequest describeRequest = DescribeSecurityProfileRequest.builder()
+                .securityProfileName(securityProfileName)
+                .build();
+        try {
+            DescribeSecurityProfileResponse describeResponse = proxy.injectCredentialsAndInvokeV2(
+                    describeRequest, iotClient::describeSecurityProfile);
+            return Translator.translateBehaviorListFromIotToCfn(describeResponse.behaviors());
+        } catch (ResourceNotFoundException e) {
+            // Deleted since it was listed.
+            return Collections.emptySet();
+        }
+    }
 }
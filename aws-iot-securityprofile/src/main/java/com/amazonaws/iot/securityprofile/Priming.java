@@ -0,0 +1,184 @@
+package com.amazonaws.iot.securityprofile;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.AttachSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.CreateSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.DeleteSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.DescribeSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.DetachSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.ListSecurityProfilesRequest;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iot.model.ListTargetsForSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.TagResourceRequest;
+import software.amazon.awssdk.services.iot.model.UntagResourceRequest;
+import software.amazon.awssdk.services.iot.model.UpdateSecurityProfileRequest;
+import software.amazon.cloudformation.resource.Serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Warms what the first request would otherwise initialize lazily: the SDK marshallers and
+ * unmarshallers of the operations the handlers call, Translator, and the Jackson serializers the
+ * wrapper uses for ResourceModel and CallbackContext. Calls go to a transport that answers with an
+ * empty JSON document, so nothing leaves the sandbox.
+ *
+ * Priming only runs while Lambda initializes a SnapStart snapshot; on-demand cold starts skip it.
+ */
+final class Priming {
+
+    static final String INITIALIZATION_TYPE = "AWS_LAMBDA_INITIALIZATION_TYPE";
+    static final String SNAP_START = "snap-start";
+
+    private Priming() {
+    }
+
+    static void primeForSnapshot() {
+        if (!SNAP_START.equals(System.getenv(INITIALIZATION_TYPE))) {
+            return;
+        }
+        try {
+            prime();
+        } catch (final Exception e) {
+            // Best effort: a failed priming only costs the first restored request its warm start.
+            // No handler Logger exists yet while the snapshot initializes, so the failure is dropped.
+        }
+    }
+
+    /**
+     * @return number of SDK calls sent through the no-op transport
+     */
+    static int prime() throws IOException {
+        final Map<String, String> tags = Collections.singletonMap("priming", "priming");
+        final String arn = "arn:aws:iot:us-east-1:123456789012:securityprofile/priming";
+        final String target = "arn:aws:iot:us-east-1:123456789012:all/registered-things";
+        final ResourceModel model = ResourceModel.builder()
+                .securityProfileName("priming")
+                .securityProfileDescription("priming")
+                .behaviors(Collections.singleton(Behavior.builder()
+                        .name("priming")
+                        .metric("aws:num-messages-sent")
+                        .criteria(BehaviorCriteria.builder()
+                                .comparisonOperator("less-than")
+                                .value(MetricValue.builder().count("10").build())
+                                .durationSeconds(300)
+                                .build())
+                        .build()))
+                .alertTargets(Collections.singletonMap("SNS", AlertTarget.builder()
+                        .alertTargetArn("arn:aws:sns:us-east-1:123456789012:priming")
+                        .roleArn("arn:aws:iam::123456789012:role/priming")
+                        .build()))
+                .targetArns(Collections.singleton(target))
+                .build();
+
+        final NoOpHttpClient httpClient = new NoOpHttpClient();
+        try (IotClient client = newClient(httpClient)) {
+            client.createSecurityProfile(CreateSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .securityProfileDescription(model.getSecurityProfileDescription())
+                    .behaviors(Translator.translateBehaviorSetFromCfnToIot(model.getBehaviors()))
+                    .alertTargetsWithStrings(Translator.translateAlertTargetMapFromCfnToIot(model.getAlertTargets()))
+                    .tags(Translator.translateTagsFromCfnToIot(tags))
+                    .build());
+            client.describeSecurityProfile(DescribeSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .build());
+            client.updateSecurityProfile(UpdateSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .securityProfileDescription(model.getSecurityProfileDescription())
+                    .behaviors(Translator.translateBehaviorSetFromCfnToIot(model.getBehaviors()))
+                    .alertTargetsWithStrings(Translator.translateAlertTargetMapFromCfnToIot(model.getAlertTargets()))
+                    .build());
+            client.attachSecurityProfile(AttachSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .securityProfileTargetArn(target)
+                    .build());
+            client.listTargetsForSecurityProfile(ListTargetsForSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .build());
+            client.detachSecurityProfile(DetachSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .securityProfileTargetArn(target)
+                    .build());
+            client.deleteSecurityProfile(DeleteSecurityProfileRequest.builder()
+                    .securityProfileName(model.getSecurityProfileName())
+                    .build());
+            client.listSecurityProfiles(ListSecurityProfilesRequest.builder().build());
+            client.listTagsForResource(ListTagsForResourceRequest.builder().resourceArn(arn).build());
+            client.tagResource(TagResourceRequest.builder()
+                    .resourceArn(arn)
+                    .tags(Translator.translateTagsFromCfnToIot(tags))
+                    .build());
+            client.untagResource(UntagResourceRequest.builder()
+                    .resourceArn(arn)
+                    .tagKeys(tags.keySet())
+                    .build());
+        }
+        Translator.translateBehaviorListFromIotToCfn(
+                new ArrayList<>(Translator.translateBehaviorSetFromCfnToIot(model.getBehaviors())));
+        Translator.translateAlertTargetMapFromIotToCfn(
+                Translator.translateAlertTargetMapFromCfnToIot(model.getAlertTargets()));
+        Translator.translateTagsFromIotToCfn(Translator.translateTagsFromCfnToIot(tags));
+
+        final Serializer serializer = new Serializer();
+        serializer.deserialize(serializer.serialize(model), new TypeReference<ResourceModel>() {});
+        serializer.deserialize(serializer.serialize(new CallbackContext()), new TypeReference<CallbackContext>() {});
+        return httpClient.calls;
+    }
+
+    private static IotClient newClient(final SdkHttpClient httpClient) {
+        return IotClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("priming", "priming")))
+                .build();
+    }
+
+    /**
+     * Answers every request with 200 and an empty JSON object.
+     */
+    static final class NoOpHttpClient implements SdkHttpClient {
+
+        private int calls;
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    calls++;
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder()
+                                    .statusCode(200)
+                                    .putHeader("Content-Type", "application/json")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(
+                                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class ReadHandler extends BaseHandler<CallbackContext> {
     private final IotClient iotClient;
 
     public ReadHandler() {
-        iotClient = IotClient.builder().build();
+        iotClient = IotClient.builder().overrideConfiguration(RetryBudget.overrideConfiguration()).build();
     }
 
     @Override
@@ -0,0 +1,97 @@
+package com.amazonaws.iot.securityprofile;
+
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Turns a throttled step into IN_PROGRESS instead of a failure.
+ *
+ * A throttled request was not carried out, and the CallbackContext keeps the profile's
+ * ARN and the targets still to attach or detach, so invoking the handler again with the same context
+ * picks up at the throttled call.
+ * The delay doubles with every throttle the operation has seen recently, up to a cap, and half of it
+ * is random so that resources throttled together do not all come back at once. Once an operation
+ * has been rescheduled {@link #MAX_RESCHEDULES} times in a row the throttle fails it as before.
+ */
+final class ThrottleBackoff {
+
+    static final int BASE_DELAY_SECONDS = 5;
+    static final int MAX_DELAY_SECONDS = 60;
+    static final int MAX_RESCHEDULES = 8;
+
+    /**
+     * A throttle this long after the previous one starts the count over.
+     */
+    static final Duration QUIET_PERIOD = Duration.ofMinutes(5);
+
+    private ThrottleBackoff() {
+    }
+
+    /**
+     * @return an IN_PROGRESS event that calls the handler back after a delay, or empty when the
+     *         operation has been rescheduled too often and should fail
+     */
+    static Optional<ProgressEvent<ResourceModel, CallbackContext>> reschedule(
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        return reschedule(model, callbackContext, Clock.systemUTC(), logger);
+    }
+
+    static Optional<ProgressEvent<ResourceModel, CallbackContext>> reschedule(
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final Clock clock,
+            final Logger logger) {
+        final long now = clock.millis();
+        int throttles = callbackContext.getThrottles();
+        if (now - callbackContext.getLastThrottledAt() > QUIET_PERIOD.toMillis()) {
+            throttles = 0;
+        }
+        if (throttles >= MAX_RESCHEDULES) {
+            logger.log(String.format("%s still throttled after %d attempts, failing.", ResourceModel.TYPE_NAME, throttles));
+            return Optional.empty();
+        }
+        throttles++;
+        callbackContext.setThrottles(throttles);
+        callbackContext.setLastThrottledAt(now);
+
+        final int delaySeconds = delaySeconds(throttles);
+        logger.log(String.format("%s throttled %d times, calling back in %d seconds.",
+                ResourceModel.TYPE_NAME, throttles, delaySeconds));
+        return Optional.of(ProgressEvent.defaultInProgressHandler(callbackContext, delaySeconds, model));
+    }
+
+    /**
+     * @return an IN_PROGRESS event if the exception is a throttle that can still be rescheduled,
+     *         otherwise the failure it translates to
+     */
+    static ProgressEvent<ResourceModel, CallbackContext> rescheduleOrFail(
+            final ResourceModel model,
+            final CallbackContext callbackContext,
+            final Exception e,
+            final Logger logger) {
+        if (e instanceof ThrottlingException) {
+            final Optional<ProgressEvent<ResourceModel, CallbackContext>> rescheduled =
+                    reschedule(model, callbackContext, logger);
+            if (rescheduled.isPresent()) {
+                return rescheduled.get();
+            }
+        }
+        return Translator.translateExceptionToProgressEvent(model, e, logger);
+    }
+
+    /**
+     * @return a delay between half of and the full capped exponential delay for the given throttle
+     */
+    static int delaySeconds(final int throttles) {
+        final int ceiling = Math.min(MAX_DELAY_SECONDS, BASE_DELAY_SECONDS << Math.min(throttles - 1, 4));
+        return ceiling / 2 + ThreadLocalRandom.current().nextInt(ceiling / 2 + 1);
+    }
+}
@@ -6,6 +6,7 @@ import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.LimitExceededException;
+import software.amazon.awssdk.services.iot.model.ListSecurityProfilesRequest;
 import software.amazon.awssdk.services.iot.model.ResourceAlreadyExistsException;
 import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iot.model.Tag;
@@ -20,11 +21,95 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 public class Translator {
 
+    /**
+     * Page size for listings that {@link #listsOnlyMatches} cannot serve alone, since every listed
+     * profile is then described.
+     */
+    static final int FILTERED_LIST_PAGE_SIZE = 25;
+
+    /**
+     * ListSecurityProfiles filters on one metric or on one dimension, not both. When every behavior
+     * of the model that names a metric names the same one, only profiles with a behavior on that
+     * metric are listed; failing that, the same goes for a single dimension.
+     */
+    static ListSecurityProfilesRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+        final ListSecurityProfilesRequest.Builder builder = ListSecurityProfilesRequest.builder()
+                .nextToken(nextToken);
+        if (model == null || model.getBehaviors() == null) {
+            return builder.build();
+        }
+        builder.metricName(listedMetric(model.getBehaviors()))
+                .dimensionName(listedDimension(model.getBehaviors()));
+        if (!listsOnlyMatches(model)) {
+            builder.maxResults(FILTERED_LIST_PAGE_SIZE);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return whether every profile listed by {@link #translateToListRequest} has the model's
+     *         behaviors. Otherwise the listed profiles are checked with {@link #hasBehaviorsOf}.
+     */
+    static boolean listsOnlyMatches(final ResourceModel model) {
+        if (model == null || model.getBehaviors() == null) {
+            return true;
+        }
+        final String metric = listedMetric(model.getBehaviors());
+        final String dimension = listedDimension(model.getBehaviors());
+        return model.getBehaviors().stream().allMatch(behavior -> {
+            final String behaviorDimension = dimensionNameOf(behavior);
+            if (behaviorDimension == null) {
+                return behavior.getMetric() == null || behavior.getMetric().equals(metric);
+            }
+            return behavior.getMetric() == null && behaviorDimension.equals(dimension);
+        });
+    }
+
+    /**
+     * A profile has the model's behaviors when each behavior of the model that names a metric or a
+     * dimension has a behavior of the profile on the same metric and dimension.
+     */
+    static boolean hasBehaviorsOf(final ResourceModel model, final Set<Behavior> profileBehaviors) {
+        if (model == null || model.getBehaviors() == null) {
+            return true;
+        }
+        return model.getBehaviors().stream().allMatch(behavior -> profileBehaviors.stream().anyMatch(
+                profileBehavior -> (behavior.getMetric() == null
+                        || behavior.getMetric().equals(profileBehavior.getMetric()))
+                        && (dimensionNameOf(behavior) == null
+                        || dimensionNameOf(behavior).equals(dimensionNameOf(profileBehavior)))));
+    }
+
+    private static String listedMetric(final Set<Behavior> behaviors) {
+        final Set<String> metrics = behaviors.stream()
+                .map(Behavior::getMetric)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return metrics.size() == 1 ? metrics.iterator().next() : null;
+    }
+
+    private static String listedDimension(final Set<Behavior> behaviors) {
+        if (listedMetric(behaviors) != null) {
+            return null;
+        }
+        final Set<String> dimensions = behaviors.stream()
+                .map(Translator::dimensionNameOf)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        return dimensions.size() == 1 ? dimensions.iterator().next() : null;
+    }
+
+    private static String dimensionNameOf(final Behavior behavior) {
+        return behavior.getMetricDimension() == null ? null : behavior.getMetricDimension().getDimensionName();
+    }
+
     static Set<software.amazon.awssdk.services.iot.model.Behavior> translateBehaviorSetFromCfnToIot(
             Set<Behavior> cfnBehaviors) {
         if (cfnBehaviors == null) {
@@ -344,8 +429,17 @@ public class Translator {
 
     static HandlerErrorCode translateExceptionToErrorCode(Exception e, Logger logger) {
 
-        logger.log(String.format("Translating exception \"%s\", stack trace: %s",
-                e.getMessage(), ExceptionUtils.getStackTrace(e)));
+        HandlerLog log = new HandlerLog(logger);
+        Object[] fields = {
+                "exception", e.getClass().getSimpleName(),
+                "message", e.getMessage(),
+                "stackTrace", (Supplier<String>) () -> ExceptionUtils.getStackTrace(e)};
+        if (e instanceof ThrottlingException) {
+            // Every invocation can be throttled during an incident, and each line carries a stack trace.
+            log.sampled("exception.throttled", HandlerLog.Level.INFO, "exception.translated", fields);
+        } else {
+            log.info("exception.translated", fields);
+        }
 
         // We're handling all the exceptions documented in API docs
         // https://docs.aws.amazon.com/iot/latest/apireference/API_CreateSecurityProfile.html
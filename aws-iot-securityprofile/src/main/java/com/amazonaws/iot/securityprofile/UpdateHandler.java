@@ -2,7 +2,8 @@ package com.amazonaws.iot.securityprofile;
 
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -15,8 +16,6 @@ import software.amazon.awssdk.services.iot.model.AttachSecurityProfileRequest;
 import software.amazon.awssdk.services.iot.model.DetachSecurityProfileRequest;
 import software.amazon.awssdk.services.iot.model.MetricToRetain;
 import software.amazon.awssdk.services.iot.model.Tag;
-import software.amazon.awssdk.services.iot.model.TagResourceRequest;
-import software.amazon.awssdk.services.iot.model.UntagResourceRequest;
 import software.amazon.awssdk.services.iot.model.UpdateSecurityProfileRequest;
 import software.amazon.awssdk.services.iot.model.UpdateSecurityProfileResponse;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -34,7 +33,7 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
     private static final int MAX_CALLS_PER_SECOND_LIMIT = 5;
 
     public UpdateHandler() {
-        iotClient = IotClient.builder().build();
+        iotClient = IotClient.builder().overrideConfiguration(RetryBudget.overrideConfiguration()).build();
     }
 
     @Override
@@ -52,25 +51,41 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
                     "Arn cannot be updated.");
         }
 
-        String securityProfileArn;
-        try {
-            securityProfileArn = updateSecurityProfile(proxy, desiredModel, logger);
-        } catch (RuntimeException e) {
-            return Translator.translateExceptionToProgressEvent(desiredModel, e, logger);
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, desiredModel.getSecurityProfileName()));
+            return ProgressEvent.defaultSuccessHandler(
+                    ResourceModelDiff.withReadOnlyProperties(desiredModel, request.getPreviousResourceState()));
+        }
+
+        CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        Deadline deadline = startDeadline();
+
+        // The context has an ARN when an earlier invocation updated the profile and then ran out of time
+        // or was throttled, in which case it resumes with the attachments and tags.
+        String securityProfileArn = context.getSecurityProfileArn();
+        if (securityProfileArn == null) {
+            try {
+                securityProfileArn = updateSecurityProfile(proxy, desiredModel, logger);
+            } catch (RuntimeException e) {
+                return ThrottleBackoff.rescheduleOrFail(desiredModel, context, e, logger);
+            }
+            context.setSecurityProfileArn(securityProfileArn);
         }
 
         // Security profile targets are managed by separate APIs, not UpdateSecurityProfile.
         try {
-            updateTargetAttachments(proxy, desiredModel, logger);
+            if (!updateTargetAttachments(proxy, desiredModel, context, deadline, logger)) {
+                return ProgressEvent.defaultInProgressHandler(context, Deadline.RESUME_DELAY_SECONDS, desiredModel);
+            }
         } catch (RuntimeException e) {
-            return Translator.translateExceptionToProgressEvent(desiredModel, e, logger);
+            return ThrottleBackoff.rescheduleOrFail(desiredModel, context, e, logger);
         }
 
         // Same for tags.
         try {
             updateTags(proxy, request, securityProfileArn, logger);
         } catch (RuntimeException e) {
-            return Translator.translateExceptionToProgressEvent(desiredModel, e, logger);
+            return ThrottleBackoff.rescheduleOrFail(desiredModel, context, e, logger);
         }
 
         desiredModel.setSecurityProfileArn(securityProfileArn);
@@ -137,52 +152,83 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         return arn;
     }
 
-    void updateTargetAttachments(AmazonWebServicesClientProxy proxy,
-                                 ResourceModel model,
-                                 Logger logger) {
+    /**
+     * Attaches and detaches targets until the model's targets are attached, or until the invocation
+     * is about to run out of time. The targets left to do are kept in the context, and a later call
+     * with the same context carries on from there.
+     *
+     * @return true once every target has been attached or detached
+     */
+    boolean updateTargetAttachments(AmazonWebServicesClientProxy proxy,
+                                    ResourceModel model,
+                                    CallbackContext callbackContext,
+                                    Deadline deadline,
+                                    Logger logger) {
 
         String securityProfileName = model.getSecurityProfileName();
-        // Note: we're intentionally getting current attachments by calling ListTargetsForSecurityProfile
-        // rather than getting the previous state from CFN. This is in order to overwrite out-of-band changes.
-        // We have the same behavior in all Device Defender UpdateHandlers with regards to out-of-band updates.
-        Set<String> currentTargets = listTargetsForSecurityProfile(proxy, securityProfileName);
-
-        Set<String> desiredTargets;
-        if (model.getTargetArns() == null) {
-            desiredTargets = Collections.emptySet();
-        } else {
-            desiredTargets = model.getTargetArns();
+        if (callbackContext.getTargetsToAttach() == null) {
+            // Note: we're intentionally getting current attachments by calling ListTargetsForSecurityProfile
+            // rather than getting the previous state from CFN. This is in order to overwrite out-of-band changes.
+            // We have the same behavior in all Device Defender UpdateHandlers with regards to out-of-band updates.
+            Set<String> currentTargets = listTargetsForSecurityProfile(proxy, securityProfileName);
+
+            Set<String> desiredTargets;
+            if (model.getTargetArns() == null) {
+                desiredTargets = Collections.emptySet();
+            } else {
+                desiredTargets = model.getTargetArns();
+            }
+
+            callbackContext.setTargetsToAttach(desiredTargets.stream()
+                    .filter(target -> !currentTargets.contains(target))
+                    .collect(Collectors.toCollection(HashSet::new)));
+            callbackContext.setTargetsToDetach(currentTargets.stream()
+                    .filter(target -> !desiredTargets.contains(target))
+                    .collect(Collectors.toCollection(HashSet::new)));
         }
 
-        Set<String> targetsToAttach = desiredTargets.stream()
-                .filter(target -> !currentTargets.contains(target))
-                .collect(Collectors.toSet());
-        Set<String> targetsToDetach = currentTargets.stream()
-                .filter(target -> !desiredTargets.contains(target))
-                .collect(Collectors.toSet());
-
         // The number of targets can be large, we need to avoid getting throttled.
         RateLimiter rateLimiter = RateLimiter.create(MAX_CALLS_PER_SECOND_LIMIT);
-
-        for (String targetArn : targetsToAttach) {
-            rateLimiter.acquire();
-            AttachSecurityProfileRequest attachRequest = AttachSecurityProfileRequest.builder()
-                    .securityProfileName(securityProfileName)
-                    .securityProfileTargetArn(targetArn)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(attachRequest, iotClient::attachSecurityProfile);
-            logger.log("Attached " + securityProfileName + " to " + targetArn);
+        HandlerLog log = new HandlerLog(logger);
+
+        try (HandlerLog.Summary attached = log.summary("targets.attached", "securityProfile", securityProfileName)) {
+            Iterator<String> targetsToAttach = callbackContext.getTargetsToAttach().iterator();
+            while (targetsToAttach.hasNext()) {
+                if (deadline.shouldCheckpoint()) {
+                    return false;
+                }
+                rateLimiter.acquire();
+                String targetArn = targetsToAttach.next();
+                AttachSecurityProfileRequest attachRequest = AttachSecurityProfileRequest.builder()
+                        .securityProfileName(securityProfileName)
+                        .securityProfileTargetArn(targetArn)
+                        .build();
+                proxy.injectCredentialsAndInvokeV2(deadline.bound(attachRequest), iotClient::attachSecurityProfile);
+                targetsToAttach.remove();
+                attached.record(targetArn);
+                log.debug("target.attached", "securityProfile", securityProfileName, "target", targetArn);
+            }
         }
 
-        for (String targetArn : targetsToDetach) {
-            rateLimiter.acquire();
-            DetachSecurityProfileRequest detachRequest = DetachSecurityProfileRequest.builder()
-                    .securityProfileName(securityProfileName)
-                    .securityProfileTargetArn(targetArn)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(detachRequest, iotClient::detachSecurityProfile);
-            logger.log("Detached " + securityProfileName + " from " + targetArn);
+        try (HandlerLog.Summary detached = log.summary("targets.detached", "securityProfile", securityProfileName)) {
+            Iterator<String> targetsToDetach = callbackContext.getTargetsToDetach().iterator();
+            while (targetsToDetach.hasNext()) {
+                if (deadline.shouldCheckpoint()) {
+                    return false;
+                }
+                rateLimiter.acquire();
+                String targetArn = targetsToDetach.next();
+                DetachSecurityProfileRequest detachRequest = DetachSecurityProfileRequest.builder()
+                        .securityProfileName(securityProfileName)
+                        .securityProfileTargetArn(targetArn)
+                        .build();
+                proxy.injectCredentialsAndInvokeV2(deadline.bound(detachRequest), iotClient::detachSecurityProfile);
+                targetsToDetach.remove();
+                detached.record(targetArn);
+                log.debug("target.detached", "securityProfile", securityProfileName, "target", targetArn);
+            }
         }
+        return true;
     }
 
     void updateTags(AmazonWebServicesClientProxy proxy,
@@ -197,53 +243,10 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         // Yet we should, otherwise the resource wouldn't equate the template.
         Set<Tag> currentTags = listTags(proxy, resourceArn);
 
-        // Combine all tags in one map that we'll use for the request
-        Map<String, String> allDesiredTagsMap = new HashMap<>();
-        if (request.getDesiredResourceTags() != null) {
-            // DesiredResourceTags includes both model and stack-level tags.
-            // Reference: https://tinyurl.com/yyxtd7w6
-            allDesiredTagsMap.putAll(request.getDesiredResourceTags());
-        }
-        if (request.getSystemTags() != null) {
-            // There are also system tags provided separately.
-            // SystemTags are the default stack-level tags with aws:cloudformation prefix.
-            allDesiredTagsMap.putAll(request.getSystemTags());
-        } else {
-            // System tags should never get updated as they are the stack id, stack name,
-            // and logical resource id.
-            logger.log("Unexpectedly, system tags are null in the update request for " + resourceArn);
-        }
-
-        Set<Tag> desiredTags = Translator.translateTagsFromCfnToIot(allDesiredTagsMap);
-        Set<String> desiredTagKeys = desiredTags.stream()
-                .map(Tag::key)
-                .collect(Collectors.toSet());
-
-        Set<String> tagKeysToDetach = currentTags.stream()
-                .filter(tag -> !desiredTagKeys.contains(tag.key()))
-                .map(Tag::key)
-                .collect(Collectors.toSet());
-        Set<Tag> tagsToAttach = desiredTags.stream()
-                .filter(tag -> !currentTags.contains(tag))
-                .collect(Collectors.toSet());
-
-        if (!tagsToAttach.isEmpty()) {
-            TagResourceRequest tagResourceRequest = TagResourceRequest.builder()
-                    .resourceArn(resourceArn)
-                    .tags(tagsToAttach)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(tagResourceRequest, iotClient::tagResource);
-            logger.log("Called TagResource for " + resourceArn);
-        }
-
-        if (!tagKeysToDetach.isEmpty()) {
-            UntagResourceRequest untagResourceRequest = UntagResourceRequest.builder()
-                    .resourceArn(resourceArn)
-                    .tagKeys(tagKeysToDetach)
-                    .build();
-            proxy.injectCredentialsAndInvokeV2(untagResourceRequest, iotClient::untagResource);
-            logger.log("Called UntagResource for " + resourceArn);
-        }
+        Map<String, String> currentTagsMap = currentTags.stream()
+                .collect(Collectors.toMap(Tag::key, Tag::value));
+        new TagReconciler(proxy::injectCredentialsAndInvokeV2, iotClient, logger)
+                .apply(resourceArn, currentTagsMap, TagReconciler.desiredTags(request));
     }
 
     // This facilitates mocking in the unit tests.
@@ -255,6 +258,11 @@ public class UpdateHandler extends BaseHandler<CallbackContext> {
         return HandlerUtils.listTags(iotClient, proxy, resourceArn);
     }
 
+    @VisibleForTesting
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
     @VisibleForTesting
     Set<String> listTargetsForSecurityProfile(AmazonWebServicesClientProxy proxy,
                                               String securityProfileName) {
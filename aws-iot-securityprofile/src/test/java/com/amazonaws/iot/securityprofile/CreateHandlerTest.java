@@ -12,6 +12,7 @@ import software.amazon.awssdk.services.iot.model.CreateSecurityProfileResponse;
 import software.amazon.awssdk.services.iot.model.IotRequest;
 import software.amazon.awssdk.services.iot.model.ResourceAlreadyExistsException;
 import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -20,6 +21,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Clock;
 import java.util.List;
 
 import static com.amazonaws.iot.securityprofile.TestConstants.ADDITIONAL_METRICS_CFN;
@@ -38,6 +40,8 @@ import static junit.framework.Assert.assertEquals;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -119,6 +123,88 @@ public class CreateHandlerTest {
         assertThat(response.getResourceModel()).isEqualTo(expectedModel);
     }
 
+    @Test
+    public void handleRequest_OutOfTime_ResumesAttachmentsWithoutCreating() {
+
+        ResourceModel model = buildResourceModel();
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .logicalResourceIdentifier(LOGICAL_IDENTIFIER)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .desiredResourceTags(TAG_1_STRINGMAP)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        CreateSecurityProfileResponse createResponse = CreateSecurityProfileResponse.builder()
+                .securityProfileArn(SECURITY_PROFILE_ARN)
+                .securityProfileName(SECURITY_PROFILE_NAME)
+                .build();
+        ArgumentCaptor<IotRequest> requestsCaptor = ArgumentCaptor.forClass(IotRequest.class);
+        when(proxy.injectCredentialsAndInvokeV2(requestsCaptor.capture(), any()))
+                .thenReturn(createResponse)
+                .thenReturn(AttachSecurityProfileResponse.builder().build());
+
+        CreateHandler spyHandler = spy(handler);
+        // Enough time to create the profile, but not to attach it.
+        doReturn(new Deadline(Clock.systemUTC(), Deadline.CHECKPOINT_MARGIN.minusSeconds(1)))
+                .doReturn(Deadline.startingNow())
+                .when(spyHandler).startDeadline();
+
+        ProgressEvent<ResourceModel, CallbackContext> firstResponse
+                = spyHandler.handleRequest(proxy, request, null, logger);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isEqualTo(Deadline.RESUME_DELAY_SECONDS);
+        assertThat(firstResponse.getCallbackContext().getSecurityProfileArn()).isEqualTo(SECURITY_PROFILE_ARN);
+        assertThat(firstResponse.getCallbackContext().getTargetsToAttach()).containsExactlyInAnyOrderElementsOf(TARGET_ARNS);
+        // The ARN stays off the model, CloudFormation sends it back as the desired state.
+        assertThat(firstResponse.getResourceModel().getSecurityProfileArn()).isNull();
+
+        ProgressEvent<ResourceModel, CallbackContext> secondResponse
+                = spyHandler.handleRequest(proxy, request, firstResponse.getCallbackContext(), logger);
+
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(secondResponse.getResourceModel().getSecurityProfileArn()).isEqualTo(SECURITY_PROFILE_ARN);
+        List<IotRequest> iotRequests = requestsCaptor.getAllValues();
+        assertThat(iotRequests).hasSize(1 + TARGET_ARNS.size());
+        assertThat(iotRequests.get(0)).isInstanceOf(CreateSecurityProfileRequest.class);
+        assertThat(iotRequests.subList(1, iotRequests.size())).allMatch(AttachSecurityProfileRequest.class::isInstance);
+    }
+
+    @Test
+    public void handleRequest_AttachThrottled_ReschedulesWithRemainingTargets() {
+
+        ResourceModel model = buildResourceModel();
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .logicalResourceIdentifier(LOGICAL_IDENTIFIER)
+                .clientRequestToken(CLIENT_REQUEST_TOKEN)
+                .desiredResourceTags(TAG_1_STRINGMAP)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        CreateSecurityProfileResponse createResponse = CreateSecurityProfileResponse.builder()
+                .securityProfileArn(SECURITY_PROFILE_ARN)
+                .securityProfileName(SECURITY_PROFILE_NAME)
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(any(), any()))
+                .thenReturn(createResponse)
+                .thenThrow(ThrottlingException.builder().build());
+
+        ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isPositive();
+        assertThat(response.getCallbackContext().getThrottles()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getSecurityProfileArn()).isEqualTo(SECURITY_PROFILE_ARN);
+        // The throttled target is still to do.
+        assertThat(response.getCallbackContext().getTargetsToAttach()).containsExactlyInAnyOrderElementsOf(TARGET_ARNS);
+        assertThat(response.getResourceModel().getSecurityProfileArn()).isNull();
+    }
+
     @Test
     public void handleRequest_CreateThrowsAlreadyExists_VerifyTranslation() {
 
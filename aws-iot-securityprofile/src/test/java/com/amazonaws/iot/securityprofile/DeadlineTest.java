@@ -0,0 +1,55 @@
+package com.amazonaws.iot.securityprofile;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.iot.model.AttachSecurityProfileRequest;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DeadlineTest {
+
+    private static final Instant NOW = Instant.parse("2020-01-01T00:00:00Z");
+
+    @Test
+    public void shouldCheckpoint_OnlyOnceMarginIsReached() {
+        Deadline deadline = new Deadline(Clock.fixed(NOW, ZoneOffset.UTC), Deadline.CHECKPOINT_MARGIN);
+        assertThat(deadline.shouldCheckpoint()).isFalse();
+
+        Deadline almostOver = new Deadline(Clock.fixed(NOW, ZoneOffset.UTC), Deadline.CHECKPOINT_MARGIN.minusMillis(1));
+        assertThat(almostOver.shouldCheckpoint()).isTrue();
+    }
+
+    @Test
+    public void remaining_NeverNegative() {
+        Deadline deadline = new Deadline(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(-5));
+        assertThat(deadline.remaining()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void bound_KeepsResponseReserve() {
+        Deadline deadline = new Deadline(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ofSeconds(30));
+        AttachSecurityProfileRequest request = AttachSecurityProfileRequest.builder()
+                .securityProfileName("name")
+                .securityProfileTargetArn("arn")
+                .build();
+
+        AttachSecurityProfileRequest bounded = deadline.bound(request);
+
+        assertThat(bounded.securityProfileTargetArn()).isEqualTo("arn");
+        assertThat(bounded.overrideConfiguration().get().apiCallTimeout())
+                .contains(Duration.ofSeconds(30).minus(Deadline.RESPONSE_RESERVE));
+    }
+
+    @Test
+    public void bound_OutOfTime_UsesMinimumTimeout() {
+        Deadline deadline = new Deadline(Clock.fixed(NOW, ZoneOffset.UTC), Duration.ZERO);
+
+        AttachSecurityProfileRequest bounded = deadline.bound(AttachSecurityProfileRequest.builder().build());
+
+        assertThat(bounded.overrideConfiguration().get().apiCallTimeout()).contains(Deadline.MIN_CALL_TIMEOUT);
+    }
+}
@@ -0,0 +1,106 @@
+package com.amazonaws.iot.securityprofile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HandlerLogTest {
+
+    private final List<String> lines = new ArrayList<>();
+    private final Logger logger = lines::add;
+
+    @BeforeEach
+    public void setup() {
+        HandlerLog.resetSampling();
+    }
+
+    @Test
+    public void log_FormatsEventAndFields() {
+        new HandlerLog(logger, HandlerLog.Level.INFO).info("target.attached",
+                "securityProfile", "profile", "target", "arn:aws:iot:us-east-1:123456789012:all/things", "count", 3);
+
+        assertThat(lines).containsExactly(
+                "level=INFO event=target.attached securityProfile=profile target=arn:aws:iot:us-east-1:123456789012:all/things count=3");
+    }
+
+    @Test
+    public void log_QuotesValuesThatNeedIt() {
+        new HandlerLog(logger, HandlerLog.Level.INFO).info("event",
+                "message", "has \"quotes\" and spaces", "empty", "", "missing", null);
+
+        assertThat(lines).containsExactly(
+                "level=INFO event=event message=\"has \\\"quotes\\\" and spaces\" empty=\"\" missing=null");
+    }
+
+    @Test
+    public void log_BelowThreshold_NotFormatted() {
+        final Supplier<String> expensive = () -> {
+            throw new AssertionError("formatted a disabled line");
+        };
+
+        final HandlerLog log = new HandlerLog(logger, HandlerLog.Level.INFO);
+        log.debug("target.attached", "target", expensive);
+
+        assertThat(lines).isEmpty();
+        assertThat(log.isEnabled(HandlerLog.Level.DEBUG)).isFalse();
+        assertThat(log.isEnabled(HandlerLog.Level.WARN)).isTrue();
+    }
+
+    @Test
+    public void log_SupplierEvaluatedWhenEnabled() {
+        new HandlerLog(logger, HandlerLog.Level.DEBUG).debug("event", "value", (Supplier<String>) () -> "computed");
+
+        assertThat(lines).containsExactly("level=DEBUG event=event value=computed");
+    }
+
+    @Test
+    public void sampled_LogsFirstAndEveryHundredth() {
+        final HandlerLog log = new HandlerLog(logger, HandlerLog.Level.INFO);
+        for (int i = 0; i < 250; i++) {
+            log.sampled("key", HandlerLog.Level.INFO, "throttled", "attempt", i);
+        }
+        log.sampled("other", HandlerLog.Level.INFO, "other");
+
+        assertThat(lines).containsExactly(
+                "level=INFO event=throttled attempt=0 occurrences=1",
+                "level=INFO event=throttled attempt=100 occurrences=101",
+                "level=INFO event=throttled attempt=200 occurrences=201",
+                "level=INFO event=other occurrences=1");
+    }
+
+    @Test
+    public void summary_OneLineForTheWholeLoop() {
+        final HandlerLog log = new HandlerLog(logger, HandlerLog.Level.INFO);
+        try (HandlerLog.Summary summary = log.summary("targets.attached", "securityProfile", "profile")) {
+            for (int i = 0; i < 8; i++) {
+                summary.record("t" + i);
+                log.debug("target.attached", "target", "t" + i);
+            }
+            assertThat(summary.count()).isEqualTo(8);
+        }
+
+        assertThat(lines).hasSize(1);
+        assertThat(lines.get(0)).startsWith(
+                "level=INFO event=targets.attached securityProfile=profile count=8 items=\"[t0, t1, t2, t3, t4]+3\" elapsedMs=");
+    }
+
+    @Test
+    public void summary_NothingRecorded_NothingLogged() {
+        new HandlerLog(logger, HandlerLog.Level.INFO).summary("targets.attached").close();
+
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void parse_DefaultsToInfo() {
+        assertThat(HandlerLog.Level.parse(null)).isEqualTo(HandlerLog.Level.INFO);
+        assertThat(HandlerLog.Level.parse("verbose")).isEqualTo(HandlerLog.Level.INFO);
+        assertThat(HandlerLog.Level.parse(" debug ")).isEqualTo(HandlerLog.Level.DEBUG);
+    }
+}
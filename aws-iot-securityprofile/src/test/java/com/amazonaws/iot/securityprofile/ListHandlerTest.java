@@ -3,17 +3,24 @@ package com.amazonaws.iot.securityprofile;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import software.amazon.awssdk.services.iot.model.DescribeSecurityProfileRequest;
+import software.amazon.awssdk.services.iot.model.DescribeSecurityProfileResponse;
 import software.amazon.awssdk.services.iot.model.ListSecurityProfilesRequest;
 import software.amazon.awssdk.services.iot.model.ListSecurityProfilesResponse;
+import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iot.model.UnauthorizedException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
@@ -85,6 +92,132 @@ public class ListHandlerTest {
         assertThat(response.getResourceModels()).isEqualTo(expectedModels);
     }
 
+    @Test
+    public void handleRequest_BehaviorsOnOneMetric_FiltersOnMetric() {
+
+        ResourceModel model = ResourceModel.builder()
+                .behaviors(new HashSet<>(Arrays.asList(
+                        Behavior.builder().name("b1").metric("aws:num-messages-sent").build(),
+                        Behavior.builder().name("b2").metric("aws:num-messages-sent")
+                                .metricDimension(MetricDimension.builder().dimensionName("TopicFilter").build())
+                                .build())))
+                .build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        ListSecurityProfilesRequest expectedRequest = ListSecurityProfilesRequest.builder()
+                .metricName("aws:num-messages-sent")
+                .maxResults(Translator.FILTERED_LIST_PAGE_SIZE)
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(eq(expectedRequest), any()))
+                .thenReturn(ListSecurityProfilesResponse.builder().build());
+
+        ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_BehaviorsOnOneDimension_FiltersOnDimension() {
+
+        ResourceModel model = ResourceModel.builder()
+                .behaviors(new HashSet<>(Arrays.asList(
+                        Behavior.builder().name("b1").metric("aws:num-messages-sent")
+                                .metricDimension(MetricDimension.builder().dimensionName("TopicFilter").build())
+                                .build(),
+                        Behavior.builder().name("b2").metric("aws:num-messages-received")
+                                .metricDimension(MetricDimension.builder().dimensionName("TopicFilter").build())
+                                .build())))
+                .build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        ListSecurityProfilesRequest expectedRequest = ListSecurityProfilesRequest.builder()
+                .dimensionName("TopicFilter")
+                .maxResults(Translator.FILTERED_LIST_PAGE_SIZE)
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(eq(expectedRequest), any()))
+                .thenReturn(ListSecurityProfilesResponse.builder().build());
+
+        ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+    }
+
+    @Test
+    public void handleRequest_BehaviorsOnlyOnMetric_DoesNotDescribe() {
+
+        ResourceModel model = ResourceModel.builder()
+                .behaviors(new HashSet<>(Collections.singletonList(
+                        Behavior.builder().name("b1").metric("aws:num-messages-sent").build())))
+                .build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        ListSecurityProfilesRequest expectedRequest = ListSecurityProfilesRequest.builder()
+                .metricName("aws:num-messages-sent")
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(eq(expectedRequest), any()))
+                .thenReturn(ListSecurityProfilesResponse.builder()
+                        .securityProfileIdentifiers(identifier("profile1"))
+                        .build());
+
+        ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getResourceModels()).containsExactly(
+                ResourceModel.builder().securityProfileName("profile1").build());
+        verify(proxy, never()).injectCredentialsAndInvokeV2(any(DescribeSecurityProfileRequest.class), any());
+    }
+
+    @Test
+    public void handleRequest_BehaviorsOnSeveralMetrics_ReturnsOnlyProfilesWithThem() {
+
+        ResourceModel model = ResourceModel.builder()
+                .behaviors(new HashSet<>(Arrays.asList(
+                        Behavior.builder().name("b1").metric("aws:num-messages-sent").build(),
+                        Behavior.builder().name("b2").metric("aws:num-messages-received").build())))
+                .build();
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        ListSecurityProfilesRequest expectedRequest = ListSecurityProfilesRequest.builder()
+                .maxResults(Translator.FILTERED_LIST_PAGE_SIZE)
+                .build();
+        when(proxy.injectCredentialsAndInvokeV2(eq(expectedRequest), any()))
+                .thenReturn(ListSecurityProfilesResponse.builder()
+                        .securityProfileIdentifiers(identifier("both"), identifier("sentOnly"), identifier("deleted"))
+                        .nextToken("nextToken2")
+                        .build());
+        when(proxy.injectCredentialsAndInvokeV2(eq(describeRequest("both")), any()))
+                .thenReturn(DescribeSecurityProfileResponse.builder()
+                        .behaviors(
+                                iotBehavior("aws:num-messages-sent"),
+                                iotBehavior("aws:num-messages-received"),
+                                iotBehavior("aws:num-disconnects"))
+                        .build());
+        when(proxy.injectCredentialsAndInvokeV2(eq(describeRequest("sentOnly")), any()))
+                .thenReturn(DescribeSecurityProfileResponse.builder()
+                        .behaviors(iotBehavior("aws:num-messages-sent"))
+                        .build());
+        when(proxy.injectCredentialsAndInvokeV2(eq(describeRequest("deleted")), any()))
+                .thenThrow(ResourceNotFoundException.builder().build());
+
+        ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("nextToken2");
+        assertThat(response.getResourceModels()).containsExactly(
+                ResourceModel.builder().securityProfileName("both").build());
+    }
+
     @Test
     public void handleRequest_ApiThrowsException_VerifyTranslation() {
 
@@ -99,4 +232,24 @@ public class ListHandlerTest {
                 handler.handleRequest(proxy, request, null, logger);
         assertThat(progressEvent.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
     }
+
+    private static software.amazon.awssdk.services.iot.model.SecurityProfileIdentifier identifier(String name) {
+        return software.amazon.awssdk.services.iot.model.SecurityProfileIdentifier.builder()
+                .arn("doesn't matter")
+                .name(name)
+                .build();
+    }
+
+    private static DescribeSecurityProfileRequest describeRequest(String name) {
+        return DescribeSecurityProfileRequest.builder()
+                .securityProfileName(name)
+                .build();
+    }
+
+    private static software.amazon.awssdk.services.iot.model.Behavior iotBehavior(String metric) {
+        return software.amazon.awssdk.services.iot.model.Behavior.builder()
+                .name(metric)
+                .metric(metric)
+                .build();
+    }
 }
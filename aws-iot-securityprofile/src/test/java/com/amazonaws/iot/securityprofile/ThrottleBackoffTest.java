@@ -0,0 +1,93 @@
+package com.amazonaws.iot.securityprofile;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import software.amazon.awssdk.services.iot.model.InvalidRequestException;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static com.amazonaws.iot.securityprofile.TestConstants.SECURITY_PROFILE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThrottleBackoffTest {
+
+    private static final Instant NOW = Instant.parse("2020-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Mock
+    private Logger logger;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.initMocks(this);
+    }
+
+    @Test
+    public void rescheduleOrFail_Throttle_InProgress() {
+        ResourceModel model = ResourceModel.builder().securityProfileName(SECURITY_PROFILE_NAME).build();
+        CallbackContext context = new CallbackContext();
+
+        ProgressEvent<ResourceModel, CallbackContext> event = ThrottleBackoff.rescheduleOrFail(
+                model, context, ThrottlingException.builder().build(), logger);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(event.getCallbackDelaySeconds())
+                .isBetween(ThrottleBackoff.BASE_DELAY_SECONDS / 2, ThrottleBackoff.BASE_DELAY_SECONDS);
+        assertThat(context.getThrottles()).isEqualTo(1);
+    }
+
+    @Test
+    public void rescheduleOrFail_OtherException_Failed() {
+        ResourceModel model = ResourceModel.builder().securityProfileName(SECURITY_PROFILE_NAME).build();
+        CallbackContext context = new CallbackContext();
+
+        ProgressEvent<ResourceModel, CallbackContext> event = ThrottleBackoff.rescheduleOrFail(
+                model, context, InvalidRequestException.builder().build(), logger);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.InvalidRequest);
+        assertThat(context.getThrottles()).isZero();
+    }
+
+    @Test
+    public void rescheduleOrFail_TooManyThrottles_FailedWithThrottling() {
+        ResourceModel model = ResourceModel.builder().securityProfileName(SECURITY_PROFILE_NAME).build();
+        CallbackContext context = new CallbackContext();
+        context.setThrottles(ThrottleBackoff.MAX_RESCHEDULES);
+        context.setLastThrottledAt(System.currentTimeMillis());
+
+        ProgressEvent<ResourceModel, CallbackContext> event = ThrottleBackoff.rescheduleOrFail(
+                model, context, ThrottlingException.builder().build(), logger);
+
+        assertThat(event.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(event.getErrorCode()).isEqualTo(HandlerErrorCode.Throttling);
+    }
+
+    @Test
+    public void reschedule_AfterQuietPeriod_StartsOver() {
+        CallbackContext context = new CallbackContext();
+        context.setThrottles(ThrottleBackoff.MAX_RESCHEDULES);
+        context.setLastThrottledAt(NOW.minus(ThrottleBackoff.QUIET_PERIOD).minusMillis(1).toEpochMilli());
+
+        assertThat(ThrottleBackoff.reschedule(ResourceModel.builder().build(), context, CLOCK, logger)).isPresent();
+        assertThat(context.getThrottles()).isEqualTo(1);
+        assertThat(context.getLastThrottledAt()).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    public void delaySeconds_GrowsUpToCap() {
+        for (int throttles = 1; throttles <= ThrottleBackoff.MAX_RESCHEDULES; throttles++) {
+            int ceiling = Math.min(ThrottleBackoff.MAX_DELAY_SECONDS, ThrottleBackoff.BASE_DELAY_SECONDS << (throttles - 1));
+            assertThat(ThrottleBackoff.delaySeconds(throttles)).isBetween(ceiling / 2, ceiling);
+        }
+    }
+}
@@ -29,7 +29,10 @@ import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verifyZeroInteractions;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -78,6 +81,40 @@ public class UpdateHandlerTest {
         MockitoAnnotations.initMocks(this);
     }
 
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+
+        ResourceModel previousModel = ResourceModel.builder()
+                .securityProfileName(SECURITY_PROFILE_NAME)
+                .securityProfileArn(SECURITY_PROFILE_ARN)
+                .securityProfileDescription(SECURITY_PROFILE_DESCRIPTION)
+                .behaviors(BEHAVIOR_1_CFN_SET)
+                .targetArns(TARGET_ARN_2_SET)
+                .build();
+        ResourceModel desiredModel = ResourceModel.builder()
+                .securityProfileName(SECURITY_PROFILE_NAME)
+                .securityProfileDescription(SECURITY_PROFILE_DESCRIPTION)
+                .behaviors(BEHAVIOR_1_CFN_SET)
+                .targetArns(TARGET_ARN_2_SET)
+                .build();
+        Map<String, String> tags = TAG_1_STRINGMAP;
+
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(previousModel)
+                .previousResourceTags(tags)
+                .desiredResourceState(desiredModel)
+                .desiredResourceTags(tags)
+                .systemTags(SYSTEM_TAG_MAP)
+                .build();
+
+        ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getSecurityProfileArn()).isEqualTo(SECURITY_PROFILE_ARN);
+        verifyZeroInteractions(proxy);
+    }
+
     @Test
     public void handleRequest_AllFieldsUpdated_VerifyRequests() {
 
@@ -152,13 +189,13 @@ public class UpdateHandlerTest {
         assertThat(submittedDetachRequest.securityProfileName()).isEqualTo(SECURITY_PROFILE_NAME);
         assertThat(submittedDetachRequest.securityProfileTargetArn()).isEqualTo(TARGET_ARN_1);
 
-        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(3);
-        assertThat(submittedTagRequest.tags()).isEqualTo(TAG_2_IOT_LIST);
-        assertThat(submittedTagRequest.resourceArn()).isEqualTo(SECURITY_PROFILE_ARN);
-
-        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(4);
+        UntagResourceRequest submittedUntagRequest = (UntagResourceRequest) submittedIotRequests.get(3);
         assertThat(submittedUntagRequest.tagKeys()).isEqualTo(TAG_1_KEY_LIST);
         assertThat(submittedUntagRequest.resourceArn()).isEqualTo(SECURITY_PROFILE_ARN);
+
+        TagResourceRequest submittedTagRequest = (TagResourceRequest) submittedIotRequests.get(4);
+        assertThat(submittedTagRequest.tags()).isEqualTo(TAG_2_IOT_LIST);
+        assertThat(submittedTagRequest.resourceArn()).isEqualTo(SECURITY_PROFILE_ARN);
     }
 
     @Test
@@ -226,7 +263,7 @@ public class UpdateHandlerTest {
                 .targetArns(desiredTargets)
                 .build();
 
-        handler.updateTargetAttachments(proxy, model, logger);
+        handler.updateTargetAttachments(proxy, model, new CallbackContext(), Deadline.startingNow(), logger);
 
         ArgumentCaptor<IotRequest> requestCaptor = ArgumentCaptor.forClass(IotRequest.class);
         verify(proxy, times(4)).injectCredentialsAndInvokeV2(requestCaptor.capture(), any());
@@ -248,6 +285,36 @@ public class UpdateHandlerTest {
         assertThat(actualDetachTargets).containsExactlyInAnyOrder("detachTarget1", "detachTarget2");
     }
 
+    @Test
+    public void updateTargetAttachments_OutOfTime_KeepsRemainingTargetsInContext() {
+
+        doReturn(ImmutableSet.of("keepTarget", "detachTarget"))
+                .when(handler)
+                .listTargetsForSecurityProfile(proxy, SECURITY_PROFILE_NAME);
+
+        ResourceModel model = ResourceModel.builder()
+                .securityProfileName(SECURITY_PROFILE_NAME)
+                .targetArns(ImmutableSet.of("keepTarget", "attachTarget"))
+                .build();
+        CallbackContext context = new CallbackContext();
+
+        boolean done = handler.updateTargetAttachments(
+                proxy, model, context, new Deadline(Clock.systemUTC(), Duration.ZERO), logger);
+
+        assertThat(done).isFalse();
+        verifyZeroInteractions(proxy);
+        assertThat(context.getTargetsToAttach()).containsExactly("attachTarget");
+        assertThat(context.getTargetsToDetach()).containsExactly("detachTarget");
+
+        done = handler.updateTargetAttachments(proxy, model, context, Deadline.startingNow(), logger);
+
+        assertThat(done).isTrue();
+        verify(handler, times(1)).listTargetsForSecurityProfile(proxy, SECURITY_PROFILE_NAME);
+        verify(proxy, times(2)).injectCredentialsAndInvokeV2(any(), any());
+        assertThat(context.getTargetsToAttach()).isEmpty();
+        assertThat(context.getTargetsToDetach()).isEmpty();
+    }
+
     @Test
     public void updateTags_SameKeyDifferentValue_OnlyTagCall() {
 
@@ -364,7 +431,7 @@ public class UpdateHandlerTest {
                 .thenThrow(InternalFailureException.builder().build());
 
         assertThatThrownBy(() ->
-                handler.updateTargetAttachments(proxy, model, logger))
+                handler.updateTargetAttachments(proxy, model, new CallbackContext(), Deadline.startingNow(), logger))
                 .isInstanceOf(InternalFailureException.class);
     }
 
@@ -0,0 +1,146 @@
+package software.amazon.iot.softwarepackage;
+
+import software.amazon.awssdk.services.iot.IotAsyncClient;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Flavor of {@link BaseHandlerStd} for handlers that issue independent calls, such as deleting every
+ * version of a package. Calls go through an {@link IotAsyncClient} on a non-blocking HTTP client, so
+ * they overlap without a thread per request. Independent calls are composed with {@link #fanOut}, and
+ * handlers join once per stage before returning a ProgressEvent, so the call graph and error
+ * translation work as with the blocking client.
+ */
+public abstract class BaseHandlerAsync extends BaseHandler<CallbackContext> {
+    @Override
+    public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        try {
+            return handleRequest(proxy, request, context, proxy.newProxy(ClientBuilder::getAsyncClient), logger);
+        } catch (final CfnThrottlingException | ThrottlingException e) {
+            if (!reschedulesThrottles()) {
+                throw e;
+            }
+            return ThrottleBackoff.reschedule(request.getDesiredResourceState(), context, logger)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * See {@link BaseHandlerStd#reschedulesThrottles()}.
+     */
+    protected boolean reschedulesThrottles() {
+        return false;
+    }
+
+    protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final ProxyClient<IotAsyncClient> proxyClient,
+            final Logger logger);
+
+    /**
+     * Waits for a call and rethrows its failure as thrown, e.g. an IotException, instead of wrapped in
+     * a CompletionException.
+     */
+    protected static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts one call per item, with at most {@code parallelism} in flight. Each call after the first
+     * {@code parallelism} is started by the completion of an earlier one, so no thread waits while the
+     * calls run. Completes with the responses in item order once every call completed. After a call
+     * fails no further calls are started, and the future completes exceptionally with that failure.
+     */
+    protected static <T, R> CompletableFuture<List<R>> fanOut(
+            final List<T> items,
+            final int parallelism,
+            final Function<T, CompletableFuture<R>> call) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+        }
+        final Window<T, R> window = new Window<>(items, call);
+        if (items.isEmpty()) {
+            window.result.complete(Collections.emptyList());
+        }
+        for (int i = 0; i < Math.min(parallelism, items.size()); i++) {
+            window.startNext();
+        }
+        return window.result;
+    }
+
+    private static final class Window<T, R> {
+
+        private final List<T> items;
+        private final Function<T, CompletableFuture<R>> call;
+        private final AtomicReferenceArray<R> responses;
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicInteger remaining;
+        private final CompletableFuture<List<R>> result = new CompletableFuture<>();
+
+        private Window(final List<T> items, final Function<T, CompletableFuture<R>> call) {
+            this.items = items;
+            this.call = call;
+            this.responses = new AtomicReferenceArray<>(items.size());
+            this.remaining = new AtomicInteger(items.size());
+        }
+
+        private void startNext() {
+            final int index = next.getAndIncrement();
+            if (index >= items.size() || result.isDone()) {
+                return;
+            }
+            final CompletableFuture<R> future;
+            try {
+                future = call.apply(items.get(index));
+            } catch (final RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+            future.whenComplete((response, failure) -> {
+                if (failure != null) {
+                    result.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause() : failure);
+                    return;
+                }
+                responses.set(index, response);
+                if (remaining.decrementAndGet() == 0) {
+                    final List<R> ordered = new ArrayList<>(items.size());
+                    for (int i = 0; i < items.size(); i++) {
+                        ordered.add(responses.get(i));
+                    }
+                    result.complete(ordered);
+                } else {
+                    startNext();
+                }
+            });
+        }
+    }
+}
@@ -4,8 +4,10 @@ import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.Tag;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.awssdk.services.iot.model.UpdateIndexingConfigurationRequest;
 import software.amazon.awssdk.services.iot.model.UpdateIndexingConfigurationResponse;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -22,13 +24,49 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        if (!resumesRetries()) {
+            return handleRequestOrReschedule(proxy, request, context, logger);
+        }
+        final CallbackContext resumed = IdempotencyCache.resume(getClass(), request, context);
+        try {
+            return handleRequestOrReschedule(proxy, request, resumed, logger);
+        } finally {
+            IdempotencyCache.record(getClass(), request, resumed);
+        }
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> handleRequestOrReschedule(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final CallbackContext callbackContext,
+            final Logger logger) {
+        try {
+            return handleRequest(proxy, request, callbackContext, proxy.newProxy(ClientBuilder::getClient), logger);
+        } catch (final CfnThrottlingException | ThrottlingException e) {
+            if (!reschedulesThrottles()) {
+                throw e;
+            }
+            return ThrottleBackoff.reschedule(request.getDesiredResourceState(), callbackContext, logger)
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Whether a retry with the same client request token picks up the calls an earlier attempt
+     * completed instead of making them again, see {@link IdempotencyCache}.
+     */
+    protected boolean resumesRetries() {
+        return false;
+    }
+
+    /**
+     * Whether a throttle returns IN_PROGRESS so the operation carries on after a delay instead of
+     * failing, see {@link ThrottleBackoff}. Only for handlers that pick up where they stopped when
+     * invoked again with the same context.
+     */
+    protected boolean reschedulesThrottles() {
+        return false;
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -1,13 +1,30 @@
 package software.amazon.iot.softwarepackage;
 
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.iot.IotAsyncClient;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.cloudformation.LambdaWrapper;
 
 public class ClientBuilder {
 
+    // Shared like LambdaWrapper.HTTP_CLIENT, so warm invocations reuse its event loop and connections.
+    private static final SdkAsyncHttpClient ASYNC_HTTP_CLIENT = NettyNioAsyncHttpClient.builder().build();
+
     public static IotClient getClient() {
         return IotClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(RetryBudget.overrideConfiguration())
                 .build();
     }
+
+    // Built once: every async client owns its own executor threads, which would pile up in a warm container.
+    private static final IotAsyncClient ASYNC_CLIENT = IotAsyncClient.builder()
+            .httpClient(ASYNC_HTTP_CLIENT)
+            .overrideConfiguration(RetryBudget.overrideConfiguration())
+            .build();
+
+    public static IotAsyncClient getAsyncClient() {
+        return ASYNC_CLIENT;
+    }
 }
@@ -29,6 +29,16 @@ public class CreateHandler extends BaseHandlerStd {
     private Logger logger;
     private String clientToken;
 
+    @Override
+    protected boolean resumesRetries() {
+        return true;
+    }
+
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -68,8 +78,8 @@ public class CreateHandler extends BaseHandlerStd {
                         proxy.initiate(CALL_GRAPH, proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, combinedTags))
                                 .makeServiceCall(this::createResource)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done(createPackageResponse -> ProgressEvent.defaultSuccessHandler(
+                                        Translator.translateFromCreateResponse(createPackageResponse, combinedTags))));
     }
 
     /**
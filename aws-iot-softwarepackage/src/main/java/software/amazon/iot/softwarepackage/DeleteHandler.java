@@ -1,11 +1,10 @@
 package software.amazon.iot.softwarepackage;
 
 import software.amazon.awssdk.http.HttpStatusCode;
-import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.IotAsyncClient;
 import software.amazon.awssdk.services.iot.model.DeletePackageRequest;
 import software.amazon.awssdk.services.iot.model.DeletePackageResponse;
 import software.amazon.awssdk.services.iot.model.DeletePackageVersionRequest;
-import software.amazon.awssdk.services.iot.model.DeletePackageVersionResponse;
 import software.amazon.awssdk.services.iot.model.GetPackageRequest;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
@@ -25,26 +24,37 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * The handler deletes the Package resource (if it exists)
  * API Calls for DeleteHandler:
  * DeletePackage: To delete a Package if exists, return not found status otherwise
+ * ListPackageVersions, DeletePackageVersion: The versions of each page are deleted concurrently, see {@link #fanOut}
  */
-public class DeleteHandler extends BaseHandlerStd {
+public class DeleteHandler extends BaseHandlerAsync {
 
     private static final String OPERATION = "DeleteSoftwarePackage";
     private static final String CALL_GRAPH = "AWS-IoT-SoftwarePackage::Delete";
+    // Deletes of one page's versions in flight at once.
+    static final int VERSION_DELETE_PARALLELISM = 8;
     private Logger logger;
+    private Deadline deadline;
+
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
-            final ProxyClient<IotClient> proxyClient,
+            final ProxyClient<IotAsyncClient> proxyClient,
             final Logger logger) {
 
         this.logger = logger;
+        this.deadline = startDeadline();
 
         final ResourceModel resourceModel = request.getDesiredResourceState();
         final String awsAccountId = request.getAwsAccountId();
@@ -70,7 +80,6 @@ public class DeleteHandler extends BaseHandlerStd {
                         proxy.initiate(CALL_GRAPH, proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
                                 .done(response -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                                         .status(OperationStatus.SUCCESS)
                                         .build()));
@@ -85,11 +94,11 @@ public class DeleteHandler extends BaseHandlerStd {
      */
     private DeletePackageResponse deleteResource(
             DeletePackageRequest deletePackageRequest,
-            ProxyClient<IotClient> proxyClient) {
+            ProxyClient<IotAsyncClient> proxyClient) {
         try {
             checkForPackage(deletePackageRequest.packageName(), proxyClient);
-            DeletePackageResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    deletePackageRequest, proxyClient.client()::deletePackage);
+            DeletePackageResponse response = join(proxyClient.injectCredentialsAndInvokeV2Async(
+                    deletePackageRequest, proxyClient.client()::deletePackage));
             logger.log(String.format("%s [%s] successfully deleted.",
                     ResourceModel.TYPE_NAME, deletePackageRequest.packageName()));
             return response;
@@ -100,49 +109,58 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private ListPackageVersionsResponse listThenDeleteResourceForPackageVersion(
             ListPackageVersionsRequest listPackageVersionsRequest,
-            ProxyClient<IotClient> proxyClient) {
-        try {
-            String packageName = listPackageVersionsRequest.packageName();
+            ProxyClient<IotAsyncClient> proxyClient) {
+        final HandlerLog log = new HandlerLog(logger);
+        final String packageName = listPackageVersionsRequest.packageName();
+        try (HandlerLog.Summary deleted = log.summary("versions.deleted", "package", packageName)) {
             ListPackageVersionsResponse listPackageVersionsResponse;
             do {
-                listPackageVersionsResponse = proxyClient.injectCredentialsAndInvokeV2(
-                        listPackageVersionsRequest, proxyClient.client()::listPackageVersions);
+                listPackageVersionsResponse = join(proxyClient.injectCredentialsAndInvokeV2Async(
+                        deadline.bound(listPackageVersionsRequest), proxyClient.client()::listPackageVersions));
                 if (listPackageVersionsResponse.hasPackageVersionSummaries()) {
-                    List<PackageVersionSummary> packageVersionSummaries = listPackageVersionsResponse.packageVersionSummaries();
-
-                    packageVersionSummaries.stream().forEach(packageVersionSummary -> {
-                        DeletePackageVersionRequest deletePackageVersionRequest = DeletePackageVersionRequest.builder()
-                                .packageName(packageName)
-                                .versionName(packageVersionSummary.versionName())
-                                .build();
-                        proxyClient.injectCredentialsAndInvokeV2(
-                                deletePackageVersionRequest, proxyClient.client()::deletePackageVersion);
-                        logger.log(String.format("%s [%s, %s] successfully deleted.",
-                                ResourceModel.TYPE_NAME, deletePackageVersionRequest.packageName(), deletePackageVersionRequest.versionName()));
-                    });
+                    List<String> versionNames = listPackageVersionsResponse.packageVersionSummaries().stream()
+                            .map(PackageVersionSummary::versionName)
+                            .collect(Collectors.toList());
+
+                    join(fanOut(versionNames, VERSION_DELETE_PARALLELISM, versionName ->
+                            proxyClient.injectCredentialsAndInvokeV2Async(
+                                    deadline.bound(DeletePackageVersionRequest.builder()
+                                            .packageName(packageName)
+                                            .versionName(versionName)
+                                            .build()),
+                                    proxyClient.client()::deletePackageVersion)));
+                    for (String versionName : versionNames) {
+                        deleted.record(versionName);
+                        log.debug("version.deleted", "package", packageName, "version", versionName);
+                    }
                 }
                 listPackageVersionsRequest = ListPackageVersionsRequest.builder()
                         .packageName(packageName)
                         .nextToken(listPackageVersionsResponse.nextToken())
                         .build();
+                if (listPackageVersionsResponse.nextToken() != null && deadline.shouldCheckpoint()) {
+                    // The stabilizer deletes the remaining versions in a later invocation.
+                    log.info("checkpoint", "package", packageName, "versionsDeleted", deleted.count());
+                    break;
+                }
             } while (listPackageVersionsResponse.nextToken() != null);
             return listPackageVersionsResponse;
         } catch (IotException e) {
-            throw Translator.translateIotExceptionToHandlerException(listPackageVersionsRequest.packageName(), OPERATION, e);
+            throw Translator.translateIotExceptionToHandlerException(packageName, OPERATION, e);
         }
     }
 
     private UpdatePackageResponse updateResourceToUnsetDefaultVersion(
             UpdatePackageRequest updatePackageRequest,
-            ProxyClient<IotClient> proxyClient) {
+            ProxyClient<IotAsyncClient> proxyClient) {
         // cannot pass full request because of defaultversion and unsetdefaultversion cannot be in the same request
         UpdatePackageRequest requestTrimmed = UpdatePackageRequest.builder()
                 .packageName(updatePackageRequest.packageName())
                 .unsetDefaultVersion(updatePackageRequest.unsetDefaultVersion())
                 .build();
         try {
-            UpdatePackageResponse response = proxyClient.injectCredentialsAndInvokeV2(
-                    requestTrimmed, proxyClient.client()::updatePackage);
+            UpdatePackageResponse response = join(proxyClient.injectCredentialsAndInvokeV2Async(
+                    requestTrimmed, proxyClient.client()::updatePackage));
             logger.log(String.format("%s [%s] successfully updated.",
                     ResourceModel.TYPE_NAME, updatePackageRequest.packageName()));
             return response;
@@ -151,12 +169,12 @@ public class DeleteHandler extends BaseHandlerStd {
         }
     }
 
-    private void checkForPackage(String packageName, ProxyClient<IotClient> proxyClient) {
+    private void checkForPackage(String packageName, ProxyClient<IotAsyncClient> proxyClient) {
         try {
             final GetPackageRequest getPackageRequest = GetPackageRequest.builder()
                     .packageName(packageName)
                     .build();
-            proxyClient.injectCredentialsAndInvokeV2(getPackageRequest, proxyClient.client()::getPackage);
+            join(proxyClient.injectCredentialsAndInvokeV2Async(getPackageRequest, proxyClient.client()::getPackage));
         } catch (IotException e) {
             if (e.statusCode() != HttpStatusCode.FORBIDDEN) {
                 throw Translator.translateIotExceptionToHandlerException(packageName, OPERATION, e);
@@ -164,12 +182,12 @@ public class DeleteHandler extends BaseHandlerStd {
         }
     }
 
-    private void checkForPackageVersions(String packageName, ProxyClient<IotClient> proxyClient) {
+    private void checkForPackageVersions(String packageName, ProxyClient<IotAsyncClient> proxyClient) {
         try {
             final ListPackageVersionsRequest listPackageVersionsRequest = ListPackageVersionsRequest.builder()
                     .packageName(packageName)
                     .build();
-            ListPackageVersionsResponse listPackagesVersionResponse = proxyClient.injectCredentialsAndInvokeV2(listPackageVersionsRequest, proxyClient.client()::listPackageVersions);
+            ListPackageVersionsResponse listPackagesVersionResponse = join(proxyClient.injectCredentialsAndInvokeV2Async(listPackageVersionsRequest, proxyClient.client()::listPackageVersions));
             if (!listPackagesVersionResponse.hasPackageVersionSummaries() || listPackagesVersionResponse.packageVersionSummaries().size() == 0) {
                 throw ResourceNotFoundException.builder().build();
             }
@@ -180,32 +198,27 @@ public class DeleteHandler extends BaseHandlerStd {
         }
     }
 
-    private Boolean stabilizedOnDelete(
-            DeletePackageRequest deletePackageRequest,
-            DeletePackageResponse deletePackageResponse,
-            ProxyClient<IotClient> proxyClient,
-            ResourceModel resourceModel,
-            CallbackContext callbackContext) {
-        try {
-            checkForPackage(deletePackageRequest.packageName(), proxyClient);
-            return false;
-        } catch (CfnNotFoundException e) {
-            return true;
-        }
-    }
-
     private Boolean stabilizedOnDeleteForPackageVersion(
             ListPackageVersionsRequest listPackageVersionRequest,
             ListPackageVersionsResponse listPackageVersionResponse,
-            ProxyClient<IotClient> proxyClient,
+            ProxyClient<IotAsyncClient> proxyClient,
             ResourceModel resourceModel,
             CallbackContext callbackContext) {
-        //return true;
         try {
             checkForPackageVersions(listPackageVersionRequest.packageName(), proxyClient);
-            return false;
         } catch (CfnNotFoundException e) {
             return true;
         }
+        // Versions are left when the purge stopped early to checkpoint. Its response is recorded in the
+        // call graph and it is not called again, so carry on with it from here.
+        if (!deadline.shouldCheckpoint()) {
+            listThenDeleteResourceForPackageVersion(
+                    Translator.translateToListRequestForPackageVersion(resourceModel), proxyClient);
+        }
+        return false;
+    }
+
+    Deadline startDeadline() {
+        return Deadline.startingNow();
     }
 }
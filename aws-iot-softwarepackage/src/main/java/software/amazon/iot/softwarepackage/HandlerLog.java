@@ -0,0 +1,154 @@
+package software.amazon.iot.softwarepackage;
+
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Leveled, structured lines over the rpdk Logger, formatted only when they are logged.
+ *
+ * A line is {@code level=INFO event=version.deleted package=name version=1.0}: the event
+ * followed by key/value pairs. Nothing is formatted for a level below LOG_LEVEL (INFO unless the
+ * environment variable says otherwise), and a value given as a {@link Supplier} is not even computed.
+ *
+ * Loops that make a call per item log each item at DEBUG and one {@link Summary} line at INFO when
+ * they are done.
+ */
+final class HandlerLog {
+
+    enum Level {
+        DEBUG, INFO, WARN, ERROR;
+
+        static Level parse(final String level) {
+            if (level != null) {
+                for (final Level candidate : values()) {
+                    if (candidate.name().equals(level.trim().toUpperCase(Locale.ROOT))) {
+                        return candidate;
+                    }
+                }
+            }
+            return INFO;
+        }
+    }
+
+    static final String LEVEL_VARIABLE = "LOG_LEVEL";
+
+    /**
+     * Items a {@link Summary} names before it only counts them.
+     */
+    static final int SUMMARY_ITEMS = 5;
+
+    private static final Level THRESHOLD = Level.parse(System.getenv(LEVEL_VARIABLE));
+
+    private final Logger logger;
+    private final Level threshold;
+
+    HandlerLog(final Logger logger) {
+        this.logger = logger;
+        this.threshold = THRESHOLD;
+    }
+
+    private boolean isEnabled(final Level level) {
+        return level.compareTo(threshold) >= 0;
+    }
+
+    void debug(final String event, final Object... fields) {
+        log(Level.DEBUG, event, fields);
+    }
+
+    void info(final String event, final Object... fields) {
+        log(Level.INFO, event, fields);
+    }
+
+    private void log(final Level level, final String event, final Object... fields) {
+        if (isEnabled(level)) {
+            logger.log(format(level, event, fields));
+        }
+    }
+
+    /**
+     * @return a summary that logs {@code event} at INFO once, on close, if anything was recorded
+     */
+    Summary summary(final String event, final Object... fields) {
+        return new Summary(event, fields);
+    }
+
+    private static String format(final Level level, final String event, final Object... fields) {
+        final StringBuilder line = new StringBuilder(64)
+                .append("level=").append(level.name())
+                .append(" event=").append(event);
+        for (int i = 0; i + 1 < fields.length; i += 2) {
+            line.append(' ').append(fields[i]).append('=');
+            appendValue(line, fields[i + 1]);
+        }
+        return line.toString();
+    }
+
+    private static void appendValue(final StringBuilder line, final Object field) {
+        final Object value = field instanceof Supplier ? ((Supplier<?>) field).get() : field;
+        final String text = String.valueOf(value);
+        if (!text.isEmpty() && text.chars().noneMatch(c -> c == ' ' || c == '"' || c == '=' || c == '\n')) {
+            line.append(text);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                line.append('\\').append(c);
+            } else if (c == '\n') {
+                line.append("\\n");
+            } else {
+                line.append(c);
+            }
+        }
+        line.append('"');
+    }
+
+    /**
+     * Counts the items of a bulk loop and names the first few of them.
+     */
+    final class Summary implements AutoCloseable {
+
+        private final String event;
+        private final Object[] fields;
+        private final List<Object> items = new ArrayList<>(SUMMARY_ITEMS);
+        private final long startedAt = System.nanoTime();
+        private int count;
+
+        private Summary(final String event, final Object[] fields) {
+            this.event = event;
+            this.fields = fields;
+        }
+
+        void record(final Object item) {
+            if (items.size() < SUMMARY_ITEMS) {
+                items.add(item);
+            }
+            count++;
+        }
+
+        int count() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            if (count == 0 || !isEnabled(Level.INFO)) {
+                return;
+            }
+            final Object[] summaryFields = new Object[fields.length + 6];
+            System.arraycopy(fields, 0, summaryFields, 0, fields.length);
+            summaryFields[fields.length] = "count";
+            summaryFields[fields.length + 1] = count;
+            summaryFields[fields.length + 2] = "items";
+            summaryFields[fields.length + 3] = count > items.size() ? items + "+" + (count - items.size()) : items;
+            summaryFields[fields.length + 4] = "elapsedMs";
+            summaryFields[fields.length + 5] = (System.nanoTime() - startedAt) / 1_000_000;
+            logger.log(format(Level.INFO, event, summaryFields));
+        }
+    }
+}
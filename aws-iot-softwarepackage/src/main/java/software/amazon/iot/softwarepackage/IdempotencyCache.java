@@ -0,0 +1,71 @@
+package software.amazon.iot.softwarepackage;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the CallbackContext of recent invocations so that a retry of the same invocation resumes
+ * where the previous attempt stopped.
+ *
+ * Every call made through proxy.initiate is recorded in the CallbackContext under its call graph
+ * name, and a recorded call is not sent again. CloudFormation retries a failed or timed out handler
+ * with the same client request token but without the context, so on its own every retry starts
+ * over. Contexts are kept per handler, client request token and logical resource id: the token is
+ * shared by every resource of a stack operation.
+ *
+ * The cache lives in the handler's JVM. A retry that lands on another sandbox starts from scratch,
+ * which is still correct, only slower.
+ */
+final class IdempotencyCache {
+
+    static final int MAX_ENTRIES = 64;
+
+    private static final Map<String, CallbackContext> CONTEXTS = Collections.synchronizedMap(
+            new LinkedHashMap<String, CallbackContext>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, CallbackContext> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            });
+
+    private IdempotencyCache() {
+    }
+
+    /**
+     * @return the context recorded by an earlier attempt of this invocation when the given context
+     *         has not recorded anything yet, otherwise the given context
+     */
+    static CallbackContext resume(final Class<?> handler,
+                                  final ResourceHandlerRequest<ResourceModel> request,
+                                  final CallbackContext callbackContext) {
+        final String key = key(handler, request);
+        if (key == null || !callbackContext.callGraphs().isEmpty()) {
+            return callbackContext;
+        }
+        final CallbackContext recorded = CONTEXTS.get(key);
+        return recorded != null ? recorded : callbackContext;
+    }
+
+    static void record(final Class<?> handler,
+                       final ResourceHandlerRequest<ResourceModel> request,
+                       final CallbackContext callbackContext) {
+        final String key = key(handler, request);
+        if (key != null) {
+            CONTEXTS.put(key, callbackContext);
+        }
+    }
+
+    static void clear() {
+        CONTEXTS.clear();
+    }
+
+    private static String key(final Class<?> handler, final ResourceHandlerRequest<ResourceModel> request) {
+        if (request.getClientRequestToken() == null) {
+            return null;
+        }
+        return handler.getName() + "|" + request.getClientRequestToken() + "|" + request.getLogicalResourceIdentifier();
+    }
+}
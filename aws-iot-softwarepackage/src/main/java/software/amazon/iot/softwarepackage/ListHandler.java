@@ -1,6 +1,8 @@
 package software.amazon.iot.softwarepackage;
 
+import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.GetPackageResponse;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListPackagesRequest;
 import software.amazon.awssdk.services.iot.model.ListPackagesResponse;
@@ -11,9 +13,12 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+
 /**
  * API Calls for ListHandler:
  * ListPackages: To list all Packages in an account
+ * GetPackage, ListTagsForResource: To return full models in the hydrated List mode, see {@link ListHydration}
  */
 public class ListHandler extends BaseHandlerStd {
 
@@ -38,8 +43,14 @@ public class ListHandler extends BaseHandlerStd {
                     proxyClient.client()::listPackages
             );
             String nextToken = listPackagesResponse.nextToken();
+            List<ResourceModel> resourceModels = Translator.translateFromListResponse(listPackagesResponse);
+            if (hydrates()) {
+                final Deadline deadline = startDeadline();
+                resourceModels = ListHydration.hydrate(resourceModels, model -> describe(proxyClient, deadline, model),
+                        deadline::shouldCheckpoint);
+            }
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(Translator.translateFromListResponse(listPackagesResponse))
+                    .resourceModels(resourceModels)
                     .nextToken(nextToken)
                     .status(OperationStatus.SUCCESS)
                     .build();
@@ -47,4 +58,28 @@ public class ListHandler extends BaseHandlerStd {
             throw Translator.translateIotExceptionToHandlerException(null, OPERATION, e);
         }
     }
+
+    private ResourceModel describe(final ProxyClient<IotClient> proxyClient,
+                                   final Deadline deadline,
+                                   final ResourceModel model) {
+        final GetPackageResponse getPackageResponse = proxyClient.injectCredentialsAndInvokeV2(
+                deadline.bound(Translator.translateToReadRequest(model)), proxyClient.client()::getPackage);
+        final ResourceModel described = Translator.translateFromReadResponse(getPackageResponse);
+        try {
+            described.setTags(Translator.translateTagsToCfn(listTags(proxyClient, getPackageResponse.packageArn())));
+        } catch (IotException e) {
+            if (e.statusCode() != HttpStatusCode.FORBIDDEN) {
+                throw e;
+            }
+        }
+        return described;
+    }
+
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
+    boolean hydrates() {
+        return ListHydration.isEnabled();
+    }
 }
@@ -2,15 +2,12 @@ package software.amazon.iot.softwarepackage;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.amazonaws.iot.cfn.common.handler.Tagging;
-import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.*;
 import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
@@ -23,7 +20,6 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
-import software.amazon.cloudformation.proxy.ProxyClient;
 
 import java.util.stream.Stream;
 
@@ -94,16 +90,6 @@ public class Translator {
                 .build();
     }
 
-    static ListTagsForResourceRequest translateToListTagsRequestAfterUpdate(final ResourceModel model, final ProxyClient<IotClient> proxyClient, final String operation, Map<String, String> combinedTags) {
-        GetPackageRequest getPackageRequest = GetPackageRequest.builder().packageName(model.getPackageName()).build();
-        GetPackageResponse getPackageResponse = proxyClient.injectCredentialsAndInvokeV2(
-                getPackageRequest, proxyClient.client()::getPackage);
-        Tagging.updateResourceTags(getPackageResponse.packageArn(), model.getPackageName(), operation,
-                ResourceModel.TYPE_NAME, combinedTags, proxyClient);
-
-        return ListTagsForResourceRequest.builder().resourceArn(getPackageResponse.packageArn()).build();
-    }
-
     static ListPackagesRequest translateToListRequest(final String nextToken) {
         return ListPackagesRequest.builder()
                 .nextToken(nextToken)
@@ -133,6 +119,20 @@ public class Translator {
                  .build();
     }
 
+    /**
+     * CreatePackage echoes the fields GetPackage returns, and a new package carries exactly the tags
+     * it was created with, so the created model needs neither GetPackage nor ListTagsForResource.
+     */
+    static ResourceModel translateFromCreateResponse(final CreatePackageResponse createPackageResponse,
+                                                     final Map<String, String> tags) {
+        return ResourceModel.builder()
+                .packageArn(createPackageResponse.packageArn())
+                .packageName(createPackageResponse.packageName())
+                .description(createPackageResponse.description())
+                .tags(translateTagsToCfn(tags))
+                .build();
+    }
+
     static Set<software.amazon.iot.softwarepackage.Tag> translateTagsToCfn(final List<software.amazon.awssdk.services.iot.model.Tag> tags) {
         if (tags == null) {
             return Collections.emptySet();
@@ -146,6 +146,15 @@ public class Translator {
                 .collect(Collectors.toSet());
     }
 
+    static Set<software.amazon.iot.softwarepackage.Tag> translateTagsToCfn(final Map<String, String> tags) {
+        return tags.entrySet().stream()
+                .map(tag -> software.amazon.iot.softwarepackage.Tag.builder()
+                        .key(tag.getKey())
+                        .value(tag.getValue())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+
     static Map<String, String> translateTagsToSdk(
             final Set<software.amazon.iot.softwarepackage.Tag> tags) {
         if (tags == null) {
@@ -6,9 +6,6 @@ import software.amazon.awssdk.services.iot.model.GetPackageRequest;
 import software.amazon.awssdk.services.iot.model.GetPackageResponse;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
-import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.iot.model.TagResourceResponse;
 import software.amazon.awssdk.services.iot.model.UpdatePackageRequest;
 import software.amazon.awssdk.services.iot.model.UpdatePackageResponse;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
@@ -17,17 +14,14 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import com.amazonaws.iot.cfn.common.handler.Tagging;
 
-import java.util.HashMap;
 import java.util.Map;
 
-
 /**
  * API Calls for UpdateHandler:
  * UpdateSoftwarePackage: To update the properties of SoftwarePackage
- * GetSoftwarePackage: To retrieve ARN of the SoftwarePackage to make Tag and UnTag API calls
- * ListTagsForResource: To retrieve old tags associated with SoftwarePackage
+ * GetSoftwarePackage: To retrieve the updated properties and the ARN for the tag calls, once
+ * ListTagsForResource, UntagResource, TagResource: Through TagReconciler, only for the tags that changed
  */
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -36,6 +30,16 @@ public class UpdateHandler extends BaseHandlerStd {
     private static final String CALL_GRAPH_TAG = "AWS-IoT-SoftwarePackage::TaggingUpdate";
     private Logger logger;
 
+    @Override
+    protected boolean resumesRetries() {
+        return true;
+    }
+
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -48,21 +52,11 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceModel prevModel = request.getPreviousResourceState() == null ?
                 request.getDesiredResourceState() : request.getPreviousResourceState();
         ResourceModel newModel = request.getDesiredResourceState();
-        final Map<String, String> stackTags = request.getDesiredResourceTags();
         final String awsAccountId = request.getAwsAccountId();
 
         logger.log(String.format("%s for accountId: %s",
                 OPERATION, awsAccountId));
 
-        Map<String, String> combinedTags = new HashMap<>();
-        Map<String, String> modelTags = Translator.translateTagsToSdk(newModel.getTags());
-        if (stackTags != null) {
-            combinedTags.putAll(stackTags);
-        }
-        if (modelTags != null) {
-            combinedTags.putAll(modelTags);
-        }
-
         validatePropertiesAreUpdatable(newModel, prevModel);
 
         return ProgressEvent.progress(newModel, callbackContext)
@@ -73,10 +67,10 @@ public class UpdateHandler extends BaseHandlerStd {
                                 .progress())
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH_TAG, proxyClient, newModel, callbackContext)
-                                .translateToServiceRequest(model -> Translator.translateToListTagsRequestAfterUpdate(newModel, proxyClient, OPERATION, combinedTags))
-                                .makeServiceCall(this::listResourceTags)
-                                .progress())
-                .then(progress -> new ReadHandler().handleRequest(proxy, request.toBuilder().desiredResourceState(newModel).build(), callbackContext, proxyClient, logger));
+                                .translateToServiceRequest(Translator::translateToReadRequest)
+                                .makeServiceCall(this::readResource)
+                                .done((getPackageRequest, getPackageResponse, client, model, context) ->
+                                        updateResourceTags(getPackageResponse, client, request, context)));
     }
 
     private void validatePropertiesAreUpdatable(ResourceModel newModel, ResourceModel prevModel) {
@@ -93,18 +87,40 @@ public class UpdateHandler extends BaseHandlerStd {
                 .build());
     }
 
-    private ListTagsForResourceResponse listResourceTags(
-            ListTagsForResourceRequest listTagsForResourceRequest,
+    private GetPackageResponse readResource(
+            GetPackageRequest getPackageRequest,
             ProxyClient<IotClient> proxyClient) {
         try {
-            final ListTagsForResourceResponse listTagsForResourceResponse = proxyClient.injectCredentialsAndInvokeV2(
-                    listTagsForResourceRequest, proxyClient.client()::listTagsForResource);
-            logger.log(String.format("%s has been successfully updated with tags.",
-                    ResourceModel.TYPE_NAME));
-            return listTagsForResourceResponse;
+            return proxyClient.injectCredentialsAndInvokeV2(getPackageRequest, proxyClient.client()::getPackage);
         } catch (IotException e) {
-            throw Translator.translateIotExceptionToHandlerException("Tagging operation", OPERATION, e);
+            throw Translator.translateIotExceptionToHandlerException(getPackageRequest.packageName(), OPERATION, e);
+        }
+    }
+
+    /**
+     * Reconciles the tags and builds the updated model from what this invocation already fetched, so
+     * no Read is needed afterwards.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> updateResourceTags(
+            GetPackageResponse getPackageResponse,
+            ProxyClient<IotClient> proxyClient,
+            ResourceHandlerRequest<ResourceModel> request,
+            CallbackContext callbackContext) {
+        Map<String, String> tags = callbackContext.getReconciledTags();
+        if (tags == null) {
+            try {
+                tags = new TagReconciler(proxyClient::injectCredentialsAndInvokeV2, proxyClient.client(), logger)
+                        .reconcile(getPackageResponse.packageArn(), request);
+                logger.log(String.format("%s has been successfully updated with tags.",
+                        ResourceModel.TYPE_NAME));
+            } catch (IotException e) {
+                throw Translator.translateIotExceptionToHandlerException("Tagging operation", OPERATION, e);
+            }
+            callbackContext.setReconciledTags(tags);
         }
+        final ResourceModel resourceModel = Translator.translateFromReadResponse(getPackageResponse);
+        resourceModel.setTags(Translator.translateTagsToCfn(tags));
+        return ProgressEvent.defaultSuccessHandler(resourceModel);
     }
 
     /**
@@ -0,0 +1,63 @@
+package software.amazon.iot.softwarepackage;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BaseHandlerAsyncTest {
+
+    @Test
+    public void fanOut_StartsNextCallWhenOneCompletes() {
+        final List<CompletableFuture<String>> started = new ArrayList<>();
+
+        final CompletableFuture<List<String>> result = BaseHandlerAsync.fanOut(
+                Arrays.asList("a", "b", "c"), 2, item -> {
+                    final CompletableFuture<String> call = new CompletableFuture<>();
+                    started.add(call);
+                    return call;
+                });
+
+        assertThat(started).hasSize(2);
+        started.get(1).complete("B");
+        assertThat(started).hasSize(3);
+        started.get(2).complete("C");
+        started.get(0).complete("A");
+
+        assertThat(result.join()).containsExactly("A", "B", "C");
+    }
+
+    @Test
+    public void fanOut_Failure_StopsStartingCalls() {
+        final List<CompletableFuture<String>> started = new ArrayList<>();
+        final IllegalStateException failure = new IllegalStateException("failed");
+
+        final CompletableFuture<List<String>> result = BaseHandlerAsync.fanOut(
+                Arrays.asList("a", "b", "c"), 1, item -> {
+                    final CompletableFuture<String> call = new CompletableFuture<>();
+                    started.add(call);
+                    return call;
+                });
+
+        started.get(0).completeExceptionally(failure);
+
+        assertThat(started).hasSize(1);
+        final CompletionException thrown = Assertions.assertThrows(CompletionException.class, result::join);
+        assertThat(thrown.getCause()).isSameAs(failure);
+    }
+
+    @Test
+    public void fanOut_NoItems_CompletesEmpty() {
+        final CompletableFuture<List<String>> result = BaseHandlerAsync.fanOut(
+                Collections.<String>emptyList(), 2, item -> new CompletableFuture<>());
+
+        assertThat(result.join()).isEmpty();
+    }
+}
@@ -6,11 +6,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.iot.model.CreatePackageRequest;
 import software.amazon.awssdk.services.iot.model.CreatePackageResponse;
 import software.amazon.awssdk.services.iot.model.GetPackageRequest;
-import software.amazon.awssdk.services.iot.model.GetPackageResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.ResourceAlreadyExistsException;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iot.model.Tag;
@@ -28,13 +26,12 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,18 +48,10 @@ public class CreateHandlerTest extends HandlerTestBase {
                         .packageName(PKG_NAME)
                         .packageArn(PKG_ARN)
                         .build();
-        final GetPackageResponse getPackageResponse =
-                GetPackageResponse
-                        .builder()
-                        .packageName(PKG_NAME)
-                        .packageArn(PKG_ARN)
-                        .defaultVersionName(DEFAULT_VER_NAME)
-                        .build();
 
-        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(Collections.emptyList()).build();
         final ResourceModel model = ResourceModel.builder()
-                .packageName(getPackageResponse.packageName())
-                .packageArn(getPackageResponse.packageArn())
+                .packageName(PKG_NAME)
+                .packageArn(PKG_ARN)
                 .tags(Collections.emptySet())
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -71,8 +60,6 @@ public class CreateHandlerTest extends HandlerTestBase {
                 .build();
 
         when(iotClient.createPackage(any(CreatePackageRequest.class))).thenReturn(createPackageResponse);
-        when(iotClient.getPackage(any(GetPackageRequest.class))).thenReturn(getPackageResponse);
-        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -84,6 +71,8 @@ public class CreateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(iotClient, never()).getPackage(any(GetPackageRequest.class));
+        verify(iotClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -96,26 +85,11 @@ public class CreateHandlerTest extends HandlerTestBase {
                         .description(PKG_DESC)
                         .build();
 
-        final GetPackageResponse getPackageResponse =
-                GetPackageResponse
-                        .builder()
-                        .packageName(PKG_NAME)
-                        .packageArn(PKG_ARN)
-                        .description(PKG_DESC)
-                        .defaultVersionName(DEFAULT_VER_NAME)
-                        .build();
-
         final List<Tag> TAGS = new ArrayList<software.amazon.awssdk.services.iot.model.Tag>(){{
             add(software.amazon.awssdk.services.iot.model.Tag.builder().key("key1").value("value1").build());
             add(software.amazon.awssdk.services.iot.model.Tag.builder().key("key2").value("value2").build());
         }};
 
-        final ListTagsForResourceResponse listTagsForResourceResponse =
-                ListTagsForResourceResponse
-                        .builder()
-                        .tags(TAGS)
-                        .build();
-
         final ResourceModel model = ResourceModel.builder()
                 .packageName(PKG_NAME)
                 .packageArn(PKG_ARN)
@@ -128,9 +102,6 @@ public class CreateHandlerTest extends HandlerTestBase {
                 .build();
 
         when(iotClient.createPackage(any(CreatePackageRequest.class))).thenReturn(createPackageResponse);
-        when(iotClient.getPackage(any(GetPackageRequest.class))).thenReturn(getPackageResponse);
-        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
-                .thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -142,6 +113,8 @@ public class CreateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(iotClient, never()).getPackage(any(GetPackageRequest.class));
+        verify(iotClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
 
@@ -155,17 +128,6 @@ public class CreateHandlerTest extends HandlerTestBase {
                         .description(PKG_DESC)
                         .build();
 
-        final GetPackageResponse getPackageResponse =
-                GetPackageResponse
-                        .builder()
-                        .packageName("Generated Name")
-                        .packageArn(PKG_ARN)
-                        .description(PKG_DESC)
-                        .defaultVersionName(DEFAULT_VER_NAME)
-                        .build();
-
-        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(Collections.emptyList()).build();
-
         final ResourceModel model = ResourceModel.builder()
                 .build();
 
@@ -176,8 +138,6 @@ public class CreateHandlerTest extends HandlerTestBase {
                 .build();
 
         when(iotClient.createPackage(any(CreatePackageRequest.class))).thenReturn(createPackageResponse);
-        when(iotClient.getPackage(any(GetPackageRequest.class))).thenReturn(getPackageResponse);
-        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -189,6 +149,8 @@ public class CreateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(iotClient, never()).getPackage(any(GetPackageRequest.class));
+        verify(iotClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -280,64 +242,4 @@ public class CreateHandlerTest extends HandlerTestBase {
                 handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
         verify(iotClient).createPackage(any(CreatePackageRequest.class));
     }
-
-    @Test
-    public void handleRequest_Describe_InternalFailureException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenThrow(InternalFailureException.builder().build());
-
-        assertThrows(CfnInternalFailureException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackage(any(GetPackageRequest.class));
-    }
-
-    @Test
-    public void handleRequest_Describe_InvalidRequestException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenThrow(InvalidRequestException.builder().build());
-
-        assertThrows(CfnInvalidRequestException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackage(any(GetPackageRequest.class));
-    }
-
-    @Test
-    public void handleRequest_Describe_ServiceUnavailableException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenThrow(ServiceUnavailableException.builder().build());
-
-        assertThrows(CfnGeneralServiceException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackage(any(GetPackageRequest.class));
-    }
-
-    @Test
-    public void handleRequest_Describe_ThrottlingException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenThrow(ThrottlingException.builder().build());
-
-        assertThrows(CfnThrottlingException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackage(any(GetPackageRequest.class));
-    }
 }
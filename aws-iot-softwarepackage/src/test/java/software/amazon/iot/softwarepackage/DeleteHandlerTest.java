@@ -11,6 +11,7 @@ import software.amazon.awssdk.services.iot.model.GetPackageVersionResponse;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.ListPackageVersionsRequest;
 import software.amazon.awssdk.services.iot.model.ListPackageVersionsResponse;
+import software.amazon.awssdk.services.iot.model.PackageVersionSummary;
 import software.amazon.awssdk.services.iot.model.UpdatePackageRequest;
 import software.amazon.awssdk.services.iot.model.UpdatePackageResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
@@ -29,11 +30,21 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -51,15 +62,15 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .clientRequestToken("TOKEN")
                 .build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(DeletePackageResponse.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(completedFuture(DeletePackageResponse.builder().build()));
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
-                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+                handler.handleRequest(proxy, request, new CallbackContext(), asyncProxyClient, LOGGER);
 
         assertThat(response).isNotNull();
         assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
@@ -70,6 +81,123 @@ public class DeleteHandlerTest extends HandlerTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_DeletesVersionsOfEveryPage() {
+        final ResourceModel model = ResourceModel.builder().packageName(PKG_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder()
+                        .packageVersionSummaries(versionSummary("1.0"), versionSummary("1.1"))
+                        .nextToken("nextToken")
+                        .build()))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder()
+                        .packageVersionSummaries(versionSummary("2.0"))
+                        .build()))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackageVersion(any(DeletePackageVersionRequest.class)))
+                .thenReturn(completedFuture(DeletePackageVersionResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class)))
+                .thenReturn(completedFuture(DeletePackageResponse.builder().build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), asyncProxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotAsyncClient, times(3)).deletePackageVersion(any(DeletePackageVersionRequest.class));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
+    }
+
+    @Test
+    public void handleRequest_OutOfTime_StabilizerDeletesRemainingPages() {
+        final ResourceModel model = ResourceModel.builder().packageName(PKG_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        final AtomicReference<Instant> now = new AtomicReference<>(start);
+        final Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        final DeleteHandler deadlineHandler = new DeleteHandler() {
+            @Override
+            Deadline startDeadline() {
+                return new Deadline(clock, Deadline.INVOCATION_BUDGET);
+            }
+        };
+
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenAnswer(invocation -> {
+                    // The first page uses up the invocation.
+                    now.set(start.plus(Deadline.INVOCATION_BUDGET).minus(Deadline.CHECKPOINT_MARGIN).plusSeconds(1));
+                    return completedFuture(ListPackageVersionsResponse.builder()
+                            .packageVersionSummaries(versionSummary("1.0"), versionSummary("1.1"))
+                            .nextToken("nextToken")
+                            .build());
+                })
+                .thenAnswer(invocation -> {
+                    // Stands in for the fresh deadline of the invocation that resumes.
+                    now.set(start);
+                    return completedFuture(ListPackageVersionsResponse.builder()
+                            .packageVersionSummaries(versionSummary("2.0"))
+                            .build());
+                })
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder()
+                        .packageVersionSummaries(versionSummary("2.0"))
+                        .build()))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackageVersion(any(DeletePackageVersionRequest.class)))
+                .thenReturn(completedFuture(DeletePackageVersionResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class)))
+                .thenReturn(completedFuture(DeletePackageResponse.builder().build()));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                deadlineHandler.handleRequest(proxy, request, new CallbackContext(), asyncProxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<ListPackageVersionsRequest> listCaptor = ArgumentCaptor.forClass(ListPackageVersionsRequest.class);
+        verify(iotAsyncClient, times(4)).listPackageVersions(listCaptor.capture());
+        // The second page is never requested with the token, the remaining versions are listed again.
+        assertThat(listCaptor.getAllValues()).allMatch(listRequest -> listRequest.nextToken() == null);
+        verify(iotAsyncClient, times(3)).deletePackageVersion(any(DeletePackageVersionRequest.class));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
+    }
+
+    @Test
+    public void handleRequest_VersionDeleteFails() {
+        final ResourceModel model = ResourceModel.builder().packageName(PKG_NAME).build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder()
+                        .packageVersionSummaries(versionSummary("1.0"), versionSummary("1.1"))
+                        .build()));
+        when(iotAsyncClient.deletePackageVersion(any(DeletePackageVersionRequest.class)))
+                .thenReturn(completedFuture(DeletePackageVersionResponse.builder().build()))
+                .thenReturn(failedFuture(ThrottlingException.builder().build()));
+
+        assertThrows(CfnThrottlingException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), asyncProxyClient, LOGGER));
+        verify(iotAsyncClient, never()).deletePackage(any(DeletePackageRequest.class));
+    }
+
     @Test
     public void handleRequest_ResourceNotFound() {
         final ResourceModel model = ResourceModel.builder()
@@ -77,16 +205,16 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenThrow(ResourceNotFoundException.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
 
         assertThrows(CfnNotFoundException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).deletePackage(any(DeletePackageRequest.class));
+                handler.handleRequest(proxy, request, new CallbackContext(),asyncProxyClient,LOGGER));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
     }
 
     @Test
@@ -96,16 +224,16 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenThrow(InvalidRequestException.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(failedFuture(InvalidRequestException.builder().build()));
 
         assertThrows(CfnInvalidRequestException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).deletePackage(any(DeletePackageRequest.class));
+                handler.handleRequest(proxy, request, new CallbackContext(),asyncProxyClient,LOGGER));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
     }
 
     @Test
@@ -115,16 +243,16 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenThrow(InternalFailureException.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(failedFuture(InternalFailureException.builder().build()));
 
         assertThrows(CfnInternalFailureException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).deletePackage(any(DeletePackageRequest.class));
+                handler.handleRequest(proxy, request, new CallbackContext(),asyncProxyClient,LOGGER));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
     }
 
     @Test
@@ -134,16 +262,16 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenThrow(ThrottlingException.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(failedFuture(ThrottlingException.builder().build()));
 
         assertThrows(CfnThrottlingException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).deletePackage(any(DeletePackageRequest.class));
+                handler.handleRequest(proxy, request, new CallbackContext(),asyncProxyClient,LOGGER));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
     }
 
     @Test
@@ -153,16 +281,16 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenThrow(ServiceUnavailableException.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(failedFuture(ServiceUnavailableException.builder().build()));
 
         assertThrows(CfnGeneralServiceException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).deletePackage(any(DeletePackageRequest.class));
+                handler.handleRequest(proxy, request, new CallbackContext(),asyncProxyClient,LOGGER));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
     }
 
     @Test
@@ -172,15 +300,22 @@ public class DeleteHandlerTest extends HandlerTestBase {
                 .build();
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
 
-        when(iotClient.getPackage(any(GetPackageRequest.class)))
-                .thenReturn(GetPackageResponse.builder().build())
-                .thenThrow(ResourceNotFoundException.class);
-        when(iotClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
-                .thenReturn(ListPackageVersionsResponse.builder().build());
-        when(iotClient.deletePackage(any(DeletePackageRequest.class))).thenThrow(UnauthorizedException.builder().build());
+        when(iotAsyncClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(completedFuture(GetPackageResponse.builder().build()))
+                .thenReturn(failedFuture(ResourceNotFoundException.builder().build()));
+        when(iotAsyncClient.listPackageVersions(any(ListPackageVersionsRequest.class)))
+                .thenReturn(completedFuture(ListPackageVersionsResponse.builder().build()));
+        when(iotAsyncClient.deletePackage(any(DeletePackageRequest.class))).thenReturn(failedFuture(UnauthorizedException.builder().build()));
 
         assertThrows(CfnAccessDeniedException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).deletePackage(any(DeletePackageRequest.class));
+                handler.handleRequest(proxy, request, new CallbackContext(),asyncProxyClient,LOGGER));
+        verify(iotAsyncClient).deletePackage(any(DeletePackageRequest.class));
+    }
+
+    private static PackageVersionSummary versionSummary(final String versionName) {
+        return PackageVersionSummary.builder()
+                .packageName(PKG_NAME)
+                .versionName(versionName)
+                .build();
     }
 }
@@ -7,6 +7,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.iot.IotAsyncClient;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
@@ -85,15 +86,50 @@ public class HandlerTestBase {
         };
     }
 
+    static ProxyClient<IotAsyncClient> MOCK_ASYNC_PROXY(final AmazonWebServicesClientProxy proxy, final IotAsyncClient iotAsyncClient) {
+        return new ProxyClient<IotAsyncClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(
+                    RequestT request,
+                    Function<RequestT, CompletableFuture<ResponseT>> requestFunction
+            ) {
+                return proxy.injectCredentialsAndInvokeV2Async(request, requestFunction);
+            }
+
+            @Override
+            public IotAsyncClient client() {
+                return iotAsyncClient;
+            }
+        };
+    }
+
+    static <T> CompletableFuture<T> failedFuture(final Throwable e) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(e);
+        return future;
+    }
+
     protected AmazonWebServicesClientProxy proxy;
     protected ProxyClient<IotClient> proxyClient;
     protected IotClient iotClient;
+    protected ProxyClient<IotAsyncClient> asyncProxyClient;
+    protected IotAsyncClient iotAsyncClient;
 
     @BeforeEach
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(LOGGER, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         iotClient = mock(IotClient.class);
         proxyClient = MOCK_PROXY(proxy, iotClient);
+        iotAsyncClient = mock(IotAsyncClient.class);
+        asyncProxyClient = MOCK_ASYNC_PROXY(proxy, iotAsyncClient);
     }
 
     protected final static String PKG_ARN = "arn:aws:iot:us-east-1:1234567890:package/packageId";
@@ -0,0 +1,80 @@
+package software.amazon.iot.softwarepackage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IdempotencyCacheTest {
+
+    private static final ResourceModel MODEL = ResourceModel.builder().packageName("pkg").build();
+
+    @BeforeEach
+    public void clearCache() {
+        IdempotencyCache.clear();
+    }
+
+    @Test
+    public void resume_SameInvocation_ReturnsRecordedContext() {
+        final CallbackContext recorded = new CallbackContext();
+        recorded.setReconciledTags(Collections.emptyMap());
+        IdempotencyCache.record(UpdateHandler.class, request("token", "Package"), recorded);
+
+        final CallbackContext resumed = IdempotencyCache.resume(
+                UpdateHandler.class, request("token", "Package"), new CallbackContext());
+
+        assertThat(resumed).isSameAs(recorded);
+    }
+
+    @Test
+    public void resume_OtherResourceOrHandler_StartsFresh() {
+        IdempotencyCache.record(UpdateHandler.class, request("token", "Package"), new CallbackContext());
+        final CallbackContext fresh = new CallbackContext();
+
+        // The client request token is shared by every resource of a stack operation.
+        assertThat(IdempotencyCache.resume(UpdateHandler.class, request("token", "OtherPackage"), fresh)).isSameAs(fresh);
+        assertThat(IdempotencyCache.resume(CreateHandler.class, request("token", "Package"), fresh)).isSameAs(fresh);
+        assertThat(IdempotencyCache.resume(UpdateHandler.class, request("other", "Package"), fresh)).isSameAs(fresh);
+    }
+
+    @Test
+    public void resume_ContextWithRecordedCalls_IsKept() {
+        IdempotencyCache.record(UpdateHandler.class, request("token", "Package"), new CallbackContext());
+        final CallbackContext inProgress = new CallbackContext();
+        inProgress.<String, String, String>response("AWS-IoT-SoftwarePackage::Update", (request, client) -> "response")
+                .apply("request", "client");
+
+        assertThat(IdempotencyCache.resume(UpdateHandler.class, request("token", "Package"), inProgress)).isSameAs(inProgress);
+    }
+
+    @Test
+    public void record_WithoutClientRequestToken_IsNotCached() {
+        IdempotencyCache.record(UpdateHandler.class, request(null, "Package"), new CallbackContext());
+        final CallbackContext fresh = new CallbackContext();
+
+        assertThat(IdempotencyCache.resume(UpdateHandler.class, request(null, "Package"), fresh)).isSameAs(fresh);
+    }
+
+    @Test
+    public void record_EvictsLeastRecentlyUsed() {
+        final CallbackContext first = new CallbackContext();
+        IdempotencyCache.record(UpdateHandler.class, request("token0", "Package"), first);
+        for (int i = 1; i <= IdempotencyCache.MAX_ENTRIES; i++) {
+            IdempotencyCache.record(UpdateHandler.class, request("token" + i, "Package"), new CallbackContext());
+        }
+        final CallbackContext fresh = new CallbackContext();
+
+        assertThat(IdempotencyCache.resume(UpdateHandler.class, request("token0", "Package"), fresh)).isSameAs(fresh);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final String token, final String logicalId) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+                .clientRequestToken(token)
+                .logicalResourceIdentifier(logicalId)
+                .desiredResourceState(MODEL)
+                .build();
+    }
+}
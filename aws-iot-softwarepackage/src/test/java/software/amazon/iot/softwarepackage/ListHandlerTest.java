@@ -4,12 +4,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudformation.model.OperationStatus;
+import software.amazon.awssdk.services.iot.model.GetPackageRequest;
+import software.amazon.awssdk.services.iot.model.GetPackageResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.ListPackagesRequest;
 import software.amazon.awssdk.services.iot.model.ListPackagesResponse;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.PackageSummary;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.awssdk.services.iot.model.UnauthorizedException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
@@ -23,6 +28,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +62,34 @@ public class ListHandlerTest extends HandlerTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_Hydrated_ReturnsFullModels() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listPackages(any(ListPackagesRequest.class)))
+                .thenReturn(ListPackagesResponse.builder()
+                        .packageSummaries(PackageSummary.builder().packageName(PKG_NAME).build())
+                        .build());
+        when(iotClient.getPackage(any(GetPackageRequest.class)))
+                .thenReturn(GetPackageResponse.builder()
+                        .packageName(PKG_NAME)
+                        .packageArn(PKG_ARN)
+                        .build());
+        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key").value("value").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getPackageArn()).isEqualTo(PKG_ARN);
+        assertThat(response.getResourceModels().get(0).getTags()).hasSize(1);
+    }
+
     @Test
     public void handleRequest_InternalFailureException() {
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
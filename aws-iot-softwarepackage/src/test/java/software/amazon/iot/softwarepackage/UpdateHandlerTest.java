@@ -32,6 +32,7 @@ import java.util.HashSet;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -89,6 +90,42 @@ public class UpdateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // Properties and tags are each fetched once, not again by a trailing Read.
+        verify(iotClient).getPackage(any(GetPackageRequest.class));
+        verify(iotClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_RetryResumesAfterCompletedSteps() {
+        final ResourceModel model = ResourceModel.builder()
+                .packageName(PKG_NAME)
+                .packageArn(PKG_ARN)
+                .tags(Collections.emptySet())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        when(iotClient.updatePackage(any(UpdatePackageRequest.class))).thenReturn(UpdatePackageResponse.builder().build());
+        when(iotClient.getPackage(any(GetPackageRequest.class))).thenReturn(GetPackageResponse.builder()
+                .packageName(PKG_NAME)
+                .packageArn(PKG_ARN)
+                .build());
+        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenThrow(ThrottlingException.builder().build())
+                .thenReturn(ListTagsForResourceResponse.builder().tags(Collections.emptyList()).build());
+
+        assertThrows(CfnThrottlingException.class, () ->
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, LOGGER));
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getReconciledTags()).isEmpty();
+        // UpdatePackage and GetPackage succeeded on the first attempt, so only tagging is retried.
+        verify(iotClient).updatePackage(any(UpdatePackageRequest.class));
+        verify(iotClient).getPackage(any(GetPackageRequest.class));
+        verify(iotClient, times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -22,13 +22,24 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        if (!resumesRetries()) {
+            return handleRequest(proxy, request, context, proxy.newProxy(ClientBuilder::getClient), logger);
+        }
+        final CallbackContext resumed = IdempotencyCache.resume(getClass(), request, context);
+        try {
+            return handleRequest(proxy, request, resumed, proxy.newProxy(ClientBuilder::getClient), logger);
+        } finally {
+            IdempotencyCache.record(getClass(), request, resumed);
+        }
+    }
+
+    /**
+     * Whether a retry with the same client request token picks up the calls an earlier attempt
+     * completed instead of making them again, see {@link IdempotencyCache}.
+     */
+    protected boolean resumesRetries() {
+        return false;
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -2,9 +2,16 @@ package software.amazon.iot.softwarepackageversion;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.Map;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Tags on the resource once the tagging step of an update succeeded. Calls made through the proxy
+     * are recorded by StdCallbackContext; tagging is not, so a resumed update checks this instead.
+     */
+    private Map<String, String> reconciledTags;
 }
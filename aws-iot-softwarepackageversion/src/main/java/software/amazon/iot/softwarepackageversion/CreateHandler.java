@@ -31,6 +31,11 @@ public class CreateHandler extends BaseHandlerStd {
     private Logger logger;
     private String clientToken;
 
+    @Override
+    protected boolean resumesRetries() {
+        return true;
+    }
+
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -69,8 +74,8 @@ public class CreateHandler extends BaseHandlerStd {
                     proxy.initiate(CALL_GRAPH, proxyClient, resourceModel, callbackContext)
                             .translateToServiceRequest(model -> Translator.translateToCreateRequest(resourceModel, combinedTags))
                             .makeServiceCall(this::createResource)
-                            .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                            .done(createPackageVersionResponse -> ProgressEvent.defaultSuccessHandler(
+                                    Translator.translateFromCreateResponse(createPackageVersionResponse, combinedTags))));
     }
 
     /**
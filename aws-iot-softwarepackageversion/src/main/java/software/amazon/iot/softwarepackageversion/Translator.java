@@ -8,8 +8,6 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import com.amazonaws.iot.cfn.common.handler.Tagging;
-import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.*;
 import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
@@ -22,7 +20,6 @@ import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceInternalErrorException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
-import software.amazon.cloudformation.proxy.ProxyClient;
 
 import javax.annotation.Resource;
 import java.util.stream.Stream;
@@ -103,16 +100,6 @@ public class Translator {
                 .build();
     }
 
-    static ListTagsForResourceRequest translateToListTagsRequestAfterUpdate(final ResourceModel model, final ProxyClient<IotClient> proxyClient, final String operation, Map<String, String> combinedTags) {
-        GetPackageVersionRequest getPackageVersionRequest = GetPackageVersionRequest.builder().packageName(model.getPackageName()).versionName(model.getVersionName()).build();
-        GetPackageVersionResponse getPackageVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
-                getPackageVersionRequest, proxyClient.client()::getPackageVersion);
-        Tagging.updateResourceTags(getPackageVersionResponse.packageVersionArn(), model.getVersionName(), operation,
-                ResourceModel.TYPE_NAME, combinedTags, proxyClient);
-
-        return ListTagsForResourceRequest.builder().resourceArn(getPackageVersionResponse.packageVersionArn()).build();
-    }
-
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                 .map(Collection::stream)
@@ -150,6 +137,29 @@ public class Translator {
                 .build();
     }
 
+    /**
+     * CreatePackageVersion echoes the fields GetPackageVersion returns, and a new version carries
+     * exactly the tags it was created with, so the created model needs neither GetPackageVersion nor
+     * ListTagsForResource.
+     */
+    static ResourceModel translateFromCreateResponse(final CreatePackageVersionResponse createPackageVersionResponse,
+                                                     final Map<String, String> tags) {
+        String errorReason = createPackageVersionResponse.errorReason();
+        if (errorReason == null) {
+            errorReason = "";
+        }
+        return ResourceModel.builder()
+                .packageVersionArn(createPackageVersionResponse.packageVersionArn())
+                .packageName(createPackageVersionResponse.packageName())
+                .versionName(createPackageVersionResponse.versionName())
+                .description(createPackageVersionResponse.description())
+                .attributes(createPackageVersionResponse.attributes())
+                .status(createPackageVersionResponse.statusAsString())
+                .errorReason(errorReason)
+                .tags(translateTagsToCfn(tags))
+                .build();
+    }
+
     static Set<software.amazon.iot.softwarepackageversion.Tag> translateTagsToCfn(final List<software.amazon.awssdk.services.iot.model.Tag> tags) {
         if (tags == null) {
             return Collections.emptySet();
@@ -162,6 +172,15 @@ public class Translator {
                 .collect(Collectors.toSet());
     }
 
+    static Set<software.amazon.iot.softwarepackageversion.Tag> translateTagsToCfn(final Map<String, String> tags) {
+        return tags.entrySet().stream()
+                .map(tag -> software.amazon.iot.softwarepackageversion.Tag.builder()
+                        .key(tag.getKey())
+                        .value(tag.getValue())
+                        .build())
+                .collect(Collectors.toSet());
+    }
+
     static Map<String, String> translateTagsToSdk(
             final Set<software.amazon.iot.softwarepackageversion.Tag> tags) {
         if (tags == null) {
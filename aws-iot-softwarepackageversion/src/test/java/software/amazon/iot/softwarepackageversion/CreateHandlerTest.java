@@ -3,18 +3,12 @@ package software.amazon.iot.softwarepackageversion;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
-import software.amazon.awssdk.services.iot.model.CreatePackageRequest;
-import software.amazon.awssdk.services.iot.model.CreatePackageResponse;
 import software.amazon.awssdk.services.iot.model.CreatePackageVersionRequest;
 import software.amazon.awssdk.services.iot.model.CreatePackageVersionResponse;
-import software.amazon.awssdk.services.iot.model.GetPackageRequest;
-import software.amazon.awssdk.services.iot.model.GetPackageResponse;
 import software.amazon.awssdk.services.iot.model.GetPackageVersionRequest;
-import software.amazon.awssdk.services.iot.model.GetPackageVersionResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
-import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.PackageVersionStatus;
 import software.amazon.awssdk.services.iot.model.ResourceAlreadyExistsException;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
@@ -33,13 +27,12 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -57,19 +50,11 @@ public class CreateHandlerTest extends HandlerTestBase {
                         .versionName(VER_NAME)
                         .packageVersionArn(PKG_VER_ARN)
                         .build();
-        final GetPackageVersionResponse getPackageVersionResponse =
-                GetPackageVersionResponse
-                        .builder()
-                        .packageName(PKG_NAME)
-                        .versionName(VER_NAME)
-                        .packageVersionArn(PKG_VER_ARN)
-                        .build();
 
-        final ListTagsForResourceResponse listTagsForResourceResponse = ListTagsForResourceResponse.builder().tags(Collections.emptyList()).build();
         final ResourceModel model = ResourceModel.builder()
-                .packageName(getPackageVersionResponse.packageName())
-                .versionName(getPackageVersionResponse.versionName())
-                .packageVersionArn(getPackageVersionResponse.packageVersionArn())
+                .packageName(PKG_NAME)
+                .versionName(VER_NAME)
+                .packageVersionArn(PKG_VER_ARN)
                 .attributes(Collections.emptyMap())
                 .errorReason("")
                 .tags(Collections.emptySet())
@@ -80,8 +65,6 @@ public class CreateHandlerTest extends HandlerTestBase {
                 .build();
 
         when(iotClient.createPackageVersion(any(CreatePackageVersionRequest.class))).thenReturn(createPackageVersionResponse);
-        when(iotClient.getPackageVersion(any(GetPackageVersionRequest.class))).thenReturn(getPackageVersionResponse);
-        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class))).thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -93,6 +76,8 @@ public class CreateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(iotClient, never()).getPackageVersion(any(GetPackageVersionRequest.class));
+        verify(iotClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -108,28 +93,11 @@ public class CreateHandlerTest extends HandlerTestBase {
                         .attributes(Collections.singletonMap("key", "value"))
                         .build();
 
-        final GetPackageVersionResponse getPackageVersionResponse =
-                GetPackageVersionResponse
-                        .builder()
-                        .packageName(PKG_NAME)
-                        .versionName(VER_NAME)
-                        .packageVersionArn(PKG_VER_ARN)
-                        .description(PKG_VER_DESC)
-                        .status(PackageVersionStatus.PUBLISHED)
-                        .attributes(Collections.singletonMap("key", "value"))
-                        .build();
-
         final List<Tag> TAGS = new ArrayList<Tag>(){{
             add(software.amazon.awssdk.services.iot.model.Tag.builder().key("key1").value("value1").build());
             add(software.amazon.awssdk.services.iot.model.Tag.builder().key("key2").value("value2").build());
         }};
 
-        final ListTagsForResourceResponse listTagsForResourceResponse =
-                ListTagsForResourceResponse
-                        .builder()
-                        .tags(TAGS)
-                        .build();
-
         final ResourceModel model = ResourceModel.builder()
                 .packageName(PKG_NAME)
                 .versionName(VER_NAME)
@@ -146,9 +114,6 @@ public class CreateHandlerTest extends HandlerTestBase {
                 .build();
 
         when(iotClient.createPackageVersion(any(CreatePackageVersionRequest.class))).thenReturn(createPackageVersionResponse);
-        when(iotClient.getPackageVersion(any(GetPackageVersionRequest.class))).thenReturn(getPackageVersionResponse);
-        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
-                .thenReturn(listTagsForResourceResponse);
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
                 handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
@@ -160,6 +125,8 @@ public class CreateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(iotClient, never()).getPackageVersion(any(GetPackageVersionRequest.class));
+        verify(iotClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -251,64 +218,4 @@ public class CreateHandlerTest extends HandlerTestBase {
                 handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
         verify(iotClient).createPackageVersion(any(CreatePackageVersionRequest.class));
     }
-
-    @Test
-    public void handleRequest_Describe_InternalFailureException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackageVersion(any(GetPackageVersionRequest.class)))
-                .thenThrow(InternalFailureException.builder().build());
-
-        assertThrows(CfnInternalFailureException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackageVersion(any(GetPackageVersionRequest.class));
-    }
-
-    @Test
-    public void handleRequest_Describe_InvalidRequestException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackageVersion(any(GetPackageVersionRequest.class)))
-                .thenThrow(InvalidRequestException.builder().build());
-
-        assertThrows(CfnInvalidRequestException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackageVersion(any(GetPackageVersionRequest.class));
-    }
-
-    @Test
-    public void handleRequest_Describe_ServiceUnavailableException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackageVersion(any(GetPackageVersionRequest.class)))
-                .thenThrow(ServiceUnavailableException.builder().build());
-
-        assertThrows(CfnGeneralServiceException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackageVersion(any(GetPackageVersionRequest.class));
-    }
-
-    @Test
-    public void handleRequest_Describe_ThrottlingException() {
-        final ResourceModel model = ResourceModel.builder()
-                .packageName(PKG_NAME)
-                .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
-
-        when(iotClient.getPackageVersion(any(GetPackageVersionRequest.class)))
-                .thenThrow(ThrottlingException.builder().build());
-
-        assertThrows(CfnThrottlingException.class, () ->
-                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
-        verify(iotClient).getPackageVersion(any(GetPackageVersionRequest.class));
-    }
 }
@@ -91,6 +91,10 @@ public class UpdateHandlerTest extends HandlerTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+
+        // Properties and tags are each fetched once, not again by a trailing Read.
+        verify(iotClient).getPackageVersion(any(GetPackageVersionRequest.class));
+        verify(iotClient).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -1,6 +1,8 @@
 package software.amazon.iot.thing;
 
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,14 +16,27 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
             final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final Logger logger) {
-        return handleRequest(
-                proxy,
-                request,
-                callbackContext != null ? callbackContext : new CallbackContext(),
-                proxy.newProxy(ClientBuilder::getClient),
-                logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        try {
+            return handleRequest(proxy, request, context, proxy.newProxy(ClientBuilder::getClient), logger);
+        } catch (final CfnThrottlingException | ThrottlingException e) {
+            if (!reschedulesThrottles()) {
+                throw e;
+            }
+            return ThrottleBackoff.reschedule(request.getDesiredResourceState(), context, logger)
+                    .orElseThrow(() -> e);
+        }
     }
+
+    /**
+     * Whether a throttle returns IN_PROGRESS so the operation carries on after a delay instead of
+     * failing, see {@link ThrottleBackoff}. Only for handlers that pick up where they stopped when
+     * invoked again with the same context.
+     */
+    protected boolean reschedulesThrottles() {
+        return false;
+    }
+
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
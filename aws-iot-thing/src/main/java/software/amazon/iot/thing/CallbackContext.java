@@ -2,9 +2,25 @@ package software.amazon.iot.thing;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
+import java.util.List;
+
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Throttles this operation has seen recently, and when the last one was, see {@link ThrottleBackoff}.
+     */
+    private int throttles;
+    private long lastThrottledAt;
+    /**
+     * Principals the delete handler still has to detach, null until they have been listed, see
+     * {@link PrincipalDetacher}.
+     */
+    private List<String> principalsToDetach;
+    /**
+     * Times the delete handler has listed the principals again after detaching them.
+     */
+    private int detachChecks;
 }
@@ -8,6 +8,7 @@ public class ClientBuilder {
     public static IotClient getClient() {
         return IotClient.builder()
                 .httpClient(LambdaWrapper.HTTP_CLIENT)
+                .overrideConfiguration(RetryBudget.overrideConfiguration())
                 .build();
     }
 }
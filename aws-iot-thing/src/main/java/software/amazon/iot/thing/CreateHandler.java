@@ -31,6 +31,11 @@ public class CreateHandler extends BaseHandlerStd {
     private static final int MAX_THING_NAME_LENGTH = 128;
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -0,0 +1,79 @@
+package software.amazon.iot.thing;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Time left in the current handler invocation.
+ *
+ * The delete handler stops starting principal detaches once {@link #shouldCheckpoint()} is true and
+ * returns IN_PROGRESS; the principals still attached stay in the CallbackContext for the next
+ * invocation. Calls made through {@link #bound} time out before the invocation does.
+ *
+ * In the hydrated List mode the List handler stops starting describes once {@link #shouldCheckpoint()}
+ * is true and returns the resources left with only their primary identifier.
+ */
+final class Deadline {
+
+    /**
+     * Time CloudFormation gives a single handler invocation.
+     */
+    static final Duration INVOCATION_BUDGET = Duration.ofSeconds(60);
+
+    /**
+     * Yield once less than this is left: enough for one more call and the response.
+     */
+    static final Duration CHECKPOINT_MARGIN = Duration.ofSeconds(15);
+
+    /**
+     * Kept back from every call's timeout to return the ProgressEvent.
+     */
+    static final Duration RESPONSE_RESERVE = Duration.ofSeconds(5);
+
+    static final Duration MIN_CALL_TIMEOUT = Duration.ofSeconds(1);
+
+    static final int RESUME_DELAY_SECONDS = 1;
+
+    private final Clock clock;
+    private final Instant end;
+
+    Deadline(final Clock clock, final Duration budget) {
+        this.clock = clock;
+        this.end = clock.instant().plus(budget);
+    }
+
+    static Deadline startingNow() {
+        return new Deadline(Clock.systemUTC(), INVOCATION_BUDGET);
+    }
+
+    Duration remaining() {
+        final Duration remaining = Duration.between(clock.instant(), end);
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    boolean shouldCheckpoint() {
+        return remaining().compareTo(CHECKPOINT_MARGIN) < 0;
+    }
+
+    /**
+     * @return the request with its apiCallTimeout capped at the time that is left, less the time
+     *         needed to respond
+     */
+    @SuppressWarnings("unchecked")
+    <T extends AwsRequest> T bound(final T request) {
+        Duration timeout = remaining().minus(RESPONSE_RESERVE);
+        if (timeout.compareTo(MIN_CALL_TIMEOUT) < 0) {
+            timeout = MIN_CALL_TIMEOUT;
+        }
+        final AwsRequestOverrideConfiguration overrideConfiguration = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder)
+                .apiCallTimeout(timeout)
+                .build();
+        return (T) request.toBuilder().overrideConfiguration(overrideConfiguration).build();
+    }
+}
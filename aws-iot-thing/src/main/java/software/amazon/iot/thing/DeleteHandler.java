@@ -16,11 +16,17 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Clock;
+
 /**
  * The handler deletes the THING resource (if it exists)
  * API Calls for DeleteHandler:
- * DescribeThing: To check whether the resource exists; throw "NotFound" status code otherwise
+ * DescribeThing: To check whether the resource exists; throw "NotFound" status code otherwise.
+ *   DeleteThing succeeds for a Thing that does not exist, so this check stays; the delete itself is synchronous
+ *   and is not followed by describes
  * DeleteThing: To delete a Thing
+ * ListThingPrincipals, DetachThingPrincipal: To detach the Thing's principals first, when DetachPrincipalsOnDelete is set,
+ *   and to wait until IoT no longer lists them
  */
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -28,6 +34,11 @@ public class DeleteHandler extends BaseHandlerStd {
     private static final String CALL_GRAPH = "AWS-IoT-Thing::Delete";
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -44,17 +55,24 @@ public class DeleteHandler extends BaseHandlerStd {
                     .build());
         }
 
+        final Deadline deadline = startDeadline();
         return ProgressEvent.progress(resourceModel, callbackContext)
+                .then(progress -> Boolean.TRUE.equals(resourceModel.getDetachPrincipalsOnDelete())
+                        ? new PrincipalDetacher(proxyClient, deadline, Clock.systemUTC(), logger).detachAll(progress)
+                        : progress)
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, resourceModel, callbackContext)
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
                                 .makeServiceCall(this::deleteResource)
-                                .stabilize(this::stabilizedOnDelete)
                                 .done(response -> ProgressEvent.<ResourceModel, CallbackContext>builder()
                                         .status(OperationStatus.SUCCESS)
                                         .build()));
     }
 
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
     /**
      * Implement client invocation of the delete request through the proxyClient, which is already initialised with
      * caller credentials, correct region and retry settings
@@ -77,20 +95,6 @@ public class DeleteHandler extends BaseHandlerStd {
         }
     }
 
-    private Boolean stabilizedOnDelete(
-            DeleteThingRequest deleteThingRequest,
-            DeleteThingResponse deleteThingResponse,
-            ProxyClient<IotClient> proxyClient,
-            ResourceModel resourceModel,
-            CallbackContext callbackContext) {
-        try {
-            checkForThing(deleteThingRequest.thingName(), proxyClient);
-            return false;
-        } catch (CfnNotFoundException e) {
-            return true;
-        }
-    }
-
     private void checkForThing(String thingName, ProxyClient<IotClient> proxyClient) {
         try {
             final DescribeThingRequest describeThingRequest = DescribeThingRequest.builder()
@@ -0,0 +1,157 @@
+package software.amazon.iot.thing;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Runs one call per item with at most {@code parallelism} calls in flight.
+ *
+ * Calls start in item order. The caller's thread starts them, waits, and starts the next one as soon
+ * as a call finishes, so the limit holds however the calls are scheduled. On Java 21 and later every
+ * call gets a virtual thread; on older runtimes calls run on a shared pool of daemon threads that
+ * idle out after a minute. Either way the threads outlive a single invocation, so warm invocations
+ * do not create them again.
+ *
+ * Once a call fails no further calls are started. The calls already in flight finish, and the first
+ * failure is thrown with any later ones attached as suppressed exceptions.
+ */
+final class FanOut {
+
+    static final int DEFAULT_PARALLELISM = 8;
+
+    private static final ExecutorService EXECUTOR = newExecutor();
+
+    private final int parallelism;
+
+    FanOut(final int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1, was " + parallelism);
+        }
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * @return the results in item order
+     */
+    <T, R> List<R> invokeAll(final List<? extends T> items, final Function<? super T, ? extends R> call) {
+        return invokeAll(items, call, () -> false);
+    }
+
+    /**
+     * Stops starting calls once {@code stop} returns true, for example when the invocation is running
+     * out of time. Calls already in flight still finish.
+     *
+     * @return the results in item order, for the calls that were started: as calls start in item
+     *         order these are the first {@code size()} items
+     */
+    <T, R> List<R> invokeAll(final List<? extends T> items,
+                             final Function<? super T, ? extends R> call,
+                             final BooleanSupplier stop) {
+        final ExecutorCompletionService<R> completionService = new ExecutorCompletionService<>(EXECUTOR);
+        final List<Future<R>> futures = new ArrayList<>(items.size());
+        Throwable failure = null;
+        boolean stopped = false;
+        int inFlight = 0;
+
+        while (true) {
+            while (failure == null && !stopped && inFlight < parallelism && futures.size() < items.size()) {
+                if (stop.getAsBoolean()) {
+                    stopped = true;
+                    break;
+                }
+                final T item = items.get(futures.size());
+                futures.add(completionService.submit(() -> call.apply(item)));
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                break;
+            }
+            try {
+                completionService.take().get();
+            } catch (final ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                } else if (e.getCause() != failure) {
+                    failure.addSuppressed(e.getCause());
+                }
+            } catch (final InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new CancellationException("Interrupted while waiting for calls to finish.");
+            }
+            inFlight--;
+        }
+
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        final List<R> results = new ArrayList<>(futures.size());
+        for (final Future<R> future : futures) {
+            results.add(getDone(future));
+        }
+        return results;
+    }
+
+    /**
+     * @return whether calls run on virtual threads
+     */
+    static boolean usesVirtualThreads() {
+        return !(EXECUTOR instanceof ThreadPoolExecutor);
+    }
+
+    private static <R> R getDone(final Future<R> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException | ExecutionException e) {
+            // Unreachable: every future has completed successfully by now.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            return (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return new CompletionException(failure);
+    }
+
+    /**
+     * The modules compile for Java 8, so the Java 21 factory is looked up at runtime.
+     */
+    private static ExecutorService newExecutor() {
+        try {
+            final Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return Executors.newCachedThreadPool(new DaemonThreadFactory());
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "fan-out-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package software.amazon.iot.thing;
 
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DescribeThingResponse;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListThingsRequest;
 import software.amazon.awssdk.services.iot.model.ListThingsResponse;
+import software.amazon.awssdk.services.iot.model.SearchIndexResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -11,13 +13,24 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * API Calls for ListHandler:
- * ListThings: To list all Things in an account
+ * ListThings: To list all Things in an account, or only those with the attributes of the desired model
+ *
+ * Pages of {@link Translator#LIST_PAGE_SIZE} things are listed until there are no more or the
+ * {@link ListBudget} runs out.
+ *
+ * SearchIndex: To list from the Fleet Indexing thing index instead in the indexed List mode, see {@link ListSearch}
+ *
+ * DescribeThing: To return full models in the hydrated List mode, see {@link ListHydration}
  */
 public class ListHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "ListThings";
+    private static final String SEARCH_OPERATION = "SearchIndex";
 
     @Override
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -27,20 +40,87 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<IotClient> proxyClient,
             final Logger logger) {
 
+        final ResourceModel resourceModel = request.getDesiredResourceState();
+
+        final ListBudget budget = startBudget();
+        final Deadline deadline = startDeadline();
+        final List<ResourceModel> resourceModels = new ArrayList<>();
+        String nextToken = request.getNextToken();
+        boolean searching = nextToken == null ? searchesIndex() : ListSearch.isSearchToken(nextToken);
+        if (searching && nextToken != null) {
+            nextToken = ListSearch.unwrap(nextToken);
+        }
+
         try {
-            final ListThingsRequest listThingsRequest = Translator.translateToListRequest(request.getNextToken());
-            ListThingsResponse listThingsResponse = proxy.injectCredentialsAndInvokeV2(
-                    listThingsRequest,
-                    proxyClient.client()::listThings
-            );
-            String nextToken = listThingsResponse.nextToken();
+            do {
+                List<ResourceModel> page = null;
+                if (searching) {
+                    try {
+                        final SearchIndexResponse searchIndexResponse = proxy.injectCredentialsAndInvokeV2(
+                                Translator.translateToSearchIndexRequest(resourceModel, nextToken),
+                                proxyClient.client()::searchIndex
+                        );
+                        page = Translator.translateFromSearchIndexResponse(searchIndexResponse, resourceModel);
+                        nextToken = searchIndexResponse.nextToken();
+                    } catch (IotException e) {
+                        // Only the first page falls back, so that a listing never returns a thing twice.
+                        if (nextToken != null || !ListSearch.isUnavailable(e)) {
+                            throw e;
+                        }
+                        logger.log(String.format("%s index is unavailable, listing with %s instead: %s",
+                                ResourceModel.TYPE_NAME, OPERATION, e.getMessage()));
+                        searching = false;
+                    }
+                }
+                if (!searching) {
+                    final ListThingsRequest listThingsRequest =
+                            Translator.translateToListRequest(resourceModel, nextToken);
+                    ListThingsResponse listThingsResponse = proxy.injectCredentialsAndInvokeV2(
+                            listThingsRequest,
+                            proxyClient.client()::listThings
+                    );
+                    page = Translator.translateFromListResponse(listThingsResponse, resourceModel);
+                    nextToken = listThingsResponse.nextToken();
+                }
+                if (hydrates()) {
+                    page = ListHydration.hydrate(page, model -> describe(proxyClient, deadline, model),
+                            deadline::shouldCheckpoint);
+                }
+                resourceModels.addAll(page);
+            } while (nextToken != null && budget.allowsAnotherPage(resourceModels.size(),
+                    searching ? Translator.SEARCH_PAGE_SIZE : Translator.LIST_PAGE_SIZE));
+
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(Translator.translateFromListResponse(listThingsResponse))
-                    .nextToken(nextToken)
+                    .resourceModels(resourceModels)
+                    .nextToken(searching ? ListSearch.wrap(nextToken) : nextToken)
                     .status(OperationStatus.SUCCESS)
                     .build();
         } catch (IotException e) {
-            throw Translator.translateIotExceptionToHandlerException(null, OPERATION, e);
+            throw Translator.translateIotExceptionToHandlerException(null, searching ? SEARCH_OPERATION : OPERATION, e);
         }
     }
+
+    private ResourceModel describe(final ProxyClient<IotClient> proxyClient,
+                                   final Deadline deadline,
+                                   final ResourceModel model) {
+        final DescribeThingResponse describeThingResponse = proxyClient.injectCredentialsAndInvokeV2(
+                deadline.bound(Translator.translateToReadRequest(model)), proxyClient.client()::describeThing);
+        return Translator.translateFromReadResponse(describeThingResponse);
+    }
+
+    ListBudget startBudget() {
+        return ListBudget.startingNow();
+    }
+
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
+    boolean hydrates() {
+        return ListHydration.isEnabled();
+    }
+
+    boolean searchesIndex() {
+        return ListSearch.isEnabled();
+    }
 }
@@ -0,0 +1,57 @@
+package software.amazon.iot.thing;
+
+import software.amazon.awssdk.services.iot.model.IndexNotReadyException;
+import software.amazon.awssdk.services.iot.model.IotException;
+
+/**
+ * Indexed List mode, turned on with LIST_SEARCH_INDEX=true in the handler's environment.
+ *
+ * The List handler then reads things from the Fleet Indexing thing index with SearchIndex, which
+ * filters on attributes server side, instead of calling ListThings. The index is eventually
+ * consistent, so a thing created a moment ago may be missing from it; that is why the mode is opt-in.
+ * When the index is not enabled or not ready on the first page, the handler lists with ListThings
+ * as without this mode.
+ *
+ * A nextToken from SearchIndex is returned with {@link #TOKEN_PREFIX} in front of it, so the next
+ * invocation continues with the engine that produced the token.
+ */
+final class ListSearch {
+
+    static final String VARIABLE = "LIST_SEARCH_INDEX";
+
+    static final String TOKEN_PREFIX = "SearchIndex:";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getenv(VARIABLE));
+
+    private ListSearch() {
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static boolean isSearchToken(final String nextToken) {
+        return nextToken != null && nextToken.startsWith(TOKEN_PREFIX);
+    }
+
+    /**
+     * @return the SearchIndex token inside a token returned by the handler
+     */
+    static String unwrap(final String nextToken) {
+        return nextToken.substring(TOKEN_PREFIX.length());
+    }
+
+    /**
+     * @return the token to return from the handler for a SearchIndex token, or null for none
+     */
+    static String wrap(final String searchToken) {
+        return searchToken == null ? null : TOKEN_PREFIX + searchToken;
+    }
+
+    /**
+     * @return whether the index cannot be searched, so that listing falls back to ListThings
+     */
+    static boolean isUnavailable(final IotException e) {
+        return Translator.isFleetIndexingNotEnabled(e) || e instanceof IndexNotReadyException;
+    }
+}
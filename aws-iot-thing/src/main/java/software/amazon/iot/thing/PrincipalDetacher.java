@@ -0,0 +1,178 @@
+package software.amazon.iot.thing;
+
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DetachThingPrincipalRequest;
+import software.amazon.awssdk.services.iot.model.IotException;
+import software.amazon.awssdk.services.iot.model.ListThingPrincipalsRequest;
+import software.amazon.awssdk.services.iot.model.ListThingPrincipalsResponse;
+import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Detaches every principal from a thing so that the thing can be deleted.
+ *
+ * The principals are listed once and kept in the CallbackContext, and every detach that succeeds
+ * removes its principal from there. Detaches run {@link FanOut#DEFAULT_PARALLELISM} at a time,
+ * halved for every throttle the operation has seen recently. Once the invocation runs low on time
+ * no more detaches start and the handler returns IN_PROGRESS; a throttled detach is rescheduled by
+ * {@link ThrottleBackoff}. Either way the next invocation only detaches what is left.
+ *
+ * DetachThingPrincipal is asynchronous: the principal can still be listed, and DeleteThing still
+ * refuses the thing, for a moment after the call returns. Once every detach has been sent, the
+ * principals are listed again every {@link #DETACH_CHECK_DELAY_SECONDS} seconds until none is left.
+ * After {@link #MAX_DETACH_CHECKS} checks the delete goes ahead, and its error names the principal
+ * that is still attached.
+ */
+final class PrincipalDetacher {
+
+    private static final String OPERATION = "DetachThingPrincipal";
+
+    /**
+     * The most principals ListThingPrincipals returns per page.
+     */
+    static final int LIST_PAGE_SIZE = 250;
+
+    static final int DETACH_CHECK_DELAY_SECONDS = 5;
+    static final int MAX_DETACH_CHECKS = 12;
+
+    private final ProxyClient<IotClient> proxyClient;
+    private final Deadline deadline;
+    private final Clock clock;
+    private final Logger logger;
+
+    PrincipalDetacher(final ProxyClient<IotClient> proxyClient,
+                      final Deadline deadline,
+                      final Clock clock,
+                      final Logger logger) {
+        this.proxyClient = proxyClient;
+        this.deadline = deadline;
+        this.clock = clock;
+        this.logger = logger;
+    }
+
+    /**
+     * @return the progress unchanged once no principal is left attached, or an IN_PROGRESS event
+     *         that calls the handler back when the invocation ran out of time first or IoT still
+     *         lists a detached principal
+     */
+    ProgressEvent<ResourceModel, CallbackContext> detachAll(
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        final String thingName = model.getThingName();
+
+        if (callbackContext.getPrincipalsToDetach() == null) {
+            final List<String> principals = listPrincipals(thingName);
+            callbackContext.setPrincipalsToDetach(principals);
+            if (principals.isEmpty()) {
+                return progress;
+            }
+        }
+        final List<String> remaining = callbackContext.getPrincipalsToDetach();
+        if (remaining.isEmpty()) {
+            return awaitDetached(progress);
+        }
+
+        final int parallelism = parallelism(recentThrottles(callbackContext, clock));
+        final Set<String> detached = ConcurrentHashMap.newKeySet();
+        try {
+            new FanOut(parallelism).invokeAll(new ArrayList<>(remaining), principal -> {
+                detach(thingName, principal);
+                detached.add(principal);
+                return principal;
+            }, deadline::shouldCheckpoint);
+        } catch (IotException e) {
+            throw Translator.translateIotExceptionToHandlerException(thingName, OPERATION, e);
+        } finally {
+            remaining.removeAll(detached);
+            logger.log(String.format("%s [%s] detached %d principals, %d at a time, %d left.",
+                    ResourceModel.TYPE_NAME, thingName, detached.size(), parallelism, remaining.size()));
+        }
+
+        if (!remaining.isEmpty()) {
+            return ProgressEvent.defaultInProgressHandler(callbackContext, Deadline.RESUME_DELAY_SECONDS, model);
+        }
+        return awaitDetached(progress);
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> awaitDetached(
+            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext callbackContext = progress.getCallbackContext();
+        if (callbackContext.getDetachChecks() >= MAX_DETACH_CHECKS || !hasPrincipals(model.getThingName())) {
+            return progress;
+        }
+        callbackContext.setDetachChecks(callbackContext.getDetachChecks() + 1);
+        logger.log(String.format("%s [%s] still lists principals after detaching them, checking again in %d seconds.",
+                ResourceModel.TYPE_NAME, model.getThingName(), DETACH_CHECK_DELAY_SECONDS));
+        return ProgressEvent.defaultInProgressHandler(callbackContext, DETACH_CHECK_DELAY_SECONDS, model);
+    }
+
+    /**
+     * @return the number of detaches to run at once after the given number of recent throttles
+     */
+    static int parallelism(final int throttles) {
+        return Math.max(1, FanOut.DEFAULT_PARALLELISM >> Math.min(throttles, Integer.SIZE - 1));
+    }
+
+    private static int recentThrottles(final CallbackContext callbackContext, final Clock clock) {
+        if (clock.millis() - callbackContext.getLastThrottledAt() > ThrottleBackoff.QUIET_PERIOD.toMillis()) {
+            return 0;
+        }
+        return callbackContext.getThrottles();
+    }
+
+    private List<String> listPrincipals(final String thingName) {
+        final List<String> principals = new ArrayList<>();
+        String nextToken = null;
+        try {
+            do {
+                final ListThingPrincipalsRequest request = ListThingPrincipalsRequest.builder()
+                        .thingName(thingName)
+                        .maxResults(LIST_PAGE_SIZE)
+                        .nextToken(nextToken)
+                        .build();
+                final ListThingPrincipalsResponse response = proxyClient.injectCredentialsAndInvokeV2(
+                        deadline.bound(request), proxyClient.client()::listThingPrincipals);
+                principals.addAll(response.principals());
+                nextToken = response.nextToken();
+            } while (nextToken != null);
+        } catch (IotException e) {
+            throw Translator.translateIotExceptionToHandlerException(thingName, "ListThingPrincipals", e);
+        }
+        return principals;
+    }
+
+    private boolean hasPrincipals(final String thingName) {
+        final ListThingPrincipalsRequest request = ListThingPrincipalsRequest.builder()
+                .thingName(thingName)
+                .maxResults(1)
+                .build();
+        try {
+            return !proxyClient.injectCredentialsAndInvokeV2(deadline.bound(request), proxyClient.client()::listThingPrincipals)
+                    .principals().isEmpty();
+        } catch (IotException e) {
+            throw Translator.translateIotExceptionToHandlerException(thingName, "ListThingPrincipals", e);
+        }
+    }
+
+    private void detach(final String thingName, final String principal) {
+        final DetachThingPrincipalRequest request = DetachThingPrincipalRequest.builder()
+                .thingName(thingName)
+                .principal(principal)
+                .build();
+        try {
+            proxyClient.injectCredentialsAndInvokeV2(deadline.bound(request), proxyClient.client()::detachThingPrincipal);
+        } catch (ResourceNotFoundException e) {
+            // Already detached, or already deleted together with the thing: nothing left to do.
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package software.amazon.iot.thing;
+
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.AndRetryCondition;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketExceptionCostFunction;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+
+import java.time.Clock;
+
+/**
+ * Retry settings for the IoT clients of this module's handlers.
+ *
+ * The SDK retries a failed call and the CloudFormation proxy retries again on top, so during a
+ * throttling incident every call multiplies. Here the clients a Lambda execution environment builds,
+ * one per invocation, draw their retries from one token bucket that only successful calls refill, and
+ * throttles cost as much as any other error, so once IoT keeps failing, calls stop being retried.
+ * CIRCUIT_BREAKER then stops sending them. Other resource types run in their own functions with their
+ * own copy, so the budget only covers this resource type's calls from one environment.
+ */
+final class RetryBudget {
+
+    static final int MAX_RETRIES = 3;
+    static final int TOKEN_BUCKET_SIZE = 500;
+    static final int RETRY_COST = 5;
+
+    static final CircuitBreaker CIRCUIT_BREAKER = new CircuitBreaker(Clock.systemUTC());
+
+    static final RetryPolicy RETRY_POLICY = RetryPolicy.builder()
+            .numRetries(MAX_RETRIES)
+            .retryCondition(AndRetryCondition.create(
+                    RetryCondition.defaultRetryCondition(),
+                    context -> !CIRCUIT_BREAKER.isOpen()))
+            .retryCapacityCondition(retryCapacity())
+            .build();
+
+    private RetryBudget() {
+    }
+
+    static ClientOverrideConfiguration overrideConfiguration() {
+        return ClientOverrideConfiguration.builder()
+                .retryPolicy(RETRY_POLICY)
+                .addExecutionInterceptor(CIRCUIT_BREAKER)
+                .build();
+    }
+
+    static TokenBucketRetryCondition retryCapacity() {
+        return TokenBucketRetryCondition.builder()
+                .tokenBucketSize(TOKEN_BUCKET_SIZE)
+                .exceptionCostFunction(TokenBucketExceptionCostFunction.builder()
+                        .throttlingExceptionCost(RETRY_COST)
+                        .defaultExceptionCost(RETRY_COST)
+                        .build())
+                .build();
+    }
+}
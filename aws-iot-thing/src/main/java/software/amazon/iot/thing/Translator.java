@@ -7,13 +7,17 @@ import software.amazon.awssdk.services.iot.model.CreateThingRequest;
 import software.amazon.awssdk.services.iot.model.DeleteThingRequest;
 import software.amazon.awssdk.services.iot.model.DescribeThingRequest;
 import software.amazon.awssdk.services.iot.model.DescribeThingResponse;
+import software.amazon.awssdk.services.iot.model.IndexNotReadyException;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
+import software.amazon.awssdk.services.iot.model.InvalidQueryException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListThingsRequest;
 import software.amazon.awssdk.services.iot.model.ListThingsResponse;
 import software.amazon.awssdk.services.iot.model.ResourceAlreadyExistsException;
 import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iot.model.SearchIndexRequest;
+import software.amazon.awssdk.services.iot.model.SearchIndexResponse;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.awssdk.services.iot.model.UnauthorizedException;
@@ -34,6 +38,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,14 +57,17 @@ public class Translator {
         if (e instanceof ResourceAlreadyExistsException) {
             return new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, resourceIdentifier, e);
         } else if (e instanceof ResourceNotFoundException) {
+            if (isFleetIndexingNotEnabled(e)) {
+                return new CfnInvalidRequestException(e);
+            }
             return new CfnNotFoundException(ResourceModel.TYPE_NAME, resourceIdentifier, e);
         } else if (e instanceof UnauthorizedException) {
             return new CfnAccessDeniedException(e);
         } else if (e instanceof InternalFailureException) {
             return new CfnInternalFailureException(e);
-        } else if (e instanceof ServiceUnavailableException) {
+        } else if (e instanceof ServiceUnavailableException || e instanceof IndexNotReadyException) {
             return new CfnGeneralServiceException(operationName, e);
-        } else if (e instanceof InvalidRequestException) {
+        } else if (e instanceof InvalidRequestException || e instanceof InvalidQueryException) {
             return new CfnInvalidRequestException(e);
         } else if (e instanceof ConflictingResourceUpdateException || e instanceof VersionConflictException) {
             return new CfnResourceConflictException(ResourceModel.TYPE_NAME, resourceIdentifier, e.getMessage(), e);
@@ -107,7 +116,18 @@ public class Translator {
                 .build();
     }
 
-    static UpdateThingRequest translateToUpdateRequest(final ResourceModel model) {
+    /**
+     * With the previous model known, only the attributes that changed are sent, merged into the ones the
+     * thing has, see {@link #translateToAttributeDelta}. Without it every attribute is sent and replaces
+     * the ones the thing has.
+     */
+    static UpdateThingRequest translateToUpdateRequest(final ResourceModel model, final ResourceModel previousModel) {
+        if (previousModel != null) {
+            return UpdateThingRequest.builder()
+                    .thingName(model.getThingName())
+                    .attributePayload(translateToAttributeDelta(attributesOf(previousModel), attributesOf(model)))
+                    .build();
+        }
         software.amazon.iot.thing.AttributePayload attributePayload = new software.amazon.iot.thing.AttributePayload();
         if (model.getAttributePayload() != null) {
             attributePayload = model.getAttributePayload();
@@ -118,14 +138,71 @@ public class Translator {
                 .build();
     }
 
-    static ListThingsRequest translateToListRequest(final String nextToken) {
-        return ListThingsRequest.builder()
-                .nextToken(nextToken)
+    /**
+     * @return a payload to merge that adds or changes the attributes whose value differs and removes,
+     *         with an empty value, the attributes that are gone
+     */
+    static AttributePayload translateToAttributeDelta(final Map<String, String> previous,
+                                                      final Map<String, String> desired) {
+        final Map<String, String> delta = new TreeMap<>();
+        desired.forEach((name, value) -> {
+            if (!value.equals(previous.get(name))) {
+                delta.put(name, value);
+            }
+        });
+        previous.keySet().stream()
+                .filter(name -> !desired.containsKey(name))
+                .forEach(name -> delta.put(name, REMOVED_ATTRIBUTE_VALUE));
+        return AttributePayload.builder()
+                .attributes(delta)
+                .merge(true)
                 .build();
     }
 
-    static List<ResourceModel> translateFromListResponse(final ListThingsResponse listThingsResponse) {
+    /**
+     * Merging an attribute with this value removes it from the thing.
+     */
+    static final String REMOVED_ATTRIBUTE_VALUE = "";
+
+    /**
+     * The most things ListThings returns per page.
+     */
+    static final int LIST_PAGE_SIZE = 250;
+
+    static final String THING_INDEX = "AWS_Things";
+
+    /**
+     * The most things SearchIndex returns per page.
+     */
+    static final int SEARCH_PAGE_SIZE = 100;
+
+    private static final Pattern QUERY_TERM = Pattern.compile("[A-Za-z0-9_.]+");
+
+    /**
+     * ListThings filters on a single attribute, so only the first of the model's attributes in key
+     * order goes into the request; {@link #translateFromListResponse} checks the rest. The order is
+     * fixed so that every page of a listing sends the filter its nextToken was issued for.
+     */
+    static ListThingsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+        final ListThingsRequest.Builder builder = ListThingsRequest.builder()
+                .maxResults(LIST_PAGE_SIZE)
+                .nextToken(nextToken);
+        attributesOf(model).entrySet().stream()
+                .findFirst()
+                .ifPresent(attribute -> builder
+                        .attributeName(attribute.getKey())
+                        .attributeValue(attribute.getValue()));
+        return builder.build();
+    }
+
+    /**
+     * @return the things that have every attribute of the model, which only needs its primary identifier
+     */
+    static List<ResourceModel> translateFromListResponse(final ListThingsResponse listThingsResponse,
+                                                         final ResourceModel model) {
+        final Map<String, String> filterAttributes = attributesOf(model);
         return streamOfOrEmpty(listThingsResponse.things())
+                .filter(resource -> resource.attributes().entrySet().containsAll(filterAttributes.entrySet()))
                 .map(resource -> ResourceModel.builder()
                         // include only primary identifier
                         .thingName(resource.thingName())
@@ -133,6 +210,59 @@ public class Translator {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * @return whether the call failed because Fleet Indexing is not turned on for things
+     */
+    static boolean isFleetIndexingNotEnabled(final IotException e) {
+        return e instanceof ResourceNotFoundException
+                && e.getMessage() != null && e.getMessage().contains("AWS IoT Fleet Indexing is not enabled");
+    }
+
+    /**
+     * Asks the thing index for things with the model's attributes. Only attributes whose name and
+     * value need no escaping in the query syntax go into the query; {@link #translateFromSearchIndexResponse}
+     * checks all of them, as the index also matches values that differ in case.
+     */
+    static SearchIndexRequest translateToSearchIndexRequest(final ResourceModel model, final String nextToken) {
+        final String query = attributesOf(model).entrySet().stream()
+                .filter(attribute -> QUERY_TERM.matcher(attribute.getKey()).matches()
+                        && QUERY_TERM.matcher(attribute.getValue()).matches())
+                .map(attribute -> "attributes." + attribute.getKey() + ":" + attribute.getValue())
+                .collect(Collectors.joining(" AND "));
+        return SearchIndexRequest.builder()
+                .indexName(THING_INDEX)
+                .queryString(query.isEmpty() ? "thingName:*" : query)
+                .maxResults(SEARCH_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+    }
+
+    /**
+     * @return the things that have every attribute of the model, which only needs its primary identifier
+     */
+    static List<ResourceModel> translateFromSearchIndexResponse(final SearchIndexResponse searchIndexResponse,
+                                                                final ResourceModel model) {
+        final Map<String, String> filterAttributes = attributesOf(model);
+        return streamOfOrEmpty(searchIndexResponse.things())
+                .filter(resource -> resource.attributes().entrySet().containsAll(filterAttributes.entrySet()))
+                .map(resource -> ResourceModel.builder()
+                        .thingName(resource.thingName())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private static Map<String, String> attributesOf(final ResourceModel model) {
+        final Map<String, String> attributes = new TreeMap<>();
+        if (model != null && model.getAttributePayload() != null && model.getAttributePayload().getAttributes() != null) {
+            model.getAttributePayload().getAttributes().forEach((name, value) -> {
+                if (value != null) {
+                    attributes.put(name, value);
+                }
+            });
+        }
+        return attributes;
+    }
+
     private static <T> Stream<T> streamOfOrEmpty(final Collection<T> collection) {
         return Optional.ofNullable(collection)
                 .map(Collection::stream)
@@ -14,7 +14,7 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
  * The handler updates the THING resource (if it exists)
  * API Calls for UpdateHandler:
  * DescribeThing: To check whether the resource exists; throw "NotFound" status code otherwise
- * UpdateThing: To update a Thing
+ * UpdateThing: To update a Thing, sending only the attributes that changed
  */
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -22,6 +22,11 @@ public class UpdateHandler extends BaseHandlerStd {
     private static final String CALL_GRAPH = "AWS-IoT-Thing::Update";
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -36,10 +41,16 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceModel newModel = request.getDesiredResourceState();
         newModel.setThingName(prevModel.getThingName());
 
+        if (ResourceModelDiff.isNoOp(request)) {
+            logger.log(String.format("%s [%s] has no changes, skipping update.", ResourceModel.TYPE_NAME, newModel.getThingName()));
+            return ProgressEvent.defaultSuccessHandler(ResourceModelDiff.withReadOnlyProperties(newModel, prevModel));
+        }
+
         return ProgressEvent.progress(newModel, callbackContext)
                 .then(progress ->
                         proxy.initiate(CALL_GRAPH, proxyClient, newModel, callbackContext)
-                                .translateToServiceRequest(Translator::translateToUpdateRequest)
+                                .translateToServiceRequest(model ->
+                                        Translator.translateToUpdateRequest(model, request.getPreviousResourceState()))
                                 .makeServiceCall(this::updateResource)
                                 .progress())
                 .then(progress -> ProgressEvent.defaultSuccessHandler(newModel));
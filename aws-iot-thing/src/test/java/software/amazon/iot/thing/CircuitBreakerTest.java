@@ -0,0 +1,203 @@
+package software.amazon.iot.thing;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.InternalFailureException;
+import software.amazon.awssdk.services.iot.model.InvalidRequestException;
+import software.amazon.awssdk.services.iot.model.ListThingTypesRequest;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CircuitBreakerTest {
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2026-01-01T00:00:00Z"));
+    private final Clock clock = new Clock() {
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now.get();
+        }
+    };
+
+    @Test
+    public void opensAfterThresholdAndProbesOnceOpenDurationPassed() {
+        final CircuitBreaker breaker = new CircuitBreaker(clock);
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD - 1; i++) {
+            breaker.recordFailure();
+        }
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+        assertThat(breaker.allowRequest()).isFalse();
+
+        now.set(now.get().plus(CircuitBreaker.OPEN_DURATION));
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.allowRequest()).isFalse();
+
+        breaker.recordSuccess();
+        assertThat(breaker.isOpen()).isFalse();
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    public void failedProbeReopens() {
+        final CircuitBreaker breaker = new CircuitBreaker(clock);
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+            breaker.recordFailure();
+        }
+        now.set(now.get().plus(CircuitBreaker.OPEN_DURATION));
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure();
+
+        assertThat(breaker.allowRequest()).isFalse();
+        now.set(now.get().plus(CircuitBreaker.OPEN_DURATION));
+        assertThat(breaker.allowRequest()).isTrue();
+    }
+
+    @Test
+    public void successResetsConsecutiveFailures() {
+        final CircuitBreaker breaker = new CircuitBreaker(clock);
+        for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD - 1; i++) {
+            breaker.recordFailure();
+        }
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertThat(breaker.isOpen()).isFalse();
+    }
+
+    @Test
+    public void isOverloaded_OnlyThrottlesAnd5xx() {
+        assertThat(CircuitBreaker.isOverloaded(ThrottlingException.builder().statusCode(429).build())).isTrue();
+        assertThat(CircuitBreaker.isOverloaded(InternalFailureException.builder().statusCode(500).build())).isTrue();
+        assertThat(CircuitBreaker.isOverloaded(InvalidRequestException.builder().statusCode(400).build())).isFalse();
+        assertThat(CircuitBreaker.isOverloaded(new IllegalStateException())).isFalse();
+    }
+
+    @Test
+    public void interceptor_FailsFastWithoutSendingOnceOpen() {
+        final CircuitBreaker breaker = new CircuitBreaker(clock);
+        final FixedStatusHttpClient httpClient = new FixedStatusHttpClient(500);
+        try (IotClient client = client(httpClient, ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryPolicy.none())
+                .addExecutionInterceptor(breaker)
+                .build())) {
+            for (int i = 0; i < CircuitBreaker.FAILURE_THRESHOLD; i++) {
+                assertThatThrownBy(() -> client.listThingTypes(ListThingTypesRequest.builder().build()))
+                        .isInstanceOf(InternalFailureException.class);
+            }
+
+            assertThatThrownBy(() -> client.listThingTypes(ListThingTypesRequest.builder().build()))
+                    .isInstanceOf(ThrottlingException.class);
+            assertThat(httpClient.calls).isEqualTo(CircuitBreaker.FAILURE_THRESHOLD);
+            assertThat(breaker.isOpen()).isTrue();
+        }
+    }
+
+    @Test
+    public void retryBudget_SharedByClients() {
+        // Same settings as RetryBudget.RETRY_POLICY with a bucket of its own, without the backoff delays.
+        final ClientOverrideConfiguration overrideConfiguration = ClientOverrideConfiguration.builder()
+                .retryPolicy(RetryBudget.RETRY_POLICY.toBuilder()
+                        .backoffStrategy(BackoffStrategy.none())
+                        .throttlingBackoffStrategy(BackoffStrategy.none())
+                        .retryCapacityCondition(RetryBudget.retryCapacity())
+                        .build())
+                .build();
+        final FixedStatusHttpClient first = new FixedStatusHttpClient(500);
+        final FixedStatusHttpClient second = new FixedStatusHttpClient(500);
+        try (IotClient firstClient = client(first, overrideConfiguration);
+             IotClient secondClient = client(second, overrideConfiguration)) {
+            int attempts = RetryBudget.MAX_RETRIES + 1;
+            for (int i = 0; i < 500 && attempts > 1; i++) {
+                final int before = first.calls;
+                assertThatThrownBy(() -> firstClient.listThingTypes(ListThingTypesRequest.builder().build()))
+                        .isInstanceOf(InternalFailureException.class);
+                attempts = first.calls - before;
+            }
+            assertThat(attempts).isEqualTo(1);
+
+            assertThatThrownBy(() -> secondClient.listThingTypes(ListThingTypesRequest.builder().build()))
+                    .isInstanceOf(InternalFailureException.class);
+            assertThat(second.calls).isEqualTo(1);
+        }
+    }
+
+    private static IotClient client(final SdkHttpClient httpClient, final ClientOverrideConfiguration overrideConfiguration) {
+        return IotClient.builder()
+                .httpClient(httpClient)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .overrideConfiguration(overrideConfiguration)
+                .build();
+    }
+
+    private static final class FixedStatusHttpClient implements SdkHttpClient {
+
+        private final int statusCode;
+        private int calls;
+
+        FixedStatusHttpClient(final int statusCode) {
+            this.statusCode = statusCode;
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() {
+                    calls++;
+                    return HttpExecuteResponse.builder()
+                            .response(SdkHttpResponse.builder()
+                                    .statusCode(statusCode)
+                                    .putHeader("Content-Type", "application/json")
+                                    .putHeader("x-amzn-ErrorType", "InternalFailureException")
+                                    .build())
+                            .responseBody(AbortableInputStream.create(
+                                    new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))))
+                            .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
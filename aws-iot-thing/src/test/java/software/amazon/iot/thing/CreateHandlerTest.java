@@ -21,6 +21,7 @@ import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -31,6 +32,9 @@ import java.util.Map;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -231,6 +235,37 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(iotClient).createThing(any(CreateThingRequest.class));
     }
 
+    @Test
+    public void handleRequest_Create_Throttled_ReschedulesThenResumes() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final AmazonWebServicesClientProxy handlerProxy = spy(proxy);
+        doReturn(proxyClient).when(handlerProxy).newProxy(any());
+
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build());
+        when(iotClient.createThing(any(CreateThingRequest.class)))
+                .thenThrow(ThrottlingException.builder().build())
+                .thenReturn(CreateThingResponse.builder().thingName(T_Name).thingArn(T_ARN).thingId(T_ID).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> throttled =
+                handler.handleRequest(handlerProxy, request, null, LOGGER);
+
+        assertThat(throttled.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(throttled.getCallbackDelaySeconds()).isBetween(
+                ThrottleBackoff.BASE_DELAY_SECONDS / 2, ThrottleBackoff.BASE_DELAY_SECONDS);
+        assertThat(throttled.getCallbackContext().getThrottles()).isEqualTo(1);
+
+        final ProgressEvent<ResourceModel, CallbackContext> resumed =
+                handler.handleRequest(handlerProxy, request, throttled.getCallbackContext(), LOGGER);
+
+        assertThat(resumed.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(resumed.getResourceModel().getArn()).isEqualTo(T_ARN);
+        verify(iotClient, times(2)).createThing(any(CreateThingRequest.class));
+    }
+
     @Test
     public void handleRequest_Create_UnauthorizedException() {
         final ResourceModel model = ResourceModel.builder()
@@ -7,8 +7,12 @@ import software.amazon.awssdk.services.iot.model.DeleteThingRequest;
 import software.amazon.awssdk.services.iot.model.DeleteThingResponse;
 import software.amazon.awssdk.services.iot.model.DescribeThingRequest;
 import software.amazon.awssdk.services.iot.model.DescribeThingResponse;
+import software.amazon.awssdk.services.iot.model.DetachThingPrincipalRequest;
+import software.amazon.awssdk.services.iot.model.DetachThingPrincipalResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
+import software.amazon.awssdk.services.iot.model.ListThingPrincipalsRequest;
+import software.amazon.awssdk.services.iot.model.ListThingPrincipalsResponse;
 import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
@@ -25,9 +29,16 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Clock;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -58,6 +69,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        // DeleteThing is synchronous: the describe before it is the only one.
+        verify(iotClient).describeThing(any(DescribeThingRequest.class));
     }
 
     @Test
@@ -243,4 +256,185 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
         verify(iotClient).describeThing(any(DescribeThingRequest.class));
     }
+
+    @Test
+    public void handleRequest_DetachPrincipalsOnDelete() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .detachPrincipalsOnDelete(true)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingPrincipals(any(ListThingPrincipalsRequest.class)))
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert1", "cert2").nextToken("token").build())
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert3").build())
+                .thenReturn(ListThingPrincipalsResponse.builder().build());
+        when(iotClient.detachThingPrincipal(any(DetachThingPrincipalRequest.class)))
+                .thenReturn(DetachThingPrincipalResponse.builder().build());
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenReturn(DescribeThingResponse.builder().build()).thenThrow(ResourceNotFoundException.class);
+        when(iotClient.deleteThing(any(DeleteThingRequest.class)))
+                .thenReturn(DeleteThingResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getPrincipalsToDetach()).isEmpty();
+        verify(iotClient, times(3)).listThingPrincipals(any(ListThingPrincipalsRequest.class));
+        verify(iotClient, times(3)).detachThingPrincipal(any(DetachThingPrincipalRequest.class));
+        verify(iotClient).deleteThing(any(DeleteThingRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DetachPrincipalsOnDelete_AlreadyDetached() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .detachPrincipalsOnDelete(true)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingPrincipals(any(ListThingPrincipalsRequest.class)))
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert1").build())
+                .thenReturn(ListThingPrincipalsResponse.builder().build());
+        when(iotClient.detachThingPrincipal(any(DetachThingPrincipalRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder().build());
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenReturn(DescribeThingResponse.builder().build()).thenThrow(ResourceNotFoundException.class);
+        when(iotClient.deleteThing(any(DeleteThingRequest.class)))
+                .thenReturn(DeleteThingResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotClient).deleteThing(any(DeleteThingRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DetachPrincipalsOnDelete_OutOfTime_ResumesFromContext() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .detachPrincipalsOnDelete(true)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingPrincipals(any(ListThingPrincipalsRequest.class)))
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert1", "cert2").build())
+                .thenReturn(ListThingPrincipalsResponse.builder().build());
+        when(iotClient.detachThingPrincipal(any(DetachThingPrincipalRequest.class)))
+                .thenReturn(DetachThingPrincipalResponse.builder().build());
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenReturn(DescribeThingResponse.builder().build()).thenThrow(ResourceNotFoundException.class);
+        when(iotClient.deleteThing(any(DeleteThingRequest.class)))
+                .thenReturn(DeleteThingResponse.builder().build());
+
+        final DeleteHandler spyHandler = spy(handler);
+        doReturn(new Deadline(Clock.systemUTC(), Deadline.CHECKPOINT_MARGIN.minusSeconds(1)))
+                .doReturn(Deadline.startingNow())
+                .when(spyHandler).startDeadline();
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse =
+                spyHandler.handleRequest(proxy, request, callbackContext, proxyClient, LOGGER);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isEqualTo(Deadline.RESUME_DELAY_SECONDS);
+        assertThat(firstResponse.getCallbackContext().getPrincipalsToDetach()).containsExactly("cert1", "cert2");
+        verify(iotClient, never()).detachThingPrincipal(any(DetachThingPrincipalRequest.class));
+        verify(iotClient, never()).deleteThing(any(DeleteThingRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse =
+                spyHandler.handleRequest(proxy, request, firstResponse.getCallbackContext(), proxyClient, LOGGER);
+
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotClient, times(2)).listThingPrincipals(any(ListThingPrincipalsRequest.class));
+        verify(iotClient, times(2)).detachThingPrincipal(any(DetachThingPrincipalRequest.class));
+        verify(iotClient).deleteThing(any(DeleteThingRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DetachPrincipalsOnDelete_StillListedAfterDetach_ChecksAgain() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .detachPrincipalsOnDelete(true)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingPrincipals(any(ListThingPrincipalsRequest.class)))
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert1").build())
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert1").build())
+                .thenReturn(ListThingPrincipalsResponse.builder().build());
+        when(iotClient.detachThingPrincipal(any(DetachThingPrincipalRequest.class)))
+                .thenReturn(DetachThingPrincipalResponse.builder().build());
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenReturn(DescribeThingResponse.builder().build()).thenThrow(ResourceNotFoundException.class);
+        when(iotClient.deleteThing(any(DeleteThingRequest.class)))
+                .thenReturn(DeleteThingResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstResponse =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(firstResponse.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(firstResponse.getCallbackDelaySeconds()).isEqualTo(PrincipalDetacher.DETACH_CHECK_DELAY_SECONDS);
+        assertThat(firstResponse.getCallbackContext().getDetachChecks()).isEqualTo(1);
+        verify(iotClient, never()).deleteThing(any(DeleteThingRequest.class));
+
+        final ProgressEvent<ResourceModel, CallbackContext> secondResponse =
+                handler.handleRequest(proxy, request, firstResponse.getCallbackContext(), proxyClient, LOGGER);
+
+        assertThat(secondResponse.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(iotClient, times(3)).listThingPrincipals(any(ListThingPrincipalsRequest.class));
+        verify(iotClient).detachThingPrincipal(any(DetachThingPrincipalRequest.class));
+        verify(iotClient).deleteThing(any(DeleteThingRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DetachPrincipalsOnDelete_Throttled_KeepsRemaining() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .detachPrincipalsOnDelete(true)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingPrincipals(any(ListThingPrincipalsRequest.class)))
+                .thenReturn(ListThingPrincipalsResponse.builder().principals("cert1", "cert2").build());
+        when(iotClient.detachThingPrincipal(any(DetachThingPrincipalRequest.class)))
+                .thenReturn(DetachThingPrincipalResponse.builder().build());
+        when(iotClient.detachThingPrincipal(argThat((DetachThingPrincipalRequest detach) -> "cert2".equals(detach.principal()))))
+                .thenThrow(ThrottlingException.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(CfnThrottlingException.class, () ->
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, LOGGER));
+
+        assertThat(callbackContext.getPrincipalsToDetach()).containsExactly("cert2");
+        verify(iotClient, never()).deleteThing(any(DeleteThingRequest.class));
+    }
+
+    @Test
+    public void handleRequest_DetachPrincipalsNotSet_NoListing() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenReturn(DescribeThingResponse.builder().build()).thenThrow(ResourceNotFoundException.class);
+        when(iotClient.deleteThing(any(DeleteThingRequest.class)))
+                .thenReturn(DeleteThingResponse.builder().build());
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        verify(iotClient, never()).listThingPrincipals(any(ListThingPrincipalsRequest.class));
+        verify(iotClient, never()).detachThingPrincipal(any(DetachThingPrincipalRequest.class));
+    }
+
+    @Test
+    public void parallelism_HalvedPerThrottle() {
+        assertThat(PrincipalDetacher.parallelism(0)).isEqualTo(FanOut.DEFAULT_PARALLELISM);
+        assertThat(PrincipalDetacher.parallelism(1)).isEqualTo(FanOut.DEFAULT_PARALLELISM / 2);
+        assertThat(PrincipalDetacher.parallelism(10)).isEqualTo(1);
+    }
 }
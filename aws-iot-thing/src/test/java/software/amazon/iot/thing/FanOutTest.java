@@ -0,0 +1,167 @@
+package software.amazon.iot.thing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FanOutTest {
+
+    @Test
+    public void invokeAll_ResultsInItemOrder() {
+        final List<Integer> items = Arrays.asList(40, 0, 20, 10, 30);
+
+        final List<String> results = new FanOut(5).invokeAll(items, delay -> {
+            sleep(delay);
+            return "item-" + delay;
+        });
+
+        assertThat(results).containsExactly("item-40", "item-0", "item-20", "item-10", "item-30");
+    }
+
+    @Test
+    public void invokeAll_NeverExceedsParallelism() {
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final List<Integer> items = IntStream.range(0, 40).boxed().collect(Collectors.toList());
+
+        final List<Integer> results = new FanOut(3).invokeAll(items, item -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(5);
+            inFlight.decrementAndGet();
+            return item;
+        });
+
+        assertThat(results).isEqualTo(items);
+        assertThat(maxInFlight.get()).isBetween(1, 3);
+    }
+
+    @Test
+    public void invokeAll_RunsCallsConcurrently() throws Exception {
+        final CountDownLatch allStarted = new CountDownLatch(4);
+
+        final List<Boolean> results = new FanOut(4).invokeAll(Arrays.asList(1, 2, 3, 4), item -> {
+            allStarted.countDown();
+            try {
+                return allStarted.await(5, TimeUnit.SECONDS);
+            } catch (final InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(results).containsOnly(true);
+    }
+
+    @Test
+    public void invokeAll_Stop_ReturnsStartedPrefix() {
+        final AtomicInteger started = new AtomicInteger();
+        final AtomicInteger stopChecks = new AtomicInteger();
+        final List<Integer> items = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        // Stop is checked once before every start, so counting the checks stops after exactly four.
+        final List<Integer> results = new FanOut(2).invokeAll(items, item -> {
+            started.incrementAndGet();
+            return item * 10;
+        }, () -> stopChecks.getAndIncrement() >= 4);
+
+        assertThat(results).containsExactly(0, 10, 20, 30);
+        assertThat(started.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void invokeAll_Failure_StopsStartingAndAggregates() {
+        final AtomicInteger started = new AtomicInteger();
+        final List<Integer> items = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+
+        assertThatThrownBy(() -> new FanOut(2).invokeAll(items, item -> {
+            started.incrementAndGet();
+            if (item < 2) {
+                sleep(item * 20);
+                throw new IllegalStateException("failed " + item);
+            }
+            return item;
+        }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("failed 0")
+                .satisfies(e -> assertThat(e.getSuppressed())
+                        .extracting(Throwable::getMessage)
+                        .containsExactly("failed 1"));
+        assertThat(started.get()).isLessThan(items.size());
+    }
+
+    @Test
+    public void invokeAll_CallerInterrupted_CancelsInFlightCalls() throws Exception {
+        final CountDownLatch started = new CountDownLatch(2);
+        final CountDownLatch cancelled = new CountDownLatch(2);
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicReference<Throwable> thrown = new AtomicReference<>();
+        final AtomicBoolean interruptRestored = new AtomicBoolean();
+
+        final Thread caller = new Thread(() -> {
+            try {
+                new FanOut(2).invokeAll(Arrays.asList(1, 2, 3), item -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    try {
+                        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                    } catch (final InterruptedException e) {
+                        cancelled.countDown();
+                    }
+                    return item;
+                });
+            } catch (final RuntimeException e) {
+                thrown.set(e);
+                interruptRestored.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        caller.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        caller.interrupt();
+        caller.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertThat(caller.isAlive()).isFalse();
+        assertThat(thrown.get()).isInstanceOf(CancellationException.class);
+        assertThat(interruptRestored.get()).isTrue();
+        assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void invokeAll_NoItems() {
+        assertThat(new FanOut(1).invokeAll(Collections.<String>emptyList(), item -> item)).isEmpty();
+    }
+
+    @Test
+    public void constructor_RejectsNonPositiveParallelism() {
+        assertThatThrownBy(() -> new FanOut(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void usesVirtualThreads_OnlyFromJava21() {
+        final String version = System.getProperty("java.specification.version");
+        final int feature = Integer.parseInt(version.startsWith("1.") ? version.substring(2) : version);
+
+        assertThat(FanOut.usesVirtualThreads()).isEqualTo(feature >= 21);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
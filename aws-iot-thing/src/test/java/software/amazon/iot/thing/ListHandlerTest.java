@@ -2,14 +2,22 @@ package software.amazon.iot.thing;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudformation.model.OperationStatus;
+import software.amazon.awssdk.services.iot.model.DescribeThingRequest;
+import software.amazon.awssdk.services.iot.model.DescribeThingResponse;
+import software.amazon.awssdk.services.iot.model.IndexNotReadyException;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.ListThingsRequest;
 import software.amazon.awssdk.services.iot.model.ListThingsResponse;
+import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iot.model.SearchIndexRequest;
+import software.amazon.awssdk.services.iot.model.SearchIndexResponse;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
 import software.amazon.awssdk.services.iot.model.ThingAttribute;
+import software.amazon.awssdk.services.iot.model.ThingDocument;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.awssdk.services.iot.model.UnauthorizedException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
@@ -21,9 +29,19 @@ import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +74,264 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_AttributeFilter_PushesFirstAttributeAndChecksTheRest() {
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("model", "m1");
+        attributes.put("color", "red");
+        final ResourceModel model = ResourceModel.builder()
+                .attributePayload(AttributePayload.builder().attributes(attributes).build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        final Map<String, String> otherAttributes = new HashMap<>(attributes);
+        otherAttributes.put("model", "m2");
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).attributes(attributes).build(),
+                                ThingAttribute.builder().thingName("other").attributes(otherAttributes).build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<ListThingsRequest> listRequest = ArgumentCaptor.forClass(ListThingsRequest.class);
+        verify(iotClient).listThings(listRequest.capture());
+        assertThat(listRequest.getValue().attributeName()).isEqualTo("color");
+        assertThat(listRequest.getValue().attributeValue()).isEqualTo("red");
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().thingName(T_Name).build());
+    }
+
+    @Test
+    public void handleRequest_NoAttributes_ListsUnfiltered() {
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<ListThingsRequest> listRequest = ArgumentCaptor.forClass(ListThingsRequest.class);
+        verify(iotClient).listThings(listRequest.capture());
+        assertThat(listRequest.getValue().attributeName()).isNull();
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().thingName(T_Name).build());
+    }
+
+    @Test
+    public void handleRequest_FollowsNextTokenWithinBudget() {
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build())
+                        .nextToken("page2")
+                        .build())
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName("other").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<ListThingsRequest> listRequest = ArgumentCaptor.forClass(ListThingsRequest.class);
+        verify(iotClient, times(2)).listThings(listRequest.capture());
+        assertThat(listRequest.getAllValues()).extracting(ListThingsRequest::nextToken).containsExactly(null, "page2");
+        assertThat(listRequest.getAllValues()).extracting(ListThingsRequest::maxResults)
+                .containsOnly(Translator.LIST_PAGE_SIZE);
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getThingName).containsExactly(T_Name, "other");
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_BudgetSpent_ReturnsNextToken() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(new ListBudget(Clock.systemUTC(), Duration.ZERO, ListBudget.DEFAULT_SIZE))
+                .when(spyHandler).startBudget();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build())
+                        .nextToken("page2")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        verify(iotClient).listThings(any(ListThingsRequest.class));
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getNextToken()).isEqualTo("page2");
+    }
+
+    @Test
+    public void handleRequest_Hydrated_DescribesListedThings() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build(),
+                                ThingAttribute.builder().thingName("deleted").build())
+                        .build());
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenAnswer(invocation -> {
+                    final DescribeThingRequest describeRequest = invocation.getArgument(0);
+                    if ("deleted".equals(describeRequest.thingName())) {
+                        throw ResourceNotFoundException.builder().build();
+                    }
+                    return DescribeThingResponse.builder()
+                            .thingName(T_Name)
+                            .thingArn(T_ARN)
+                            .thingId(T_ID)
+                            .build();
+                });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getArn()).isEqualTo(T_ARN);
+        assertThat(response.getResourceModels().get(0).getId()).isEqualTo(T_ID);
+    }
+
+    @Test
+    public void handleRequest_HydratedThrottled_ReturnsIdentifier() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build())
+                        .build());
+        when(iotClient.describeThing(any(DescribeThingRequest.class)))
+                .thenThrow(ThrottlingException.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        assertThat(response.getStatus().toString()).isEqualTo(OperationStatus.SUCCESS.toString());
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().thingName(T_Name).build());
+    }
+
+    @Test
+    public void handleRequest_HydratedOutOfTime_ReturnsIdentifiers() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        doReturn(new Deadline(Clock.systemUTC(), Duration.ZERO)).when(spyHandler).startDeadline();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        verify(iotClient, never()).describeThing(any(DescribeThingRequest.class));
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().thingName(T_Name).build());
+    }
+
+    @Test
+    public void handleRequest_SearchIndex_QueriesAttributes() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).searchesIndex();
+        doReturn(new ListBudget(Clock.systemUTC(), Duration.ZERO, ListBudget.DEFAULT_SIZE))
+                .when(spyHandler).startBudget();
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("model", "m1");
+        attributes.put("color", "red");
+        final ResourceModel model = ResourceModel.builder()
+                .attributePayload(AttributePayload.builder().attributes(attributes).build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.searchIndex(any(SearchIndexRequest.class)))
+                .thenReturn(SearchIndexResponse.builder()
+                        .things(ThingDocument.builder().thingName(T_Name).attributes(attributes).build(),
+                                ThingDocument.builder().thingName("other")
+                                        .attributes(Collections.singletonMap("color", "red")).build())
+                        .nextToken("page2")
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<SearchIndexRequest> searchRequest = ArgumentCaptor.forClass(SearchIndexRequest.class);
+        verify(iotClient).searchIndex(searchRequest.capture());
+        assertThat(searchRequest.getValue().indexName()).isEqualTo(Translator.THING_INDEX);
+        assertThat(searchRequest.getValue().queryString()).isEqualTo("attributes.color:red AND attributes.model:m1");
+        verify(iotClient, never()).listThings(any(ListThingsRequest.class));
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().thingName(T_Name).build());
+        assertThat(response.getNextToken()).isEqualTo(ListSearch.TOKEN_PREFIX + "page2");
+    }
+
+    @Test
+    public void handleRequest_SearchToken_ContinuesSearch() {
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null)
+                .nextToken(ListSearch.TOKEN_PREFIX + "page2")
+                .build();
+
+        when(iotClient.searchIndex(any(SearchIndexRequest.class)))
+                .thenReturn(SearchIndexResponse.builder()
+                        .things(ThingDocument.builder().thingName(T_Name).build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<SearchIndexRequest> searchRequest = ArgumentCaptor.forClass(SearchIndexRequest.class);
+        verify(iotClient).searchIndex(searchRequest.capture());
+        assertThat(searchRequest.getValue().nextToken()).isEqualTo("page2");
+        assertThat(searchRequest.getValue().queryString()).isEqualTo("thingName:*");
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getThingName).containsExactly(T_Name);
+        assertThat(response.getNextToken()).isNull();
+    }
+
+    @Test
+    public void handleRequest_IndexNotEnabled_FallsBackToListThings() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).searchesIndex();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.searchIndex(any(SearchIndexRequest.class)))
+                .thenThrow(ResourceNotFoundException.builder()
+                        .message("AWS IoT Fleet Indexing is not enabled for things").build());
+        when(iotClient.listThings(any(ListThingsRequest.class)))
+                .thenReturn(ListThingsResponse.builder()
+                        .things(ThingAttribute.builder().thingName(T_Name).build())
+                        .nextToken("page2")
+                        .build());
+        doReturn(new ListBudget(Clock.systemUTC(), Duration.ZERO, ListBudget.DEFAULT_SIZE))
+                .when(spyHandler).startBudget();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        verify(iotClient).listThings(any(ListThingsRequest.class));
+        assertThat(response.getResourceModels()).extracting(ResourceModel::getThingName).containsExactly(T_Name);
+        assertThat(response.getNextToken()).isEqualTo("page2");
+    }
+
+    @Test
+    public void handleRequest_IndexNotReadyMidListing_Throws() {
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null)
+                .nextToken(ListSearch.TOKEN_PREFIX + "page2")
+                .build();
+
+        when(iotClient.searchIndex(any(SearchIndexRequest.class)))
+                .thenThrow(IndexNotReadyException.builder().build());
+
+        assertThrows(CfnGeneralServiceException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
+        verify(iotClient, never()).listThings(any(ListThingsRequest.class));
+    }
+
     @Test
     public void handleRequest_InternalFailureException() {
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
@@ -0,0 +1,41 @@
+package software.amazon.iot.thing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every module primes the same way, so the other modules only check their own call count.
+ */
+public class PrimingTest {
+
+    @Test
+    public void prime_IsRepeatableAndLeavesNoSdkThreadsBehind() throws Exception {
+        final Set<Thread> before = new HashSet<>(Thread.getAllStackTraces().keySet());
+
+        // Create, describe, update, delete and list, plus the Translator and serializer round trips
+        // in between; a second run sees no state left over from the first.
+        assertThat(Priming.prime()).isEqualTo(5);
+        assertThat(Priming.prime()).isEqualTo(5);
+
+        // The priming client is closed, so any executor thread the SDK started for it winds down.
+        final long deadline = System.currentTimeMillis() + 5_000;
+        Set<String> leftOver = sdkThreadsStartedSince(before);
+        while (!leftOver.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            leftOver = sdkThreadsStartedSince(before);
+        }
+        assertThat(leftOver).isEmpty();
+    }
+
+    private static Set<String> sdkThreadsStartedSince(final Set<Thread> before) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> !before.contains(thread) && thread.isAlive() && thread.getName().startsWith("sdk-"))
+                .map(Thread::getName)
+                .collect(Collectors.toSet());
+    }
+}
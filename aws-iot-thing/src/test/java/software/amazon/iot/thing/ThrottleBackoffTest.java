@@ -0,0 +1,64 @@
+package software.amazon.iot.thing;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ThrottleBackoffTest extends AbstractTestBase {
+
+    private static final Instant NOW = Instant.parse("2020-01-01T00:00:00Z");
+    private static final Clock CLOCK = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    public void reschedule_FirstThrottle_InProgressWithBaseDelay() {
+        final ResourceModel model = ResourceModel.builder().thingName(T_Name).build();
+        final CallbackContext context = new CallbackContext();
+
+        final Optional<ProgressEvent<ResourceModel, CallbackContext>> event =
+                ThrottleBackoff.reschedule(model, context, CLOCK, LOGGER);
+
+        assertThat(event).isPresent();
+        assertThat(event.get().getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(event.get().getResourceModel()).isSameAs(model);
+        assertThat(event.get().getCallbackContext()).isSameAs(context);
+        assertThat(event.get().getCallbackDelaySeconds())
+                .isBetween(ThrottleBackoff.BASE_DELAY_SECONDS / 2, ThrottleBackoff.BASE_DELAY_SECONDS);
+        assertThat(context.getThrottles()).isEqualTo(1);
+        assertThat(context.getLastThrottledAt()).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    public void delaySeconds_GrowsUpToCap() {
+        for (int throttles = 1; throttles <= ThrottleBackoff.MAX_RESCHEDULES; throttles++) {
+            final int ceiling = Math.min(ThrottleBackoff.MAX_DELAY_SECONDS,
+                    ThrottleBackoff.BASE_DELAY_SECONDS << (throttles - 1));
+            assertThat(ThrottleBackoff.delaySeconds(throttles)).isBetween(ceiling / 2, ceiling);
+        }
+    }
+
+    @Test
+    public void reschedule_TooManyThrottles_Empty() {
+        final CallbackContext context = new CallbackContext();
+        context.setThrottles(ThrottleBackoff.MAX_RESCHEDULES);
+        context.setLastThrottledAt(NOW.toEpochMilli());
+
+        assertThat(ThrottleBackoff.reschedule(ResourceModel.builder().build(), context, CLOCK, LOGGER)).isEmpty();
+    }
+
+    @Test
+    public void reschedule_AfterQuietPeriod_StartsOver() {
+        final CallbackContext context = new CallbackContext();
+        context.setThrottles(ThrottleBackoff.MAX_RESCHEDULES);
+        context.setLastThrottledAt(NOW.minus(ThrottleBackoff.QUIET_PERIOD).minusMillis(1).toEpochMilli());
+
+        assertThat(ThrottleBackoff.reschedule(ResourceModel.builder().build(), context, CLOCK, LOGGER)).isPresent();
+        assertThat(context.getThrottles()).isEqualTo(1);
+    }
+}
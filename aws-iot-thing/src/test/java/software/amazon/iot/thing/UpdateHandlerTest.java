@@ -2,6 +2,7 @@ package software.amazon.iot.thing;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudformation.model.OperationStatus;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
@@ -23,13 +24,16 @@ import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -68,12 +72,102 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModel().getAttributePayload().getAttributes()).isEqualTo(attributes);
     }
 
+    @Test
+    public void handleRequest_ChangedAttributes_MergesDelta() {
+        final Map<String, String> previousAttributes = new HashMap<>();
+        previousAttributes.put("same", "val");
+        previousAttributes.put("changed", "old");
+        previousAttributes.put("removed", "val");
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("same", "val");
+        attributes.put("changed", "new");
+        attributes.put("added", "val");
+        final ResourceModel previousModel = ResourceModel.builder()
+                .thingName(T_Name)
+                .attributePayload(AttributePayload.builder().attributes(previousAttributes).build())
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .attributePayload(AttributePayload.builder().attributes(attributes).build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        when(iotClient.updateThing(any(UpdateThingRequest.class)))
+                .thenReturn(UpdateThingResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus().toString()).isEqualTo(OperationStatus.SUCCESS.toString());
+        final ArgumentCaptor<UpdateThingRequest> updateRequest = ArgumentCaptor.forClass(UpdateThingRequest.class);
+        verify(iotClient).updateThing(updateRequest.capture());
+        assertThat(updateRequest.getValue().attributePayload().merge()).isTrue();
+        assertThat(updateRequest.getValue().attributePayload().attributes()).containsOnly(
+                entry("changed", "new"),
+                entry("added", "val"),
+                entry("removed", Translator.REMOVED_ATTRIBUTE_VALUE));
+    }
+
+    @Test
+    public void handleRequest_NoPreviousState_ReplacesAttributes() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .attributePayload(AttributePayload.builder()
+                        .attributes(Collections.singletonMap("attr1", "val1"))
+                        .build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(iotClient.updateThing(any(UpdateThingRequest.class)))
+                .thenReturn(UpdateThingResponse.builder().build());
+
+        handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        final ArgumentCaptor<UpdateThingRequest> updateRequest = ArgumentCaptor.forClass(UpdateThingRequest.class);
+        verify(iotClient).updateThing(updateRequest.capture());
+        assertThat(updateRequest.getValue().attributePayload().merge()).isNull();
+        assertThat(updateRequest.getValue().attributePayload().attributes()).containsOnly(entry("attr1", "val1"));
+    }
+
+    @Test
+    public void handleRequest_NoChanges_SkipsUpdate() {
+        final ResourceModel previousModel = ResourceModel.builder()
+                .id(T_ID)
+                .arn(T_ARN)
+                .thingName(T_Name)
+                .attributePayload(AttributePayload.builder()
+                        .attributes(Collections.singletonMap("attr1", "val1"))
+                        .build())
+                .build();
+        final ResourceModel model = ResourceModel.builder()
+                .thingName(T_Name)
+                .attributePayload(AttributePayload.builder()
+                        .attributes(Collections.singletonMap("attr1", "val1"))
+                        .build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model)
+                .previousResourceState(previousModel)
+                .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus().toString()).isEqualTo(OperationStatus.SUCCESS.toString());
+        assertThat(response.getResourceModel().getArn()).isEqualTo(T_ARN);
+        assertThat(response.getResourceModel().getId()).isEqualTo(T_ID);
+        verifyNoInteractions(iotClient);
+    }
+
     @Test
     public void handleRequest_InternalFailureException() {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(InternalFailureException.builder().build());
@@ -88,7 +182,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(InvalidRequestException.builder().build());
@@ -103,7 +197,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(ResourceNotFoundException.builder().build());
@@ -118,7 +212,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(ServiceUnavailableException.builder().build());
@@ -133,7 +227,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(ThrottlingException.builder().build());
@@ -148,7 +242,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(UnauthorizedException.builder().build());
@@ -163,7 +257,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         final ResourceModel model = ResourceModel.builder()
                 .thingName(T_Name)
                 .build();
-        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+        final ResourceHandlerRequest<ResourceModel> request = updateRequest(model);
 
         when(iotClient.updateThing(any(UpdateThingRequest.class)))
                 .thenThrow(VersionConflictException.builder().build());
@@ -172,4 +266,15 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
         verify(iotClient).updateThing(any(UpdateThingRequest.class));
     }
+
+    private ResourceHandlerRequest<ResourceModel> updateRequest(final ResourceModel model) {
+        return defaultRequestBuilder(model)
+                .previousResourceState(ResourceModel.builder()
+                        .thingName(T_Name)
+                        .attributePayload(AttributePayload.builder()
+                                .attributes(Collections.singletonMap("previous", "value"))
+                                .build())
+                        .build())
+                .build();
+    }
 }
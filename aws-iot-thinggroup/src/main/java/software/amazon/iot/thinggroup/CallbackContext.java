@@ -7,4 +7,9 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    /**
+     * Throttles this operation has seen recently, and when the last one was, see {@link ThrottleBackoff}.
+     */
+    private int throttles;
+    private long lastThrottledAt;
 }
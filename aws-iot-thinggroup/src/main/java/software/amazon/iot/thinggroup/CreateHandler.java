@@ -39,6 +39,11 @@ public class CreateHandler extends BaseHandlerStd {
     private static final int MAX_THING_GROUP_NAME_LENGTH = 128;
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -97,6 +102,7 @@ public class CreateHandler extends BaseHandlerStd {
      * Examples:
      * 1. ThingGroup resource cannot have "queryString" and "parentThingGroup" defined - as dynamic thing group
      * do not support hierarchy
+     * 2. "queryString" must follow the fleet indexing query grammar, see {@link FleetIndexQuery}
      * @param resourceModel
      */
     private void validateProperties(ResourceModel resourceModel) {
@@ -106,6 +112,9 @@ public class CreateHandler extends BaseHandlerStd {
                     .message("Thing group cannot have a QueryString and a ParentGroup")
                     .build());
         }
+        if (!StringUtils.isNullOrEmpty(resourceModel.getQueryString())) {
+            FleetIndexQuery.normalize(resourceModel.getQueryString());
+        }
     }
 
     /**
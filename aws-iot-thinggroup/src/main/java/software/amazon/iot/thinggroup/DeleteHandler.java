@@ -23,13 +23,25 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
  * DescribeThingGroup: used for the following purpose -
  *  - To verify whether the thing group exists
  *  - To check whether the ThingGroup to be deleted has a queryString; Dynamic Thing group would have the param set
+ *  - After deleting a Dynamic ThingGroup, until it is gone, see {@link #DYNAMIC_STABILIZATION}
  */
 public class DeleteHandler extends BaseHandlerStd {
 
     private static final String OPERATION = "DeleteThingGroup";
     private static final String CALL_GRAPH = "AWS-IoT-ThingGroup::Delete";
+    static final DeleteStabilization STABILIZATION = DeleteStabilization.SYNCHRONOUS;
+    /**
+     * Dynamic groups are kept up to date by fleet indexing, which finishes with a deleted group after
+     * DeleteDynamicThingGroup returns.
+     */
+    static final DeleteStabilization DYNAMIC_STABILIZATION = DeleteStabilization.POLL;
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -117,12 +129,14 @@ public class DeleteHandler extends BaseHandlerStd {
             ProxyClient<IotClient> proxyClient,
             ResourceModel resourceModel,
             CallbackContext callbackContext) {
-        try {
-            checkForThingGroup(deleteThingGroupRequest.thingGroupName(), proxyClient, OPERATION);
-            return false;
-        } catch (CfnNotFoundException e) {
-            return true;
-        }
+        return STABILIZATION.isStabilized(() -> {
+            try {
+                checkForThingGroup(deleteThingGroupRequest.thingGroupName(), proxyClient, OPERATION);
+                return false;
+            } catch (CfnNotFoundException e) {
+                return true;
+            }
+        });
     }
 
     private Boolean stabilizedDynamicThingGroupOnDelete(
@@ -131,11 +145,13 @@ public class DeleteHandler extends BaseHandlerStd {
             ProxyClient<IotClient> proxyClient,
             ResourceModel resourceModel,
             CallbackContext callbackContext) {
-        try {
-            checkForThingGroup(deleteDynamicThingGroupRequest.thingGroupName(), proxyClient, OPERATION);
-            return false;
-        } catch (CfnNotFoundException e) {
-            return true;
-        }
+        return DYNAMIC_STABILIZATION.isStabilized(() -> {
+            try {
+                checkForThingGroup(deleteDynamicThingGroupRequest.thingGroupName(), proxyClient, OPERATION);
+                return false;
+            } catch (CfnNotFoundException e) {
+                return true;
+            }
+        });
     }
 }
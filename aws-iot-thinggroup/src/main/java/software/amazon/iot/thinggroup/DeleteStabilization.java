@@ -0,0 +1,33 @@
+package software.amazon.iot.thinggroup;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a delete handler decides that the resource is gone once the delete call has returned.
+ *
+ * Most IoT delete APIs remove the resource before they respond, so describing it afterwards only
+ * confirms what the response already said. Each delete handler names the policy that fits its API.
+ */
+enum DeleteStabilization {
+
+    /**
+     * The resource is gone once the delete call returns without an error. A ResourceNotFoundException
+     * from the delete call fails the operation with NotFound without any further call.
+     */
+    SYNCHRONOUS,
+
+    /**
+     * The resource can still be described for a while after the delete call returns: describe it
+     * until it is not found.
+     */
+    POLL;
+
+    /**
+     * @param deleted describes the resource and returns whether it was not found, called only when
+     *                this policy polls
+     * @return whether the delete has stabilized
+     */
+    boolean isStabilized(final BooleanSupplier deleted) {
+        return this == SYNCHRONOUS || deleted.getAsBoolean();
+    }
+}
@@ -0,0 +1,277 @@
+package software.amazon.iot.thinggroup;
+
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Parses the QueryString of a dynamic thing group with the fleet indexing query grammar, so that a
+ * malformed query fails before any call is made instead of as an InvalidQueryException from the create
+ * or update.
+ *
+ * The grammar covered is the one the IoT service documents: terms with or without a field
+ * ({@code thingName:abc*}, {@code abc}, {@code "a b"}), comparisons ({@code attributes.num>5} or
+ * {@code attributes.num:>=5}), ranges ({@code registry.version:[1 TO 5]}), field groups
+ * ({@code thingName:(a OR b)}), and AND, OR, NOT and parentheses over them, with terms next to each
+ * other joined implicitly. AND, OR and NOT are operators only where an operator or a term can
+ * start, and TO only between the bounds of a range, so {@code attributes.x:TO} is a plain value.
+ * The check is structural only: field names and values are left to the service, so a query it
+ * accepts is never rejected here.
+ *
+ * {@link #normalize} also returns the query with canonical whitespace, so that two spellings of the
+ * same query compare equal.
+ */
+final class FleetIndexQuery {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String TO = "TO";
+
+    private enum Kind {
+        OPEN_PAREN, CLOSE_PAREN, OPEN_RANGE, CLOSE_RANGE, COLON, COMPARISON, QUOTED, WORD, END
+    }
+
+    private static final class Token {
+
+        private final Kind kind;
+        private final String text;
+        private final int position;
+
+        private Token(final Kind kind, final String text, final int position) {
+            this.kind = kind;
+            this.text = text;
+            this.position = position;
+        }
+
+        private boolean isWord(final String keyword) {
+            return kind == Kind.WORD && text.equals(keyword);
+        }
+
+        private boolean isOperator() {
+            return isWord(AND) || isWord(OR) || isWord(NOT);
+        }
+    }
+
+    private final List<Token> tokens;
+    private int next;
+
+    private FleetIndexQuery(final List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * @return the query with a single space between terms and operators and none inside a term
+     * @throws CfnInvalidRequestException when the query is empty or does not follow the grammar
+     */
+    static String normalize(final String query) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new CfnInvalidRequestException("QueryString is empty");
+        }
+        final FleetIndexQuery parser = new FleetIndexQuery(tokenize(query));
+        final String normalized = parser.parseOr();
+        if (parser.peek().kind != Kind.END) {
+            throw parser.unexpected(parser.peek());
+        }
+        return normalized;
+    }
+
+    /**
+     * @return whether both queries are absent, or both parse to the same normalized query
+     */
+    static boolean isSameQuery(final String first, final String second) {
+        if (first == null || second == null) {
+            return first == null && second == null;
+        }
+        return Objects.equals(normalize(first), normalize(second));
+    }
+
+    private static List<Token> tokenize(final String query) {
+        final List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            final char c = query.charAt(i);
+            final int start = i;
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(new Token(c == '(' ? Kind.OPEN_PAREN : Kind.CLOSE_PAREN, String.valueOf(c), start));
+                i++;
+            } else if (c == '[' || c == '{') {
+                tokens.add(new Token(Kind.OPEN_RANGE, String.valueOf(c), start));
+                i++;
+            } else if (c == ']' || c == '}') {
+                tokens.add(new Token(Kind.CLOSE_RANGE, String.valueOf(c), start));
+                i++;
+            } else if (c == ':') {
+                tokens.add(new Token(Kind.COLON, ":", start));
+                i++;
+            } else if (c == '<' || c == '>') {
+                i += i + 1 < query.length() && query.charAt(i + 1) == '=' ? 2 : 1;
+                tokens.add(new Token(Kind.COMPARISON, query.substring(start, i), start));
+            } else if (c == '"') {
+                i++;
+                while (i < query.length() && query.charAt(i) != '"') {
+                    i += query.charAt(i) == '\\' ? 2 : 1;
+                }
+                if (i >= query.length()) {
+                    throw invalid("unterminated quote", start);
+                }
+                i++;
+                tokens.add(new Token(Kind.QUOTED, query.substring(start, i), start));
+            } else {
+                while (i < query.length() && !endsWord(query.charAt(i))) {
+                    i += query.charAt(i) == '\\' ? 2 : 1;
+                }
+                i = Math.min(i, query.length());
+                tokens.add(new Token(Kind.WORD, query.substring(start, i), start));
+            }
+        }
+        tokens.add(new Token(Kind.END, "", query.length()));
+        return tokens;
+    }
+
+    private static boolean endsWord(final char c) {
+        return Character.isWhitespace(c) || "()[]{}:\"<>".indexOf(c) >= 0;
+    }
+
+    private String parseOr() {
+        final StringBuilder query = new StringBuilder(parseAnd());
+        while (peek().isWord(OR)) {
+            next++;
+            query.append(' ').append(OR).append(' ').append(parseAnd());
+        }
+        return query.toString();
+    }
+
+    private String parseAnd() {
+        final StringBuilder query = new StringBuilder(parseUnary());
+        while (true) {
+            if (peek().isWord(AND)) {
+                next++;
+                query.append(' ').append(AND).append(' ').append(parseUnary());
+            } else if (startsTerm(peek())) {
+                query.append(' ').append(parseUnary());
+            } else {
+                return query.toString();
+            }
+        }
+    }
+
+    private String parseUnary() {
+        if (peek().isWord(NOT)) {
+            next++;
+            return NOT + ' ' + parseUnary();
+        }
+        return parsePrimary();
+    }
+
+    private String parsePrimary() {
+        final Token token = take();
+        if (token.kind == Kind.OPEN_PAREN) {
+            return parseGroup(token);
+        }
+        if (token.kind == Kind.QUOTED) {
+            return token.text;
+        }
+        if (token.kind != Kind.WORD || token.isOperator()) {
+            throw unexpected(token);
+        }
+        if (peek().kind == Kind.COLON) {
+            next++;
+            return token.text + ':' + parseValue(token);
+        }
+        if (peek().kind == Kind.COMPARISON) {
+            return token.text + take().text + parseBound();
+        }
+        return token.text;
+    }
+
+    private String parseValue(final Token field) {
+        final Token token = peek();
+        switch (token.kind) {
+            case COMPARISON:
+                next++;
+                return token.text + parseBound();
+            case OPEN_RANGE:
+                next++;
+                return parseRange(token);
+            case OPEN_PAREN:
+                next++;
+                return parseGroup(token);
+            case WORD:
+            case QUOTED:
+                return parseBound();
+            default:
+                throw invalid(String.format("field '%s' has no value", field.text), token.position);
+        }
+    }
+
+    private String parseGroup(final Token open) {
+        final String inner = parseOr();
+        if (take().kind != Kind.CLOSE_PAREN) {
+            throw invalid("'(' is never closed", open.position);
+        }
+        return '(' + inner + ')';
+    }
+
+    private String parseRange(final Token open) {
+        final String lower = parseRangeBound();
+        final Token to = take();
+        if (!to.isWord(TO)) {
+            throw invalid("range needs 'TO' between its bounds", to.position);
+        }
+        final String upper = parseRangeBound();
+        final Token close = take();
+        if (close.kind != Kind.CLOSE_RANGE) {
+            throw invalid(String.format("'%s' is never closed", open.text), open.position);
+        }
+        return open.text + lower + ' ' + TO + ' ' + upper + close.text;
+    }
+
+    private String parseBound() {
+        final Token token = take();
+        if (token.kind == Kind.QUOTED || token.kind == Kind.WORD) {
+            return token.text;
+        }
+        throw unexpected(token);
+    }
+
+    private String parseRangeBound() {
+        if (peek().isWord(TO)) {
+            throw unexpected(peek());
+        }
+        return parseBound();
+    }
+
+    private static boolean startsTerm(final Token token) {
+        return token.kind == Kind.OPEN_PAREN || token.kind == Kind.QUOTED
+                || (token.kind == Kind.WORD && (token.isWord(NOT) || !token.isOperator()));
+    }
+
+    private Token peek() {
+        return tokens.get(next);
+    }
+
+    private Token take() {
+        final Token token = tokens.get(next);
+        if (token.kind != Kind.END) {
+            next++;
+        }
+        return token;
+    }
+
+    private CfnInvalidRequestException unexpected(final Token token) {
+        if (token.kind == Kind.END) {
+            return invalid("query ends where a term is expected", token.position);
+        }
+        return invalid(String.format("unexpected '%s'", token.text), token.position);
+    }
+
+    private static CfnInvalidRequestException invalid(final String reason, final int position) {
+        return new CfnInvalidRequestException(String.format(
+                "QueryString is not a valid fleet indexing query: %s at position %d", reason, position));
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.iot.thinggroup;
 
+import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DescribeThingGroupResponse;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListThingGroupsRequest;
 import software.amazon.awssdk.services.iot.model.ListThingGroupsResponse;
@@ -11,9 +13,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+
 /**
  * API Calls for ListHandler:
- * ListThingGroups: To retrieve a list of all ThingGroups in the account
+ * ListThingGroups: To retrieve a list of all ThingGroups in the account, or only those matching the
+ * ParentGroupName and ThingGroupName of the desired model
+ * DescribeThingGroup, ListTagsForResource: To return full models in the hydrated List mode, see {@link ListHydration}
  */
 public class ListHandler extends BaseHandlerStd {
 
@@ -30,15 +36,22 @@ public class ListHandler extends BaseHandlerStd {
         final ResourceModel resourceModel = request.getDesiredResourceState();
 
         try {
-            final ListThingGroupsRequest listThingGroupsRequest = Translator.translateToListRequest(request.getNextToken());
+            final ListThingGroupsRequest listThingGroupsRequest =
+                    Translator.translateToListRequest(resourceModel, request.getNextToken());
             ListThingGroupsResponse listThingGroupsResponse =
                     proxyClient.injectCredentialsAndInvokeV2(
                             listThingGroupsRequest,
                             proxyClient.client()::listThingGroups
                     );
             String nextToken = listThingGroupsResponse.nextToken();
+            List<ResourceModel> resourceModels = Translator.translateFromListResponse(listThingGroupsResponse, resourceModel);
+            if (hydrates()) {
+                final Deadline deadline = startDeadline();
+                resourceModels = ListHydration.hydrate(resourceModels, model -> describe(proxyClient, deadline, model),
+                        deadline::shouldCheckpoint);
+            }
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(Translator.translateFromListResponse(listThingGroupsResponse))
+                    .resourceModels(resourceModels)
                     .nextToken(nextToken)
                     .status(OperationStatus.SUCCESS)
                     .build();
@@ -46,4 +59,28 @@ public class ListHandler extends BaseHandlerStd {
             throw Translator.translateIotExceptionToHandlerException(null, OPERATION, e);
         }
     }
+
+    private ResourceModel describe(final ProxyClient<IotClient> proxyClient,
+                                   final Deadline deadline,
+                                   final ResourceModel model) {
+        final DescribeThingGroupResponse describeThingGroupResponse = proxyClient.injectCredentialsAndInvokeV2(
+                deadline.bound(Translator.translateToReadRequest(model)), proxyClient.client()::describeThingGroup);
+        final ResourceModel described = Translator.translateFromReadResponse(describeThingGroupResponse);
+        try {
+            described.setTags(Translator.translateTagsFromSdk(listTags(proxyClient, describeThingGroupResponse.thingGroupArn())));
+        } catch (IotException e) {
+            if (e.statusCode() != HttpStatusCode.FORBIDDEN) {
+                throw e;
+            }
+        }
+        return described;
+    }
+
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
+    boolean hydrates() {
+        return ListHydration.isEnabled();
+    }
 }
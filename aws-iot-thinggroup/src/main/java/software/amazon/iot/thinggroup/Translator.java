@@ -49,6 +49,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -180,37 +181,110 @@ public class Translator {
                 .build();
     }
 
-    static UpdateThingGroupRequest translateToUpdateThingGroupRequest(final ResourceModel model) {
-        software.amazon.iot.thinggroup.ThingGroupProperties thingGroupProperties =
-                new software.amazon.iot.thinggroup.ThingGroupProperties();
-        if(model.getThingGroupProperties() != null)
-            thingGroupProperties = model.getThingGroupProperties();
+    static UpdateThingGroupRequest translateToUpdateThingGroupRequest(final ResourceModel model,
+                                                                      final ResourceModel previousModel) {
         return UpdateThingGroupRequest.builder()
                 .thingGroupName(model.getThingGroupName())
-                .thingGroupProperties(translateModelThingGroupPropertiesToObject(thingGroupProperties))
+                .thingGroupProperties(translateToThingGroupPropertiesUpdate(model, previousModel))
                 .build();
     }
 
-    static UpdateDynamicThingGroupRequest translateToFirstDynamicThingGroupUpdateRequest(final ResourceModel model) {
+    /**
+     * The queryString is only sent when it differs from the previous one once normalized, as a new query
+     * makes the service re-evaluate the membership of every thing. Without a previous model it is always sent.
+     */
+    static UpdateDynamicThingGroupRequest translateToFirstDynamicThingGroupUpdateRequest(final ResourceModel model,
+                                                                                     final ResourceModel previousModel) {
+        final String previousQueryString = previousModel == null ? null : previousModel.getQueryString();
+        return UpdateDynamicThingGroupRequest.builder()
+                .thingGroupName(model.getThingGroupName())
+                .thingGroupProperties(translateToThingGroupPropertiesUpdate(model, previousModel))
+                .queryString(FleetIndexQuery.isSameQuery(previousQueryString, model.getQueryString()) ?
+                        null : model.getQueryString())
+                .build();
+    }
+
+    /**
+     * With the previous model known, only the attributes that changed are sent, merged into the ones the
+     * group has, see {@link #translateToAttributeDelta}. Without it every attribute is sent and replaces
+     * the ones the group has.
+     */
+    private static ThingGroupProperties translateToThingGroupPropertiesUpdate(final ResourceModel model,
+                                                                              final ResourceModel previousModel) {
         software.amazon.iot.thinggroup.ThingGroupProperties thingGroupProperties =
                 new software.amazon.iot.thinggroup.ThingGroupProperties();
         if(model.getThingGroupProperties() != null)
             thingGroupProperties = model.getThingGroupProperties();
-        return UpdateDynamicThingGroupRequest.builder()
-                .thingGroupName(model.getThingGroupName())
-                .thingGroupProperties(translateModelThingGroupPropertiesToObject(thingGroupProperties))
-                .queryString(model.getQueryString())
+        final ThingGroupProperties properties = translateModelThingGroupPropertiesToObject(thingGroupProperties);
+        if (previousModel == null) {
+            return properties;
+        }
+        return properties.toBuilder()
+                .attributePayload(translateToAttributeDelta(attributesOf(previousModel), attributesOf(model)))
                 .build();
     }
 
-    static ListThingGroupsRequest translateToListRequest(final String nextToken) {
-        return ListThingGroupsRequest.builder()
-                .nextToken(nextToken)
+    /**
+     * Merging an attribute with this value removes it from the group.
+     */
+    static final String REMOVED_ATTRIBUTE_VALUE = "";
+
+    /**
+     * @return a payload to merge that adds or changes the attributes whose value differs and removes,
+     *         with an empty value, the attributes that are gone
+     */
+    static AttributePayload translateToAttributeDelta(final Map<String, String> previous,
+                                                      final Map<String, String> desired) {
+        final Map<String, String> delta = new TreeMap<>();
+        desired.forEach((name, value) -> {
+            if (!value.equals(previous.get(name))) {
+                delta.put(name, value);
+            }
+        });
+        previous.keySet().stream()
+                .filter(name -> !desired.containsKey(name))
+                .forEach(name -> delta.put(name, REMOVED_ATTRIBUTE_VALUE));
+        return AttributePayload.builder()
+                .attributes(delta)
+                .merge(true)
                 .build();
     }
 
-    static List<ResourceModel> translateFromListResponse(final ListThingGroupsResponse listThingGroupsResponse) {
+    private static Map<String, String> attributesOf(final ResourceModel model) {
+        final Map<String, String> attributes = new TreeMap<>();
+        Optional.ofNullable(model.getThingGroupProperties())
+                .map(software.amazon.iot.thinggroup.ThingGroupProperties::getAttributePayload)
+                .map(software.amazon.iot.thinggroup.AttributePayload::getAttributes)
+                .ifPresent(modelAttributes -> modelAttributes.forEach((name, value) -> {
+                    if (value != null) {
+                        attributes.put(name, value);
+                    }
+                }));
+        return attributes;
+    }
+
+    /**
+     * A ParentGroupName in the model lists only the direct children of that group, and a ThingGroupName
+     * only groups whose name starts with it; {@link #translateFromListResponse} keeps the exact match.
+     */
+    static ListThingGroupsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+        final ListThingGroupsRequest.Builder builder = ListThingGroupsRequest.builder()
+                .nextToken(nextToken);
+        if (model != null && model.getParentGroupName() != null) {
+            builder.parentGroup(model.getParentGroupName())
+                    .recursive(false);
+        }
+        if (model != null && model.getThingGroupName() != null) {
+            builder.namePrefixFilter(model.getThingGroupName());
+        }
+        return builder.build();
+    }
+
+    static List<ResourceModel> translateFromListResponse(final ListThingGroupsResponse listThingGroupsResponse,
+                                                         final ResourceModel model) {
         return streamOfOrEmpty(listThingGroupsResponse.thingGroups())
+                .filter(resource -> model == null || model.getThingGroupName() == null
+                        || model.getThingGroupName().equals(resource.groupName()))
                 .map(resource -> ResourceModel.builder()
                         .thingGroupName(resource.groupName())
                         .build())
@@ -1,12 +1,10 @@
 package software.amazon.iot.thinggroup;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.DescribeThingGroupResponse;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
-import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.UpdateDynamicThingGroupRequest;
 import software.amazon.awssdk.services.iot.model.UpdateDynamicThingGroupResponse;
 import software.amazon.awssdk.services.iot.model.UpdateThingGroupRequest;
@@ -18,19 +16,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
 
 /**
  * API Calls for UpdateHandler:
- * UpdateThingGroup: To update a ThingGroup
- * UpdateDynamicThingGroup: To update a dynamic ThingGroup
+ * UpdateThingGroup: To update a ThingGroup, sending only the attributes that changed
+ * UpdateDynamicThingGroup: To update a dynamic ThingGroup, with the queryString and attributes only when they changed
  * DescribeThingGroup: To retrieve ARN of the ThingGroup to make Tag and UnTag API calls
- * ListTagsForResource: To retrieve old tags associated with ThingGroup
- * UntagResource: To remove old tags
- * TagResource: To add new tags
+ * UntagResource, TagResource: Through TagReconciler, only for the tags that changed
  *
  * (Thing-Group cannot be converted to Dynamic-Thing-Group and vice-versa)
  */
@@ -41,6 +33,11 @@ public class UpdateHandler extends BaseHandlerStd {
     private static final String CALL_GRAPH_TAG = "AWS-IoT-ThingGroup::Tagging";
     private Logger logger;
 
+    @Override
+    protected boolean reschedulesThrottles() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -50,7 +47,7 @@ public class UpdateHandler extends BaseHandlerStd {
 
         this.logger = logger;
 
-        ResourceModel prevResourceModel = request.getPreviousResourceState() == null ?
+        final ResourceModel prevResourceModel = request.getPreviousResourceState() == null ?
                 request.getDesiredResourceState() : request.getPreviousResourceState();
         final ResourceModel newResourceModel = request.getDesiredResourceState();
 
@@ -60,7 +57,8 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.progress(newResourceModel, callbackContext)
                     .then(progress ->
                             proxy.initiate(CALL_GRAPH, proxyClient, newResourceModel, callbackContext)
-                                    .translateToServiceRequest(Translator::translateToFirstDynamicThingGroupUpdateRequest)
+                                    .translateToServiceRequest(model -> Translator.translateToFirstDynamicThingGroupUpdateRequest(
+                                            model, request.getPreviousResourceState()))
                                     .makeServiceCall(this::updateDynamicThingGroupResource)
                                     .progress())
                     .then(progress -> updateResourceTags(proxy, proxyClient, progress, request, newResourceModel))
@@ -69,7 +67,8 @@ public class UpdateHandler extends BaseHandlerStd {
             return ProgressEvent.progress(newResourceModel, callbackContext)
                     .then(progress ->
                             proxy.initiate(CALL_GRAPH, proxyClient, newResourceModel, callbackContext)
-                                    .translateToServiceRequest(Translator::translateToUpdateThingGroupRequest)
+                                    .translateToServiceRequest(model -> Translator.translateToUpdateThingGroupRequest(
+                                            model, request.getPreviousResourceState()))
                                     .makeServiceCall(this::updateThingGroupResource)
                                     .progress())
                     .then(progress -> updateResourceTags(proxy, proxyClient, progress, request, newResourceModel))
@@ -92,6 +91,9 @@ public class UpdateHandler extends BaseHandlerStd {
                     .message(String.format("Parameter '%s' is not updatable.", "QueryString"))
                     .build());
         }
+        if (StringUtils.isNotEmpty(newResourceModel.getQueryString())) {
+            FleetIndexQuery.normalize(newResourceModel.getQueryString());
+        }
     }
 
     private void throwCfnNotUpdatableException(String propertyName) {
@@ -165,44 +167,8 @@ public class UpdateHandler extends BaseHandlerStd {
                                 proxyInvocation.client()::describeThingGroup);
 
                         final String resourceArn = describeThingGroupResponse.thingGroupArn();
-                        // Desired tags (including user-defined and stack tags)
-                        final Map<String, String> desiredTags = new HashMap<>();
-                        Optional.ofNullable(request.getDesiredResourceTags())
-                                .ifPresent(desiredTags::putAll);
-                        Optional.ofNullable(request.getDesiredResourceState())
-                                .map(ResourceModel::getTags)
-                                .map(Translator::translateTagstoMap)
-                                .ifPresent(desiredTags::putAll);
-                        final Set<Tag> desiredTagSet = Translator.translateTagsToSdk(desiredTags);
-
-                        // Existing resource State tags (including user-defined and stack tags)
-                        final Map<String, String> existingTags = new HashMap<>();
-                        Optional.ofNullable(request.getPreviousResourceState())
-                                .map(ResourceModel::getTags)
-                                .map(Translator::translateTagstoMap)
-                                .ifPresent(existingTags::putAll);
-                        Optional.ofNullable(request.getPreviousResourceTags())
-                                .ifPresent(existingTags::putAll);
-                        final Set<Tag> existingTagSet = Translator.translateTagsToSdk(existingTags);
-                        final Set<Tag> tagsToRemove = Sets.difference(existingTagSet, desiredTagSet);
-                        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, existingTagSet);
-
-                        if (!tagsToRemove.isEmpty()) {
-                            proxyClient.injectCredentialsAndInvokeV2(
-                                    Translator.untagResourceRequest(resourceArn, tagsToRemove),
-                                    proxyClient.client()::untagResource
-                            );
-                            logger.log(String.format("%s [%s] untagResourceRequest successfully completed.",
-                                    ResourceModel.TYPE_NAME, resourceArn));
-                        }
-                        if (!tagsToAdd.isEmpty()) {
-                            proxyClient.injectCredentialsAndInvokeV2(
-                                    Translator.tagResourceRequest(resourceArn, tagsToAdd),
-                                    proxyClient.client()::tagResource
-                            );
-                            logger.log(String.format("%s [%s] tagResourceRequest successfully completed.",
-                                    ResourceModel.TYPE_NAME, resourceArn));
-                        }
+                        new TagReconciler(proxyInvocation::injectCredentialsAndInvokeV2, proxyInvocation.client(), logger)
+                                .reconcile(resourceArn, request);
                         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     } catch (IotException e) {
                         throw Translator.translateIotExceptionToHandlerException(getRequest.thingGroupName(), OPERATION, e);
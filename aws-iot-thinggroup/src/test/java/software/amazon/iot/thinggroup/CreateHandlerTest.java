@@ -423,6 +423,20 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(iotClient, never()).createDynamicThingGroup(any(CreateDynamicThingGroupRequest.class));
     }
 
+    @Test
+    public void handleRequest_Create_DynamicThingGroup_FailsLocallyWithMalformedQuery() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .queryString("(thingName:abc")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient,LOGGER));
+        verify(iotClient, never()).describeThingGroup(any(DescribeThingGroupRequest.class));
+        verify(iotClient, never()).createDynamicThingGroup(any(CreateDynamicThingGroupRequest.class));
+    }
+
     @Test
     public void handleRequest_Success_No_Name_DynamicThingGroup() {
         final ResourceModel model = ResourceModel.builder()
@@ -0,0 +1,75 @@
+package software.amazon.iot.thinggroup;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FleetIndexQueryTest {
+
+    @Test
+    public void normalize_AcceptsDocumentedSyntax() {
+        assertThat(FleetIndexQuery.normalize("thingName:*")).isEqualTo("thingName:*");
+        assertThat(FleetIndexQuery.normalize("abc")).isEqualTo("abc");
+        assertThat(FleetIndexQuery.normalize("attributes.model:\"m 1\"")).isEqualTo("attributes.model:\"m 1\"");
+        assertThat(FleetIndexQuery.normalize("registry.version:[1 TO 5}")).isEqualTo("registry.version:[1 TO 5}");
+        assertThat(FleetIndexQuery.normalize("shadow.reported.temp >= 40")).isEqualTo("shadow.reported.temp>=40");
+        assertThat(FleetIndexQuery.normalize("attributes.num:<5")).isEqualTo("attributes.num:<5");
+        assertThat(FleetIndexQuery.normalize("thingName:(a* OR b*)")).isEqualTo("thingName:(a* OR b*)");
+        assertThat(FleetIndexQuery.normalize("NOT connectivity.connected:true"))
+                .isEqualTo("NOT connectivity.connected:true");
+        assertThat(FleetIndexQuery.normalize("thingName:my\\:thing")).isEqualTo("thingName:my\\:thing");
+    }
+
+    @Test
+    public void normalize_CollapsesWhitespace() {
+        assertThat(FleetIndexQuery.normalize("  ( thingName : a*   AND attributes.x:1 )\n OR  thingTypeName:t "))
+                .isEqualTo("(thingName:a* AND attributes.x:1) OR thingTypeName:t");
+    }
+
+    @Test
+    public void normalize_KeepsImplicitJoin() {
+        assertThat(FleetIndexQuery.normalize("thingName:a   thingTypeName:t")).isEqualTo("thingName:a thingTypeName:t");
+    }
+
+    @Test
+    public void normalize_AcceptsKeywordsAsValues() {
+        assertThat(FleetIndexQuery.normalize("attributes.x:TO")).isEqualTo("attributes.x:TO");
+        assertThat(FleetIndexQuery.normalize("attributes.x: AND AND attributes.y:NOT"))
+                .isEqualTo("attributes.x:AND AND attributes.y:NOT");
+        assertThat(FleetIndexQuery.normalize("attributes.num>=OR")).isEqualTo("attributes.num>=OR");
+        assertThat(FleetIndexQuery.normalize("TO")).isEqualTo("TO");
+        assertThat(FleetIndexQuery.normalize("registry.version:[AND TO NOT]")).isEqualTo("registry.version:[AND TO NOT]");
+    }
+
+    @Test
+    public void normalize_RejectsMalformedQueries() {
+        assertInvalid("", "QueryString is empty");
+        assertInvalid("thingName:", "field 'thingName' has no value at position 10");
+        assertInvalid("(thingName:a", "'(' is never closed at position 0");
+        assertInvalid("thingName:a)", "unexpected ')' at position 11");
+        assertInvalid("thingName:a AND", "query ends where a term is expected at position 15");
+        assertInvalid("OR thingName:a", "unexpected 'OR' at position 0");
+        assertInvalid("registry.version:[1 5]", "range needs 'TO' between its bounds at position 20");
+        assertInvalid("registry.version:[1 TO 5", "'[' is never closed at position 17");
+        assertInvalid("registry.version:[TO TO 5]", "unexpected 'TO' at position 18");
+        assertInvalid("AND", "unexpected 'AND' at position 0");
+        assertInvalid("attributes.model:\"m1", "unterminated quote at position 17");
+        assertInvalid("attributes.num>", "query ends where a term is expected at position 15");
+    }
+
+    @Test
+    public void isSameQuery_ComparesNormalizedQueries() {
+        assertThat(FleetIndexQuery.isSameQuery("thingName:a AND  x:1", " thingName : a AND x:1")).isTrue();
+        assertThat(FleetIndexQuery.isSameQuery("thingName:a", "thingName:b")).isFalse();
+        assertThat(FleetIndexQuery.isSameQuery(null, "thingName:a")).isFalse();
+        assertThat(FleetIndexQuery.isSameQuery(null, null)).isTrue();
+    }
+
+    private static void assertInvalid(final String query, final String reason) {
+        final CfnInvalidRequestException e = assertThrows(CfnInvalidRequestException.class,
+                () -> FleetIndexQuery.normalize(query));
+        assertThat(e.getMessage()).contains(reason);
+    }
+}
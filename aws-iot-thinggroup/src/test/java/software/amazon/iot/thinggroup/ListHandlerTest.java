@@ -2,14 +2,20 @@ package software.amazon.iot.thinggroup;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.services.cloudformation.model.OperationStatus;
+import software.amazon.awssdk.services.iot.model.DescribeThingGroupRequest;
+import software.amazon.awssdk.services.iot.model.DescribeThingGroupResponse;
 import software.amazon.awssdk.services.iot.model.GroupNameAndArn;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.ListThingGroupsRequest;
 import software.amazon.awssdk.services.iot.model.ListThingGroupsResponse;
 import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.ThrottlingException;
 import software.amazon.cloudformation.exceptions.CfnInternalFailureException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
@@ -21,6 +27,8 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -53,6 +61,60 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_ParentAndNameFilter_PushedDown() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .parentGroupName(TG_PARENT_NAME)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingGroups(any(ListThingGroupsRequest.class)))
+                .thenReturn(ListThingGroupsResponse.builder()
+                        .thingGroups(GroupNameAndArn.builder().groupName(TG_NAME).groupArn(TG_ARN).build(),
+                                GroupNameAndArn.builder().groupName(TG_NAME + "2").groupArn(TG_ARN + "2").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<ListThingGroupsRequest> listRequest = ArgumentCaptor.forClass(ListThingGroupsRequest.class);
+        verify(iotClient).listThingGroups(listRequest.capture());
+        assertThat(listRequest.getValue().parentGroup()).isEqualTo(TG_PARENT_NAME);
+        assertThat(listRequest.getValue().recursive()).isFalse();
+        assertThat(listRequest.getValue().namePrefixFilter()).isEqualTo(TG_NAME);
+        assertThat(response.getResourceModels()).containsExactly(ResourceModel.builder().thingGroupName(TG_NAME).build());
+    }
+
+    @Test
+    public void handleRequest_Hydrated_ReturnsFullModels() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThingGroups(any(ListThingGroupsRequest.class)))
+                .thenReturn(ListThingGroupsResponse.builder()
+                        .thingGroups(GroupNameAndArn.builder().groupName(TG_NAME).groupArn(TG_ARN).build())
+                        .build());
+        when(iotClient.describeThingGroup(any(DescribeThingGroupRequest.class)))
+                .thenReturn(DescribeThingGroupResponse.builder()
+                        .thingGroupArn(TG_ARN)
+                        .thingGroupId(TG_ID)
+                        .thingGroupName(TG_NAME)
+                        .build());
+        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key").value("value").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getArn()).isEqualTo(TG_ARN);
+        assertThat(response.getResourceModels().get(0).getTags()).hasSize(1);
+    }
+
     @Test
     public void handleRequest_InternalFailureException() {
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
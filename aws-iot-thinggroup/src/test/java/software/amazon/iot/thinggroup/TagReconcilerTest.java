@@ -0,0 +1,114 @@
+package software.amazon.iot.thinggroup;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iot.model.Tag;
+import software.amazon.awssdk.services.iot.model.TagResourceRequest;
+import software.amazon.awssdk.services.iot.model.TagResourceResponse;
+import software.amazon.awssdk.services.iot.model.UntagResourceRequest;
+import software.amazon.awssdk.services.iot.model.UntagResourceResponse;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TagReconcilerTest extends AbstractTestBase {
+
+    private TagReconciler reconciler() {
+        return new TagReconciler(proxyClient::injectCredentialsAndInvokeV2, iotClient, LOGGER);
+    }
+
+    @Test
+    public void apply_OnlyChangedTags() {
+        when(iotClient.untagResource(any(UntagResourceRequest.class))).thenReturn(UntagResourceResponse.builder().build());
+        when(iotClient.tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+
+        reconciler().apply(TG_ARN,
+                tags("same", "value", "changed", "old", "removed", "value"),
+                tags("same", "value", "changed", "new", "added", "value"));
+
+        final ArgumentCaptor<UntagResourceRequest> untagCaptor = ArgumentCaptor.forClass(UntagResourceRequest.class);
+        verify(iotClient).untagResource(untagCaptor.capture());
+        assertThat(untagCaptor.getValue().tagKeys()).containsExactly("removed");
+
+        final ArgumentCaptor<TagResourceRequest> tagCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(iotClient).tagResource(tagCaptor.capture());
+        assertThat(tagCaptor.getValue().tags()).containsExactly(
+                Tag.builder().key("added").value("value").build(),
+                Tag.builder().key("changed").value("new").build());
+    }
+
+    @Test
+    public void apply_NothingChanged_NoCalls() {
+        reconciler().apply(TG_ARN, tags("key", "value"), tags("key", "value"));
+
+        verify(iotClient, never()).untagResource(any(UntagResourceRequest.class));
+        verify(iotClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void apply_ReservedKeysNeverTouched() {
+        reconciler().apply(TG_ARN,
+                tags("aws:cloudformation:stack-name", "old"),
+                tags("aws:cloudformation:logical-id", "new"));
+
+        verify(iotClient, never()).untagResource(any(UntagResourceRequest.class));
+        verify(iotClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    @Test
+    public void apply_ChunksToApiLimit() {
+        when(iotClient.tagResource(any(TagResourceRequest.class))).thenReturn(TagResourceResponse.builder().build());
+        final Map<String, String> desiredTags = new HashMap<>();
+        for (int i = 0; i < TagReconciler.MAX_TAGS_PER_CALL + 1; i++) {
+            desiredTags.put(String.format("key%03d", i), "value");
+        }
+
+        reconciler().apply(TG_ARN, Collections.emptyMap(), desiredTags);
+
+        final ArgumentCaptor<TagResourceRequest> tagCaptor = ArgumentCaptor.forClass(TagResourceRequest.class);
+        verify(iotClient, times(2)).tagResource(tagCaptor.capture());
+        final List<TagResourceRequest> requests = tagCaptor.getAllValues();
+        assertThat(requests.get(0).tags()).hasSize(TagReconciler.MAX_TAGS_PER_CALL);
+        assertThat(requests.get(1).tags()).containsExactly(Tag.builder().key("key050").value("value").build());
+    }
+
+    @Test
+    public void reconcile_UsesPreviousState_SkipsListTags() {
+        final Map<String, String> tags = reconciler().reconcile(TG_ARN, request());
+
+        assertThat(tags).isEqualTo(Collections.singletonMap("key", "value"));
+        verify(iotClient, never()).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(iotClient, never()).untagResource(any(UntagResourceRequest.class));
+        verify(iotClient, never()).tagResource(any(TagResourceRequest.class));
+    }
+
+    private ResourceHandlerRequest<ResourceModel> request() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .tags(Collections.singleton(software.amazon.iot.thinggroup.Tag.builder().key("key").value("value").build()))
+                .build();
+        return defaultRequestBuilder(model).build();
+    }
+
+    private static Map<String, String> tags(final String... keysAndValues) {
+        final Map<String, String> tags = new HashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            tags.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return tags;
+    }
+}
@@ -43,6 +43,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
@@ -793,6 +794,125 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .isEqualTo("New description");
     }
 
+    @Test
+    public void handleRequest_ChangedAttributes_MergesDelta() {
+        final Map<String, String> previousAttributes = new HashMap<>();
+        previousAttributes.put("same", "val");
+        previousAttributes.put("changed", "old");
+        previousAttributes.put("removed", "val");
+        final Map<String, String> attributes = new HashMap<>();
+        attributes.put("same", "val");
+        attributes.put("changed", "new");
+        attributes.put("added", "val");
+        final ResourceModel prevModel = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .thingGroupProperties(software.amazon.iot.thinggroup.ThingGroupProperties.builder()
+                        .thingGroupDescription(TG_DESCRIPTION)
+                        .attributePayload(AttributePayload.builder().attributes(previousAttributes).build())
+                        .build())
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .thingGroupProperties(software.amazon.iot.thinggroup.ThingGroupProperties.builder()
+                        .thingGroupDescription(TG_DESCRIPTION)
+                        .attributePayload(AttributePayload.builder().attributes(attributes).build())
+                        .build())
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(newModel)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(iotClient.updateThingGroup(any(UpdateThingGroupRequest.class)))
+                .thenReturn(UpdateThingGroupResponse.builder().build());
+        when(iotClient.describeThingGroup(any(DescribeThingGroupRequest.class)))
+                .thenReturn(DescribeThingGroupResponse.builder()
+                        .thingGroupArn(TG_ARN)
+                        .thingGroupName(TG_NAME)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus().toString()).isEqualTo(OperationStatus.SUCCESS.toString());
+        final ArgumentCaptor<UpdateThingGroupRequest> updateRequest = ArgumentCaptor.forClass(UpdateThingGroupRequest.class);
+        verify(iotClient).updateThingGroup(updateRequest.capture());
+        final ThingGroupProperties properties = updateRequest.getValue().thingGroupProperties();
+        assertThat(properties.thingGroupDescription()).isEqualTo(TG_DESCRIPTION);
+        assertThat(properties.attributePayload().merge()).isTrue();
+        assertThat(properties.attributePayload().attributes()).containsOnly(
+                entry("changed", "new"),
+                entry("added", "val"),
+                entry("removed", Translator.REMOVED_ATTRIBUTE_VALUE));
+    }
+
+    @Test
+    public void handleRequest_SameQuery_DynamicThingGroup_OmitsQueryString() {
+        final UpdateDynamicThingGroupRequest updateRequest =
+                updateDynamicThingGroup("thingName:a*  AND attributes.x:1", "thingName:a* AND attributes.x:1");
+
+        assertThat(updateRequest.queryString()).isNull();
+    }
+
+    @Test
+    public void handleRequest_ChangedQuery_DynamicThingGroup_SendsQueryString() {
+        final UpdateDynamicThingGroupRequest updateRequest =
+                updateDynamicThingGroup("thingName:a*", "thingName:b*");
+
+        assertThat(updateRequest.queryString()).isEqualTo("thingName:b*");
+    }
+
+    @Test
+    public void handleRequest_MalformedQuery_DynamicThingGroup_FailsLocally() {
+        final ResourceModel prevModel = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .queryString(DG_QUERYSTRING)
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .queryString("thingName:a AND")
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(newModel)
+                .previousResourceState(prevModel)
+                .build();
+
+        assertThrows(CfnInvalidRequestException.class, () ->
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER));
+        verify(iotClient, never()).describeThingGroup(any(DescribeThingGroupRequest.class));
+        verify(iotClient, never()).updateDynamicThingGroup(any(UpdateDynamicThingGroupRequest.class));
+    }
+
+    private UpdateDynamicThingGroupRequest updateDynamicThingGroup(final String prevQuery, final String newQuery) {
+        final ResourceModel prevModel = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .queryString(prevQuery)
+                .build();
+        final ResourceModel newModel = ResourceModel.builder()
+                .thingGroupName(TG_NAME)
+                .queryString(newQuery)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(newModel)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(iotClient.updateDynamicThingGroup(any(UpdateDynamicThingGroupRequest.class)))
+                .thenReturn(UpdateDynamicThingGroupResponse.builder().build());
+        when(iotClient.describeThingGroup(any(DescribeThingGroupRequest.class)))
+                .thenReturn(DescribeThingGroupResponse.builder()
+                        .thingGroupArn(TG_ARN)
+                        .thingGroupName(TG_NAME)
+                        .queryString(prevQuery)
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, LOGGER);
+
+        assertThat(response.getStatus().toString()).isEqualTo(OperationStatus.SUCCESS.toString());
+        final ArgumentCaptor<UpdateDynamicThingGroupRequest> updateRequest =
+                ArgumentCaptor.forClass(UpdateDynamicThingGroupRequest.class);
+        verify(iotClient).updateDynamicThingGroup(updateRequest.capture());
+        return updateRequest.getValue();
+    }
+
     @Test
     public void handleRequest_AddTags_DynamicThingGroup() {
         Set<software.amazon.iot.thinggroup.Tag> prevTagSet = Collections.emptySet();
@@ -0,0 +1,117 @@
+package software.amazon.iot.thingtype;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.iot.model.CreateThingTypeRequest;
+import software.amazon.awssdk.services.iot.model.UpdateThingTypeRequest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the thing type translations, dominated by the MQTT5 propagating attributes and tags, on large
+ * models. Run with the "benchmark" profile, see pom.xml. Allocation rate is reported by the gc profiler (-prof gc).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark {
+
+    @Param({"10", "100"})
+    private int propagatingAttributeCount;
+
+    @Param({"50", "500"})
+    private int tagCount;
+
+    private ResourceModel model;
+    private Map<String, String> tags;
+    private Set<software.amazon.awssdk.services.iot.model.Tag> iotTags;
+    private software.amazon.awssdk.services.iot.model.ThingTypeProperties iotThingTypeProperties;
+
+    @Setup
+    public void setUp() {
+        List<PropagatingAttribute> propagatingAttributes = new ArrayList<>();
+        List<String> searchableAttributes = new ArrayList<>();
+        for (int i = 0; i < propagatingAttributeCount; i++) {
+            PropagatingAttribute.PropagatingAttributeBuilder attribute = PropagatingAttribute.builder()
+                    .userPropertyKey("userProperty" + i);
+            if (i % 2 == 0) {
+                attribute.thingAttribute("thingAttribute" + i);
+            } else {
+                attribute.connectionAttribute("iot:ClientId");
+            }
+            propagatingAttributes.add(attribute.build());
+            if (searchableAttributes.size() < 3) {
+                searchableAttributes.add("thingAttribute" + i);
+            }
+        }
+
+        Set<Tag> modelTags = new HashSet<>();
+        tags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            modelTags.add(Tag.builder().key("tagKey" + i).value("tagValue" + i).build());
+            tags.put("tagKey" + i, "tagValue" + i);
+        }
+
+        model = ResourceModel.builder()
+                .thingTypeName("BenchmarkThingType")
+                .thingTypeProperties(ThingTypeProperties.builder()
+                        .thingTypeDescription("Thing type used by the translator benchmark")
+                        .searchableAttributes(searchableAttributes)
+                        .mqtt5Configuration(Mqtt5Configuration.builder()
+                                .propagatingAttributes(propagatingAttributes)
+                                .build())
+                        .build())
+                .tags(modelTags)
+                .build();
+        iotTags = Translator.translateTagsToSdk(tags);
+        iotThingTypeProperties = Translator.translateToCreateRequest(model, tags).thingTypeProperties();
+    }
+
+    @Benchmark
+    public CreateThingTypeRequest createRequest() {
+        return Translator.translateToCreateRequest(model, tags);
+    }
+
+    @Benchmark
+    public UpdateThingTypeRequest updateRequest() {
+        return Translator.translateToUpdateThingTypeRequest(model);
+    }
+
+    @Benchmark
+    public ThingTypeProperties thingTypePropertiesFromSdk() {
+        return Translator.translateThingTypePropertiesToModelObject(iotThingTypeProperties);
+    }
+
+    @Benchmark
+    public Set<software.amazon.awssdk.services.iot.model.Tag> tagsToSdk() {
+        return Translator.translateTagsToSdk(model.getTags());
+    }
+
+    @Benchmark
+    public Set<Tag> tagsFromSdk() {
+        return Translator.translateTagsFromSdk(iotTags);
+    }
+
+    @Benchmark
+    public Map<String, String> tagsToMap() {
+        return Translator.translateTagstoMap(model.getTags());
+    }
+}
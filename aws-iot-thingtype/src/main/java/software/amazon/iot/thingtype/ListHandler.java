@@ -1,6 +1,8 @@
 package software.amazon.iot.thingtype;
 
+import software.amazon.awssdk.http.HttpStatusCode;
 import software.amazon.awssdk.services.iot.IotClient;
+import software.amazon.awssdk.services.iot.model.DescribeThingTypeResponse;
 import software.amazon.awssdk.services.iot.model.IotException;
 import software.amazon.awssdk.services.iot.model.ListThingTypesRequest;
 import software.amazon.awssdk.services.iot.model.ListThingTypesResponse;
@@ -11,9 +13,13 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.List;
+
 /**
  * API Calls for ListHandler:
- * ListThingTypes: To retrieve a list of all ThingTypes in the account
+ * ListThingTypes: To retrieve a list of all ThingTypes in the account, or only the one named by the
+ * ThingTypeName of the desired model
+ * DescribeThingType, ListTagsForResource: To return full models in the hydrated List mode, see {@link ListHydration}
  */
 public class ListHandler extends BaseHandlerStd {
 
@@ -27,16 +33,25 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<IotClient> proxyClient,
             final Logger logger) {
 
+        final ResourceModel resourceModel = request.getDesiredResourceState();
+
         try {
-            final ListThingTypesRequest listThingTypesRequest = Translator.translateToListRequest(request.getNextToken());
+            final ListThingTypesRequest listThingTypesRequest =
+                    Translator.translateToListRequest(resourceModel, request.getNextToken());
             ListThingTypesResponse listThingTypesResponse = proxy.injectCredentialsAndInvokeV2(
                     listThingTypesRequest,
                     proxyClient.client()::listThingTypes
             );
             String nextToken = listThingTypesResponse.nextToken();
 
+            List<ResourceModel> resourceModels = Translator.translateFromListResponse(listThingTypesResponse);
+            if (hydrates()) {
+                final Deadline deadline = startDeadline();
+                resourceModels = ListHydration.hydrate(resourceModels, model -> describe(proxyClient, deadline, model),
+                        deadline::shouldCheckpoint);
+            }
             return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                    .resourceModels(Translator.translateFromListResponse(listThingTypesResponse))
+                    .resourceModels(resourceModels)
                     .nextToken(nextToken)
                     .status(OperationStatus.SUCCESS)
                     .build();
@@ -44,4 +59,28 @@ public class ListHandler extends BaseHandlerStd {
             throw Translator.translateIotExceptionToHandlerException(null, OPERATION, e);
         }
     }
+
+    private ResourceModel describe(final ProxyClient<IotClient> proxyClient,
+                                   final Deadline deadline,
+                                   final ResourceModel model) {
+        final DescribeThingTypeResponse describeThingTypeResponse = proxyClient.injectCredentialsAndInvokeV2(
+                deadline.bound(Translator.translateToReadRequest(model)), proxyClient.client()::describeThingType);
+        final ResourceModel described = Translator.translateFromReadResponse(describeThingTypeResponse);
+        try {
+            described.setTags(Translator.translateTagsFromSdk(listTags(proxyClient, describeThingTypeResponse.thingTypeArn())));
+        } catch (IotException e) {
+            if (e.statusCode() != HttpStatusCode.FORBIDDEN) {
+                throw e;
+            }
+        }
+        return described;
+    }
+
+    Deadline startDeadline() {
+        return Deadline.startingNow();
+    }
+
+    boolean hydrates() {
+        return ListHydration.isEnabled();
+    }
 }
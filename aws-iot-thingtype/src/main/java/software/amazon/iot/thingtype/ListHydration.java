@@ -0,0 +1,61 @@
+package software.amazon.iot.thingtype;
+
+import software.amazon.awssdk.services.iot.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.iot.model.ThrottlingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+/**
+ * Hydrated List mode, turned on with LIST_HYDRATE=true in the handler's environment.
+ *
+ * The List handler then describes every resource it returns, so the caller gets the models a Read
+ * would return without a Read per resource. Describes run {@link FanOut#DEFAULT_PARALLELISM} at a
+ * time. Once one is throttled, or the invocation runs low on time, no more are started, and the
+ * resources not described yet are returned with only their primary identifier, as without this mode.
+ * A resource deleted between the list and its describe is left out.
+ */
+final class ListHydration {
+
+    static final String VARIABLE = "LIST_HYDRATE";
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getenv(VARIABLE));
+
+    private ListHydration() {
+    }
+
+    static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @param models   listed models, with only their primary identifier
+     * @param describe returns the full model for a listed one
+     * @param stop     returns true once the invocation is running out of time
+     * @return the models in list order, described where possible
+     */
+    static List<ResourceModel> hydrate(final List<ResourceModel> models,
+                                       final Function<ResourceModel, ResourceModel> describe,
+                                       final BooleanSupplier stop) {
+        final AtomicBoolean throttled = new AtomicBoolean();
+        final List<Optional<ResourceModel>> described = new FanOut(FanOut.DEFAULT_PARALLELISM).invokeAll(models, model -> {
+            try {
+                return Optional.of(describe.apply(model));
+            } catch (ThrottlingException e) {
+                throttled.set(true);
+                return Optional.of(model);
+            } catch (ResourceNotFoundException e) {
+                return Optional.empty();
+            }
+        }, () -> throttled.get() || stop.getAsBoolean());
+
+        final List<ResourceModel> hydrated = new ArrayList<>(models.size());
+        described.forEach(model -> model.ifPresent(hydrated::add));
+        hydrated.addAll(models.subList(described.size(), models.size()));
+        return hydrated;
+    }
+}
@@ -168,8 +168,12 @@ public class Translator {
                 .build();
     }
 
-    static ListThingTypesRequest translateToListRequest(final String nextToken) {
+    /**
+     * A ThingTypeName in the model lists only that thing type.
+     */
+    static ListThingTypesRequest translateToListRequest(final ResourceModel model, final String nextToken) {
         return ListThingTypesRequest.builder()
+                .thingTypeName(model == null ? null : model.getThingTypeName())
                 .nextToken(nextToken)
                 .build();
     }
@@ -1,13 +1,11 @@
 package software.amazon.iot.thingtype;
 
-import com.google.common.collect.Sets;
 import org.apache.commons.lang3.StringUtils;
 import software.amazon.awssdk.services.iot.IotClient;
 import software.amazon.awssdk.services.iot.model.DeprecateThingTypeResponse;
 import software.amazon.awssdk.services.iot.model.DescribeThingTypeResponse;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
 import software.amazon.awssdk.services.iot.model.IotException;
-import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.UpdateThingTypeResponse;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -16,13 +14,9 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
 
 /**
  * The handler updates the THING TYPE resource (if it exists) - the following attributes can be updated:
@@ -33,9 +27,7 @@ import java.util.Set;
  * UpdateThingType: To update certain ThingType properties - Mqtt5Configuration
  * DeprecateThingType: To deprecate/un-deprecate a ThingType
  * DescribeThingType: To retrieve ARN of the ThingType to make Tag and UnTag API calls
- * ListTagsForResource: To retrieve old tags associated with ThingType
- * UntagResource: To remove old tags
- * TagResource: To add new tags
+ * UntagResource, TagResource: Through TagReconciler, only for the tags that changed
  */
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -219,44 +211,8 @@ public class UpdateHandler extends BaseHandlerStd {
                                 proxyInvocation.client()::describeThingType);
 
                         final String resourceArn = describeThingTypeResponse.thingTypeArn();
-                        // Desired tags (including user-defined and stack tags)
-                        final Map<String, String> desiredTags = new HashMap<>();
-                        Optional.ofNullable(request.getDesiredResourceTags())
-                                .ifPresent(desiredTags::putAll);
-                        Optional.ofNullable(request.getDesiredResourceState())
-                                .map(ResourceModel::getTags)
-                                .map(Translator::translateTagstoMap)
-                                .ifPresent(desiredTags::putAll);
-                        final Set<Tag> desiredTagSet = Translator.translateTagsToSdk(desiredTags);
-
-                        // Existing resource State tags (including user-defined and stack tags)
-                        final Map<String, String> existingTags = new HashMap<>();
-                        Optional.ofNullable(request.getPreviousResourceState())
-                                .map(ResourceModel::getTags)
-                                .map(Translator::translateTagstoMap)
-                                .ifPresent(existingTags::putAll);
-                        Optional.ofNullable(request.getPreviousResourceTags())
-                                .ifPresent(existingTags::putAll);
-                        final Set<Tag> existingTagSet = Translator.translateTagsToSdk(existingTags);
-                        final Set<Tag> tagsToRemove = Sets.difference(existingTagSet, desiredTagSet);
-                        final Set<Tag> tagsToAdd = Sets.difference(desiredTagSet, existingTagSet);
-
-                        if (!tagsToRemove.isEmpty()) {
-                            proxyClient.injectCredentialsAndInvokeV2(
-                                    Translator.untagResourceRequest(resourceArn, tagsToRemove),
-                                    proxyClient.client()::untagResource
-                            );
-                            logger.log(String.format("%s [%s] untagResourceRequest successfully completed.",
-                                    ResourceModel.TYPE_NAME, resourceArn));
-                        }
-                        if (!tagsToAdd.isEmpty()) {
-                            proxyClient.injectCredentialsAndInvokeV2(
-                                    Translator.tagResourceRequest(resourceArn, tagsToAdd),
-                                    proxyClient.client()::tagResource
-                            );
-                            logger.log(String.format("%s [%s] tagResourceRequest successfully completed.",
-                                    ResourceModel.TYPE_NAME, resourceArn));
-                        }
+                        new TagReconciler(proxyInvocation::injectCredentialsAndInvokeV2, proxyInvocation.client(), logger)
+                                .reconcile(resourceArn, request);
                         return ProgressEvent.progress(progress.getResourceModel(), progress.getCallbackContext());
                     } catch (IotException e) {
                         throw Translator.translateIotExceptionToHandlerException(getRequest.thingTypeName(), OPERATION, e);
@@ -2,12 +2,18 @@ package software.amazon.iot.thingtype;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.iot.model.DescribeThingTypeRequest;
+import software.amazon.awssdk.services.iot.model.DescribeThingTypeResponse;
 import software.amazon.awssdk.services.iot.model.InternalFailureException;
 import software.amazon.awssdk.services.iot.model.InvalidRequestException;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.iot.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.iot.model.ListThingTypesRequest;
 import software.amazon.awssdk.services.iot.model.ListThingTypesResponse;
 import software.amazon.awssdk.services.iot.model.ServiceUnavailableException;
+import software.amazon.awssdk.services.iot.model.Tag;
 import software.amazon.awssdk.services.iot.model.ThingTypeDefinition;
 import software.amazon.awssdk.services.iot.model.ThingTypeMetadata;
 import software.amazon.awssdk.services.iot.model.ThingTypeProperties;
@@ -26,6 +32,8 @@ import java.util.Collections;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -66,6 +74,30 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NameFilter_PushedDown() {
+        final ResourceModel model = ResourceModel.builder()
+                .thingTypeName(TT_Name)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(model).build();
+
+        when(iotClient.listThingTypes(any(ListThingTypesRequest.class)))
+                .thenReturn(ListThingTypesResponse.builder()
+                        .thingTypes(ThingTypeDefinition.builder()
+                                .thingTypeName(TT_Name)
+                                .thingTypeMetadata(ThingTypeMetadata.builder().deprecated(false).build())
+                                .build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        final ArgumentCaptor<ListThingTypesRequest> listRequest = ArgumentCaptor.forClass(ListThingTypesRequest.class);
+        verify(iotClient).listThingTypes(listRequest.capture());
+        assertThat(listRequest.getValue().thingTypeName()).isEqualTo(TT_Name);
+        assertThat(response.getResourceModels()).hasSize(1);
+    }
+
     @Test
     public void handleRequest_SuccessWithThingTypeProperties() {
         final ResourceModel model = ResourceModel.builder()
@@ -135,6 +167,42 @@ public class ListHandlerTest extends AbstractTestBase{
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_Hydrated_ReturnsFullModels() {
+        final ListHandler spyHandler = spy(handler);
+        doReturn(true).when(spyHandler).hydrates();
+        final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
+
+        when(iotClient.listThingTypes(any(ListThingTypesRequest.class)))
+                .thenReturn(ListThingTypesResponse.builder()
+                        .thingTypes(ThingTypeDefinition.builder()
+                                .thingTypeName(TT_Name)
+                                .thingTypeMetadata(ThingTypeMetadata.builder().deprecated(false).build())
+                                .build())
+                        .build());
+        when(iotClient.describeThingType(any(DescribeThingTypeRequest.class)))
+                .thenReturn(DescribeThingTypeResponse.builder()
+                        .thingTypeArn(TT_ARN)
+                        .thingTypeId(TT_ID)
+                        .thingTypeName(TT_Name)
+                        .thingTypeMetadata(ThingTypeMetadata.builder().deprecated(false).build())
+                        .thingTypeProperties(ThingTypeProperties.builder()
+                                .thingTypeDescription(THING_TYPE_DESCRIPTION)
+                                .build())
+                        .build());
+        when(iotClient.listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder()
+                        .tags(Tag.builder().key("key").value("value").build())
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                spyHandler.handleRequest(proxy, request, new CallbackContext(),proxyClient, LOGGER);
+
+        assertThat(response.getResourceModels()).hasSize(1);
+        assertThat(response.getResourceModels().get(0).getArn()).isEqualTo(TT_ARN);
+        assertThat(response.getResourceModels().get(0).getTags()).hasSize(1);
+    }
+
     @Test
     public void handleRequest_InternalFailureException() {
         final ResourceHandlerRequest<ResourceModel> request = defaultRequestBuilder(null).build();
@@ -0,0 +1,86 @@
+package software.amazon.iot.coldstart;
+
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.RuntimeMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Entry point of the short-lived JVM that {@link ColdStartRunner} starts for every measurement.
+ *
+ * Usage: ColdStartProbe &lt;wrapper class&gt; &lt;request file&gt; &lt;response file&gt;
+ *
+ * The probe loads the module's HandlerWrapper exactly like the Lambda runtime does, feeds it one
+ * request and prints a single {@value #RESULT_PREFIX} line with the timings, the loaded class count,
+ * the retained heap and the peak resident set size. Nothing else may be written to stdout.
+ */
+public final class ColdStartProbe {
+
+    static final String RESULT_PREFIX = "COLDSTART ";
+
+    private ColdStartProbe() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        final long jvmStartMillis = runtime.getUptime();
+
+        long start = System.nanoTime();
+        final RequestStreamHandler handler = (RequestStreamHandler) Class.forName(args[0])
+                .getDeclaredConstructor()
+                .newInstance();
+        final long initMillis = (System.nanoTime() - start) / 1_000_000;
+        final long classesAfterInit = classLoading.getTotalLoadedClassCount();
+        // Collect outside the timed sections so the heap figure is what init actually retains.
+        memory.gc();
+        final long heapAfterInit = memory.getHeapMemoryUsage().getUsed();
+
+        start = System.nanoTime();
+        try (InputStream input = Files.newInputStream(Paths.get(args[1]));
+             OutputStream output = Files.newOutputStream(Paths.get(args[2]))) {
+            handler.handleRequest(input, output, new ProbeContext());
+        }
+        final long firstRequestMillis = (System.nanoTime() - start) / 1_000_000;
+        final long classesAfterFirstResponse = classLoading.getTotalLoadedClassCount();
+        memory.gc();
+        final long heapAfterFirstResponse = memory.getHeapMemoryUsage().getUsed();
+
+        System.out.println(RESULT_PREFIX + String.format(
+                "{\"jvmStartMillis\":%d,\"initMillis\":%d,\"firstRequestMillis\":%d,"
+                        + "\"timeToFirstResponseMillis\":%d,\"classesAfterInit\":%d,"
+                        + "\"classesAfterFirstResponse\":%d,\"heapAfterInitBytes\":%d,"
+                        + "\"heapAfterFirstResponseBytes\":%d,\"peakRssBytes\":%d}",
+                jvmStartMillis, initMillis, firstRequestMillis,
+                jvmStartMillis + initMillis + firstRequestMillis, classesAfterInit,
+                classesAfterFirstResponse, heapAfterInit, heapAfterFirstResponse, peakRssBytes()));
+        System.out.flush();
+        // The SDK's connection reaper threads would otherwise keep the JVM alive.
+        System.exit(0);
+    }
+
+    /**
+     * Peak resident set size from /proc/self/status, or -1 where procfs is not available. Unlike the
+     * heap figures it also covers metaspace and code cache.
+     */
+    private static long peakRssBytes() {
+        try {
+            for (final String line : Files.readAllLines(Paths.get("/proc/self/status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        } catch (final IOException | NumberFormatException e) {
+            // Not Linux; reported as -1.
+        }
+        return -1;
+    }
+}
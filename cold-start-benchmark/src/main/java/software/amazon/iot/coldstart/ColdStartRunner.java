@@ -0,0 +1,315 @@
+package software.amazon.iot.coldstart;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Measures the cold start of every resource provider's shaded jar.
+ *
+ * For each module the runner starts a {@link FakeIotServer} with the module's fixture, then launches
+ * a fresh JVM per run with only the shaded jar and the probe classes on the classpath. The probe
+ * drives one request through the generated HandlerWrapper and reports its timings; the runner
+ * prints the median of each column and can write every run to a JSON file for comparison.
+ *
+ * Options:
+ *   --repo DIR            repository root (set by the pom)
+ *   --probe-classes DIR   compiled probe classes (set by the pom)
+ *   --runs N              JVMs launched per module, default 5
+ *   --java PATH           java executable for the probes, default the one running the runner
+ *   --jvm-args "ARGS"     options for the probe JVMs, default "-Xmx512m -XX:+UseSerialGC -XX:TieredStopAtLevel=1"
+ *   --output FILE         write all runs as JSON
+ *   --env NAME=VALUE      extra environment variable for the probe JVMs, repeatable; e.g.
+ *                         AWS_LAMBDA_INITIALIZATION_TYPE=snap-start to include snapshot priming
+ *   module ...            aws-iot-* directories to measure, default every module with a fixture
+ */
+public final class ColdStartRunner {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+
+    private Path repo = Paths.get("..");
+    private Path probeClasses = Paths.get("target", "classes");
+    private int runs = 5;
+    private String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    private List<String> jvmArgs = Arrays.asList("-Xmx512m", "-XX:+UseSerialGC", "-XX:TieredStopAtLevel=1");
+    private Path output;
+    private final Map<String, String> environment = new LinkedHashMap<>();
+    private final List<String> modules = new ArrayList<>();
+
+    private ColdStartRunner() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        final ColdStartRunner runner = new ColdStartRunner();
+        runner.parse(args);
+        System.exit(runner.run());
+    }
+
+    private void parse(final String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--repo":
+                    repo = Paths.get(args[++i]);
+                    break;
+                case "--probe-classes":
+                    probeClasses = Paths.get(args[++i]);
+                    break;
+                case "--runs":
+                    runs = Integer.parseInt(args[++i]);
+                    break;
+                case "--java":
+                    java = args[++i];
+                    break;
+                case "--jvm-args":
+                    jvmArgs = Arrays.asList(args[++i].trim().split("\\s+"));
+                    break;
+                case "--output":
+                    output = Paths.get(args[++i]);
+                    break;
+                case "--env":
+                    final String variable = args[++i];
+                    final int separator = variable.indexOf('=');
+                    if (separator < 1) {
+                        throw new IllegalArgumentException("Expected NAME=VALUE after --env, got " + variable);
+                    }
+                    environment.put(variable.substring(0, separator), variable.substring(separator + 1));
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + args[i]);
+                    }
+                    modules.add(args[i]);
+            }
+        }
+    }
+
+    private int run() throws IOException, InterruptedException {
+        final Path fixtures = repo.resolve("cold-start-benchmark").resolve("fixtures");
+        if (modules.isEmpty()) {
+            try (Stream<Path> files = Files.list(fixtures)) {
+                files.map(f -> f.getFileName().toString())
+                        .filter(f -> f.endsWith(".json"))
+                        .map(f -> f.substring(0, f.length() - ".json".length()))
+                        .sorted()
+                        .forEach(modules::add);
+            }
+        }
+
+        final Map<String, Object> report = new LinkedHashMap<>();
+        int failures = 0;
+        System.out.println(String.format("%-36s %-8s %6s %6s %6s %6s %7s %8s %7s %5s",
+                "module", "status", "jvm", "init", "first", "ttfr", "classes", "heapMB", "rssMB", "calls"));
+        for (final String module : modules) {
+            final Map<String, Object> moduleReport = new LinkedHashMap<>();
+            report.put(module, moduleReport);
+            try {
+                final List<ProbeResult> results = measure(module, fixtures.resolve(module + ".json"), moduleReport);
+                moduleReport.put("runs", results);
+                final ProbeResult median = median(results);
+                moduleReport.put("median", median);
+                System.out.println(String.format("%-36s %-8s %6d %6d %6d %6d %7d %8.1f %7.1f %5d",
+                        module, median.getStatus(), median.getJvmStartMillis(), median.getInitMillis(),
+                        median.getFirstRequestMillis(), median.getTimeToFirstResponseMillis(),
+                        median.getClassesAfterFirstResponse(), median.getHeapAfterInitBytes() / (1024.0 * 1024.0),
+                        median.getPeakRssBytes() / (1024.0 * 1024.0), median.getIotCalls()));
+            } catch (final IOException | IllegalStateException e) {
+                failures++;
+                moduleReport.put("error", e.getMessage());
+                System.out.println(String.format("%-36s %-8s %s", module, "ERROR", e.getMessage()));
+            }
+        }
+
+        if (output != null) {
+            MAPPER.writeValue(output.toFile(), report);
+            System.out.println("Wrote " + output);
+        }
+        return failures == 0 ? 0 : 1;
+    }
+
+    private List<ProbeResult> measure(final String module, final Path fixtureFile,
+                                      final Map<String, Object> moduleReport)
+            throws IOException, InterruptedException {
+        if (!Files.isRegularFile(fixtureFile)) {
+            throw new IllegalStateException("no fixture at " + fixtureFile);
+        }
+        final Fixture fixture = MAPPER.readValue(fixtureFile.toFile(), Fixture.class);
+        final Path moduleDir = repo.resolve(module);
+        final JsonNode rpdkConfig = MAPPER.readTree(moduleDir.resolve(".rpdk-config").toFile());
+        final String entrypoint = rpdkConfig.get("entrypoint").asText();
+        final String wrapperClass = entrypoint.substring(0, entrypoint.indexOf("::"));
+        final Path jar = findShadedJar(moduleDir);
+
+        final Path workDir = Files.createTempDirectory("cold-start-" + module);
+        final Path requestFile = workDir.resolve("request.json");
+        MAPPER.writeValue(requestFile.toFile(),
+                buildRequest(rpdkConfig.get("typeName").asText(), fixture));
+
+        final List<ProbeResult> results = new ArrayList<>();
+        try (FakeIotServer fake = new FakeIotServer(fixture.getResponses())) {
+            for (int i = 0; i < runs; i++) {
+                final ProbeResult result = launch(jar, wrapperClass, fake.endpoint(), requestFile, workDir, i);
+                result.setIotCalls(fake.drainServedCount());
+                results.add(result);
+            }
+            final List<String> unmatched = fake.unmatchedRequests().stream().distinct().collect(Collectors.toList());
+            if (!unmatched.isEmpty()) {
+                moduleReport.put("unmatchedRequests", unmatched);
+                System.err.println(module + ": no fixture for " + unmatched);
+            }
+        }
+        // Logs are only worth keeping when a probe failed, in which case launch() has already thrown.
+        deleteRecursively(workDir);
+        return results;
+    }
+
+    private ProbeResult launch(final Path jar, final String wrapperClass, final String endpoint,
+                               final Path requestFile, final Path workDir, final int run)
+            throws IOException, InterruptedException {
+        final Path responseFile = workDir.resolve("response-" + run + ".json");
+        final Path logFile = workDir.resolve("probe-" + run + ".log");
+        // The wrapper empties java.io.tmpdir after every invocation, as it would in a Lambda sandbox,
+        // so each probe gets a scratch directory of its own instead of the machine's /tmp.
+        final Path probeTmp = Files.createDirectory(workDir.resolve("tmp-" + run));
+        final List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.add("-Djava.io.tmpdir=" + probeTmp);
+        command.add("-D" + LocalEndpointInterceptor.ENDPOINT_PROPERTY + "=" + endpoint);
+        command.add("-cp");
+        command.add(jar + File.pathSeparator + probeClasses);
+        command.add(ColdStartProbe.class.getName());
+        command.add(wrapperClass);
+        command.add(requestFile.toString());
+        command.add(responseFile.toString());
+
+        final ProcessBuilder builder = new ProcessBuilder(command).redirectError(logFile.toFile());
+        // Handlers that build their own IotClient resolve region and credentials from the environment.
+        builder.environment().put("AWS_REGION", REGION);
+        builder.environment().put("AWS_ACCESS_KEY_ID", "AKIDCOLDSTART");
+        builder.environment().put("AWS_SECRET_ACCESS_KEY", "cold-start");
+        builder.environment().putAll(environment);
+
+        final long start = System.nanoTime();
+        final Process process = builder.start();
+        String resultLine = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(ColdStartProbe.RESULT_PREFIX)) {
+                    resultLine = line.substring(ColdStartProbe.RESULT_PREFIX.length());
+                }
+            }
+        }
+        final int exitCode = process.waitFor();
+        final long wallClockMillis = (System.nanoTime() - start) / 1_000_000;
+        if (exitCode != 0 || resultLine == null) {
+            throw new IllegalStateException("probe exited with " + exitCode + ", see " + logFile);
+        }
+
+        final ProbeResult result = MAPPER.readValue(resultLine, ProbeResult.class);
+        result.setWallClockMillis(wallClockMillis);
+        final JsonNode response = MAPPER.readTree(responseFile.toFile());
+        result.setStatus(response.path("status").asText("UNKNOWN"));
+        if (response.hasNonNull("message")) {
+            result.setMessage(response.get("message").asText());
+        }
+        return result;
+    }
+
+    private static ObjectNode buildRequest(final String typeName, final Fixture fixture) {
+        final ObjectNode request = MAPPER.createObjectNode();
+        request.put("awsAccountId", ACCOUNT_ID);
+        request.put("bearerToken", UUID.randomUUID().toString());
+        request.put("region", REGION);
+        request.put("action", fixture.getAction());
+        request.put("resourceType", typeName);
+        request.put("resourceTypeVersion", "00000001");
+        request.put("stackId", "arn:aws:cloudformation:" + REGION + ":" + ACCOUNT_ID
+                + ":stack/cold-start/" + UUID.randomUUID());
+        request.putNull("callbackContext");
+
+        final ObjectNode requestData = request.putObject("requestData");
+        final ObjectNode credentials = requestData.putObject("callerCredentials");
+        credentials.put("accessKeyId", "AKIDCOLDSTART");
+        credentials.put("secretAccessKey", "cold-start");
+        credentials.put("sessionToken", "cold-start");
+        requestData.put("logicalResourceId", "ColdStartResource");
+        requestData.set("resourceProperties", fixture.getResourceProperties());
+        requestData.putObject("systemTags");
+        requestData.putObject("stackTags");
+        return request;
+    }
+
+    private static Path findShadedJar(final Path moduleDir) throws IOException {
+        final Path target = moduleDir.resolve("target");
+        if (Files.isDirectory(target)) {
+            try (Stream<Path> files = Files.list(target)) {
+                final List<Path> jars = files
+                        .filter(f -> f.getFileName().toString().endsWith(".jar"))
+                        .filter(f -> !f.getFileName().toString().startsWith("original-"))
+                        .collect(Collectors.toList());
+                if (jars.size() == 1) {
+                    return jars.get(0);
+                }
+            }
+        }
+        throw new IllegalStateException("no shaded jar in " + target + ", run mvn package in the module first");
+    }
+
+    private static void deleteRecursively(final Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private static ProbeResult median(final List<ProbeResult> results) {
+        final ProbeResult median = new ProbeResult();
+        median.setJvmStartMillis(median(results, ProbeResult::getJvmStartMillis));
+        median.setInitMillis(median(results, ProbeResult::getInitMillis));
+        median.setFirstRequestMillis(median(results, ProbeResult::getFirstRequestMillis));
+        median.setTimeToFirstResponseMillis(median(results, ProbeResult::getTimeToFirstResponseMillis));
+        median.setClassesAfterInit(median(results, ProbeResult::getClassesAfterInit));
+        median.setClassesAfterFirstResponse(median(results, ProbeResult::getClassesAfterFirstResponse));
+        median.setHeapAfterInitBytes(median(results, ProbeResult::getHeapAfterInitBytes));
+        median.setHeapAfterFirstResponseBytes(median(results, ProbeResult::getHeapAfterFirstResponseBytes));
+        median.setPeakRssBytes(median(results, ProbeResult::getPeakRssBytes));
+        median.setWallClockMillis(median(results, ProbeResult::getWallClockMillis));
+        median.setIotCalls((int) median(results, ProbeResult::getIotCalls));
+        // A module only counts as healthy when every run agreed on the outcome.
+        final List<String> statuses = results.stream().map(ProbeResult::getStatus).distinct()
+                .collect(Collectors.toList());
+        median.setStatus(statuses.size() == 1 ? statuses.get(0) : "MIXED");
+        return median;
+    }
+
+    private static long median(final List<ProbeResult> results, final ToLongFunction<ProbeResult> metric) {
+        final List<Long> values = results.stream().map(metric::applyAsLong).collect(Collectors.toList());
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+}
@@ -0,0 +1,90 @@
+package software.amazon.iot.coldstart;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Canned IoT control plane on a loopback port. Requests are matched on method and path (the
+ * query string is ignored); anything without a fixture gets a ResourceNotFoundException and is
+ * recorded, so missing fixtures show up in the report rather than as silent failures.
+ */
+class FakeIotServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final HttpServer server;
+    private final List<Fixture.Route> routes;
+    private final AtomicInteger served = new AtomicInteger();
+    private final List<String> unmatched = Collections.synchronizedList(new ArrayList<>());
+
+    FakeIotServer(final List<Fixture.Route> routes) throws IOException {
+        this.routes = routes;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.start();
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Number of requests answered since the last call, matched or not.
+     */
+    int drainServedCount() {
+        return served.getAndSet(0);
+    }
+
+    List<String> unmatchedRequests() {
+        synchronized (unmatched) {
+            return new ArrayList<>(unmatched);
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (InputStream ignored = exchange.getRequestBody()) {
+            served.incrementAndGet();
+            final String method = exchange.getRequestMethod();
+            final String path = exchange.getRequestURI().getPath();
+            for (final Fixture.Route route : routes) {
+                if (route.getMethod().equalsIgnoreCase(method) && route.getPath().equals(path)) {
+                    final String body = route.getBody() == null ? "{}" : MAPPER.writeValueAsString(route.getBody());
+                    respond(exchange, route.getStatus(), null, body);
+                    return;
+                }
+            }
+            unmatched.add(method + " " + path);
+            respond(exchange, 404, "ResourceNotFoundException",
+                    "{\"message\":\"No cold-start fixture for " + method + " " + path + "\"}");
+        }
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final String errorType,
+                                final String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        if (errorType != null) {
+            exchange.getResponseHeaders().set("x-amzn-ErrorType", errorType);
+        }
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
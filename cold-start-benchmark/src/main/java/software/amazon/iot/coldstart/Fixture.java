@@ -0,0 +1,29 @@
+package software.amazon.iot.coldstart;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Per-module description of the request a probe sends and the IoT responses the fake serves.
+ * Fixtures live in cold-start-benchmark/fixtures/&lt;module&gt;.json.
+ */
+@Data
+@NoArgsConstructor
+class Fixture {
+
+    private String action = "READ";
+    private JsonNode resourceProperties;
+    private List<Route> responses = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    static class Route {
+        private String method;
+        private String path;
+        private int status = 200;
+        private JsonNode body;
+    }
+}
@@ -0,0 +1,62 @@
+package software.amazon.iot.coldstart;
+
+import java.net.URI;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpRequest;
+
+/**
+ * Global SDK interceptor that sends every request to the local IoT fake.
+ *
+ * The SDK picks this class up from the execution.interceptors resource on the probe classpath, so
+ * the handlers reach the fake without any endpoint override in their own client builders. It does
+ * nothing unless the probe JVM was started with the coldstart.endpoint system property.
+ */
+public class LocalEndpointInterceptor implements ExecutionInterceptor {
+
+    static final String ENDPOINT_PROPERTY = "coldstart.endpoint";
+
+    private static final boolean ENDPOINT_RULES = isPresent("software.amazon.awssdk.endpoints.EndpointProvider");
+
+    /**
+     * SDK versions with endpoint rules resolve the host in a service interceptor that runs after the
+     * global ones, so the override has to be visible to that resolver as well. Older versions treat
+     * these attributes as read-only and only need {@link #modifyHttpRequest}.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void beforeExecution(final Context.BeforeExecution context,
+                                final ExecutionAttributes executionAttributes) {
+        final String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+        if (endpoint != null && ENDPOINT_RULES) {
+            executionAttributes.putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN, true);
+            executionAttributes.putAttribute(SdkExecutionAttribute.CLIENT_ENDPOINT, URI.create(endpoint));
+        }
+    }
+
+    @Override
+    public SdkHttpRequest modifyHttpRequest(final Context.ModifyHttpRequest context,
+                                            final ExecutionAttributes executionAttributes) {
+        final String endpoint = System.getProperty(ENDPOINT_PROPERTY);
+        if (endpoint == null) {
+            return context.httpRequest();
+        }
+        final URI uri = URI.create(endpoint);
+        return context.httpRequest().toBuilder()
+                .protocol(uri.getScheme())
+                .host(uri.getHost())
+                .port(uri.getPort())
+                .build();
+    }
+
+    private static boolean isPresent(final String className) {
+        try {
+            Class.forName(className, false, LocalEndpointInterceptor.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
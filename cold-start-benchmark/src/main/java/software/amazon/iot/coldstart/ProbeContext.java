@@ -0,0 +1,87 @@
+package software.amazon.iot.coldstart;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Minimal Lambda context for a single probe invocation. Handler logs go to stderr so they never
+ * mix with the result line on stdout.
+ */
+class ProbeContext implements Context {
+
+    private static final int TIMEOUT_MILLIS = 15 * 60 * 1000;
+
+    private final String requestId = UUID.randomUUID().toString();
+    private final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+    private final LambdaLogger logger = new LambdaLogger() {
+        @Override
+        public void log(final String message) {
+            System.err.println(message);
+        }
+
+        @Override
+        public void log(final byte[] message) {
+            log(new String(message, StandardCharsets.UTF_8));
+        }
+    };
+
+    @Override
+    public String getAwsRequestId() {
+        return requestId;
+    }
+
+    @Override
+    public String getLogGroupName() {
+        return "/aws/lambda/cold-start-probe";
+    }
+
+    @Override
+    public String getLogStreamName() {
+        return requestId;
+    }
+
+    @Override
+    public String getFunctionName() {
+        return "cold-start-probe";
+    }
+
+    @Override
+    public String getFunctionVersion() {
+        return "$LATEST";
+    }
+
+    @Override
+    public String getInvokedFunctionArn() {
+        return "arn:aws:lambda:us-east-1:123456789012:function:cold-start-probe";
+    }
+
+    @Override
+    public CognitoIdentity getIdentity() {
+        return null;
+    }
+
+    @Override
+    public ClientContext getClientContext() {
+        return null;
+    }
+
+    @Override
+    public int getRemainingTimeInMillis() {
+        return (int) Math.max(0, deadline - System.currentTimeMillis());
+    }
+
+    @Override
+    public int getMemoryLimitInMB() {
+        return (int) (Runtime.getRuntime().maxMemory() / (1024 * 1024));
+    }
+
+    @Override
+    public LambdaLogger getLogger() {
+        return logger;
+    }
+}
@@ -0,0 +1,27 @@
+package software.amazon.iot.coldstart;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Measurements of one probe JVM, as printed by {@link ColdStartProbe} and completed by the runner.
+ */
+@Data
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+class ProbeResult {
+    private long jvmStartMillis;
+    private long initMillis;
+    private long firstRequestMillis;
+    private long timeToFirstResponseMillis;
+    private long classesAfterInit;
+    private long classesAfterFirstResponse;
+    private long heapAfterInitBytes;
+    private long heapAfterFirstResponseBytes;
+    private long peakRssBytes;
+    private long wallClockMillis;
+    private int iotCalls;
+    private String status;
+    private String message;
+}